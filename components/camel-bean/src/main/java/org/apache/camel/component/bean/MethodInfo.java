@@ -83,6 +83,7 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile MethodInvoker invoker;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -503,6 +504,9 @@ public class MethodInfo {
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
         try {
+            if (mth == method) {
+                return getInvoker().invoke(pojo, arguments);
+            }
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
             throw new RuntimeExchangeException(
@@ -515,6 +519,16 @@ public class MethodInfo {
         }
     }
 
+    private MethodInvoker getInvoker() {
+        MethodInvoker answer = invoker;
+        if (answer == null) {
+            // create the invoker on first use, as many of the introspected methods are never invoked
+            answer = MethodInvoker.create(method);
+            invoker = answer;
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -558,9 +572,18 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private final Class<?>[] parameterTypes;
+        private final boolean[] varargs;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            // the binding plan of the parameters is computed once, instead of on each invocation
+            this.parameterTypes = new Class<?>[parameters.size()];
+            this.varargs = new boolean[parameters.size()];
+            for (int i = 0; i < parameters.size(); i++) {
+                parameterTypes[i] = parameters.get(i).getType();
+                varargs[i] = parameters.get(i).isVarargs();
+            }
         }
 
         @Override
@@ -616,14 +639,12 @@ public class MethodInfo {
                     ((StreamCache) body).reset();
                 }
 
-                // whether its vararg
-                boolean varargs = parameters.get(i).isVarargs();
-                // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                // the expected parameter type
+                Class<?> parameterType = parameterTypes[i];
                 // the value for the parameter to use
                 Object value = null;
 
-                if (varargs) {
+                if (varargs[i]) {
                     value = evaluateVarargsParameterExpressions(exchange, body, it);
                 } else {
                     // grab the parameter value for the given index
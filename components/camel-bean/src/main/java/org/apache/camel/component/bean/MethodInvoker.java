@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.camel.support.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a {@link MethodHandle}, which is created once per method, and is faster than invoking the
+ * method via reflection.
+ * <p/>
+ * The arguments are checked up front, so the method handle is only used when the arguments can be passed as-is. If not,
+ * such as a <tt>null</tt> argument for a primitive parameter, or an argument which needs a widening conversion, then
+ * the method is invoked via reflection, which does the same conversions and fails the same way as before.
+ */
+final class MethodInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodInvoker.class);
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final MethodHandle handle;
+    private final boolean staticMethod;
+    private final Class<?>[] types;
+    private final boolean[] primitives;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+        this.staticMethod = Modifier.isStatic(method.getModifiers());
+        // the argument types the method handle accepts without conversion
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.types = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            types[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+            primitives[i] = parameterTypes[i].isPrimitive();
+        }
+    }
+
+    /**
+     * Creates the invoker for the given method
+     */
+    static MethodInvoker create(Method method) {
+        MethodHandle handle = null;
+        try {
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            handle = mh.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (Exception e) {
+            // the method is then invoked via reflection
+            LOG.debug("Cannot create method handle for method: {} due to: {}. Reflection is used instead.", method,
+                    e.getMessage());
+        }
+        return new MethodInvoker(method, handle);
+    }
+
+    /**
+     * Invokes the method
+     *
+     * @throws InvocationTargetException is thrown if the method threw an exception
+     * @throws IllegalAccessException    is thrown if the method cannot be accessed
+     * @throws IllegalArgumentException  is thrown if the arguments does not match the parameters of the method
+     */
+    Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException, IllegalAccessException {
+        if (handle == null || !isAssignable(pojo, arguments)) {
+            return ObjectHelper.invokeMethodSafe(method, pojo, arguments);
+        }
+        // the static types of the arguments must match the type of the method handle exactly
+        Object[] args = arguments != null ? arguments : NO_ARGUMENTS;
+        try {
+            return handle.invokeExact(pojo, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private boolean isAssignable(Object pojo, Object[] arguments) {
+        if (!staticMethod && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != types.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object argument = arguments[i];
+            if (argument == null ? primitives[i] : !types[i].isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodInvokerTest {
+
+    @Test
+    public void testInvoke() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("hello", String.class, int.class));
+        assertEquals("Hello World 3", invoker.invoke(new MyBean(), new Object[] { "World", 3 }));
+    }
+
+    @Test
+    public void testInvokeNoArguments() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("bye"));
+        assertEquals("Bye", invoker.invoke(new MyBean(), null));
+        assertEquals("Bye", invoker.invoke(new MyBean(), new Object[0]));
+    }
+
+    @Test
+    public void testInvokeStatic() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("sum", long.class, long.class));
+        assertEquals(5L, invoker.invoke(null, new Object[] { 2L, 3L }));
+        // widening from int to long is done via reflection
+        assertEquals(5L, invoker.invoke(null, new Object[] { 2, 3 }));
+    }
+
+    @Test
+    public void testInvokeNotPublic() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyPrivateBean.class.getDeclaredMethod("echo", String.class));
+        assertEquals("Camel", invoker.invoke(new MyPrivateBean(), new Object[] { "Camel" }));
+    }
+
+    @Test
+    public void testInvokeVarargs() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("join", String[].class));
+        assertEquals("a,b", invoker.invoke(new MyBean(), new Object[] { new String[] { "a", "b" } }));
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("fail", String.class));
+        InvocationTargetException e
+                = assertThrows(InvocationTargetException.class, () -> invoker.invoke(new MyBean(), new Object[] { "Damn" }));
+        assertInstanceOf(IllegalStateException.class, e.getTargetException());
+        assertEquals("Damn", e.getTargetException().getMessage());
+    }
+
+    @Test
+    public void testInvokeInvalidArguments() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyBean.class.getMethod("hello", String.class, int.class));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(new MyBean(), new Object[] { "World", null }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(new MyBean(), new Object[] { 3, "World" }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(new MyBean(), new Object[] { "World" }));
+    }
+
+    public static class MyBean {
+
+        public String hello(String name, int times) {
+            return "Hello " + name + " " + times;
+        }
+
+        public String bye() {
+            return "Bye";
+        }
+
+        public String join(String... values) {
+            return String.join(",", values);
+        }
+
+        public String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public static long sum(long a, long b) {
+            return a + b;
+        }
+    }
+
+    private static class MyPrivateBean {
+
+        private String echo(String value) {
+            return value;
+        }
+    }
+}
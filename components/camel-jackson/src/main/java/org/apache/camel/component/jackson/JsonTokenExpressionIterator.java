@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An expression which splits a JSON array into its elements, by streaming the JSON document using a Jackson
+ * {@link JsonParser}, so the document is never loaded into memory as a whole.
+ * <p/>
+ * The array is located by a JSON pointer (such as <tt>/orders</tt>), or is the root of the document if no pointer is
+ * given. Each element is returned as a JSON string, or is bound to the given type using the {@link ObjectMapper}. When
+ * grouping, then the elements are returned in groups, as a JSON array string, or a {@link List} of the given type.
+ * <p/>
+ * This expression is intended to be used with the splitter in streaming mode:
+ *
+ * <pre>
+ * from("file:inbox")
+ *         .split(new JsonTokenExpressionIterator("/orders")).streaming()
+ *         .to("activemq:orders");
+ * </pre>
+ */
+public class JsonTokenExpressionIterator extends ExpressionAdapter {
+
+    protected final String path;
+    protected Expression source;
+    protected Class<?> type;
+    protected int group;
+    protected ObjectMapper objectMapper;
+
+    public JsonTokenExpressionIterator() {
+        this(null, null);
+    }
+
+    public JsonTokenExpressionIterator(String path) {
+        this(null, path);
+    }
+
+    public JsonTokenExpressionIterator(Expression source, String path) {
+        this.source = source;
+        this.path = path;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        super.init(context);
+        // group must be 1 or higher
+        this.group = Math.max(group, 1);
+        if (objectMapper == null) {
+            // lookup if there is a single default mapper we can use
+            Set<ObjectMapper> set = context.getRegistry().findByType(ObjectMapper.class);
+            if (set.size() == 1) {
+                objectMapper = set.iterator().next();
+            } else {
+                objectMapper = new ObjectMapper();
+            }
+        }
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * The type to bind each element to, such as a POJO, {@link java.util.Map} or
+     * {@link com.fasterxml.jackson.databind.JsonNode}. By default, each element is returned as a JSON string.
+     */
+    public void setType(Class<?> type) {
+        this.type = type;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    /**
+     * To group N elements together
+     */
+    public void setGroup(int group) {
+        this.group = group;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * The {@link ObjectMapper} to use for parsing the JSON document, and for binding the elements to the type
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    protected Iterator<?> createIterator(InputStream in) throws IOException {
+        if (objectMapper == null) {
+            objectMapper = new ObjectMapper();
+        }
+        JsonParser parser = objectMapper.getFactory().createParser(in);
+        return new JsonTokenIterator(objectMapper, parser, path, type, Math.max(group, 1), in);
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        // as a predicate we must close the stream, as we do not return an iterator that can be used
+        // afterwards to iterate the input stream
+        Object value = doEvaluate(exchange, true);
+        return ObjectHelper.evaluateValuePredicate(value);
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        // as we return an iterator to access the input stream, we should not close it
+        return doEvaluate(exchange, false);
+    }
+
+    /**
+     * Strategy to evaluate the exchange
+     *
+     * @param  exchange    the exchange
+     * @param  closeStream whether to close the stream before returning from this method.
+     * @return             the evaluated value
+     */
+    protected Object doEvaluate(Exchange exchange, boolean closeStream) {
+        InputStream in = null;
+        try {
+            if (source != null) {
+                in = source.evaluate(exchange, InputStream.class);
+            } else {
+                in = exchange.getIn().getBody(InputStream.class);
+            }
+            if (in == null) {
+                throw new InvalidPayloadException(exchange, InputStream.class);
+            }
+            return createIterator(in);
+        } catch (Exception e) {
+            exchange.setException(e);
+            // must close input stream
+            IOHelper.close(in);
+            return null;
+        } finally {
+            if (closeStream) {
+                IOHelper.close(in);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "jsonTokenize[" + (path != null ? path : "") + "]";
+    }
+
+    static class JsonTokenIterator implements Iterator<Object>, Closeable {
+        // marks the end, as an element in the array can be null
+        private static final Object END = new Object();
+
+        private final ObjectMapper mapper;
+        private final JsonParser parser;
+        private final Class<?> type;
+        private final int group;
+        private final InputStream in;
+        private boolean found;
+        private Object nextToken;
+
+        JsonTokenIterator(ObjectMapper mapper, JsonParser parser, String path, Class<?> type, int group,
+                          InputStream in) throws IOException {
+            this.mapper = mapper;
+            this.parser = parser;
+            this.type = type;
+            this.group = group;
+            this.in = in;
+            JsonPointer pointer = JsonPointer.compile(path != null ? path : "");
+            this.found = parser.nextToken() != null && moveTo(pointer);
+            if (found && parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new IOException(
+                        "Expected JSON array at " + (pointer.matches() ? "root" : "pointer: " + pointer) + " but was: "
+                                      + parser.currentToken());
+            }
+            this.nextToken = getNextToken();
+        }
+
+        /**
+         * Moves the parser to the value at the given pointer, skipping the values which are not on the path
+         *
+         * @return <tt>true</tt> if found, or <tt>false</tt> if the document has no value at the pointer
+         */
+        private boolean moveTo(JsonPointer pointer) throws IOException {
+            while (!pointer.matches()) {
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.START_OBJECT) {
+                    String name = pointer.getMatchingProperty();
+                    if (!moveToField(name)) {
+                        return false;
+                    }
+                } else if (token == JsonToken.START_ARRAY) {
+                    int index = pointer.getMatchingIndex();
+                    if (index < 0 || !moveToElement(index)) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+                pointer = pointer.tail();
+            }
+            return true;
+        }
+
+        private boolean moveToField(String name) throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String current = parser.currentName();
+                parser.nextToken();
+                if (name.equals(current)) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+
+        private boolean moveToElement(int index) throws IOException {
+            int i = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (i++ == index) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+
+        private Object getNextToken() throws IOException {
+            if (!found) {
+                return END;
+            }
+            if (group == 1) {
+                return nextElement() ? readElement() : END;
+            }
+            if (type != null) {
+                List<Object> answer = new ArrayList<>(group);
+                while (answer.size() < group && nextElement()) {
+                    answer.add(readElement());
+                }
+                return answer.isEmpty() ? END : answer;
+            }
+            // group the elements as a json array
+            int size = 0;
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+                generator.writeStartArray();
+                while (size < group && nextElement()) {
+                    generator.copyCurrentStructure(parser);
+                    size++;
+                }
+                generator.writeEndArray();
+            }
+            return size == 0 ? END : writer.toString();
+        }
+
+        private boolean nextElement() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                // no more elements in the array
+                found = false;
+                return false;
+            }
+            return true;
+        }
+
+        private Object readElement() throws IOException {
+            if (type != null) {
+                return mapper.readValue(parser, type);
+            }
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextToken != END;
+        }
+
+        @Override
+        public Object next() {
+            if (nextToken == END) {
+                throw new NoSuchElementException();
+            }
+            Object o = nextToken;
+            try {
+                nextToken = getNextToken();
+            } catch (IOException e) {
+                nextToken = END;
+                throw new RuntimeCamelException(e);
+            }
+            return o;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                parser.close();
+            } catch (Exception e) {
+                // ignore
+            }
+            // need to close the original input stream as well, as the parser may not own it
+            IOHelper.close(in);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonTokenExpressionIteratorTest extends CamelTestSupport {
+
+    private static final String ORDERS = "{\"customer\": {\"name\": \"Donald\", \"tags\": [\"a\", \"b\"]},"
+                                         + " \"orders\": [{\"id\": 1, \"items\": [{\"sku\": \"x\"}]}, {\"id\": 2}, {\"id\": 3}],"
+                                         + " \"total\": 3}";
+
+    @Test
+    public void testRootArray() throws Exception {
+        assertEquals(List.of("1", "\"two\"", "{\"three\":3}", "[4,4]", "null"),
+                tokenize(new JsonTokenExpressionIterator(), "[1, \"two\", {\"three\": 3}, [4, 4], null]"));
+    }
+
+    @Test
+    public void testPointer() throws Exception {
+        assertEquals(List.of("{\"id\":1,\"items\":[{\"sku\":\"x\"}]}", "{\"id\":2}", "{\"id\":3}"),
+                tokenize(new JsonTokenExpressionIterator("/orders"), ORDERS));
+        assertEquals(List.of("{\"sku\":\"x\"}"), tokenize(new JsonTokenExpressionIterator("/orders/0/items"), ORDERS));
+        assertEquals(List.of("\"a\"", "\"b\""), tokenize(new JsonTokenExpressionIterator("/customer/tags"), ORDERS));
+    }
+
+    @Test
+    public void testPointerNotFound() throws Exception {
+        assertEquals(List.of(), tokenize(new JsonTokenExpressionIterator("/unknown"), ORDERS));
+        assertEquals(List.of(), tokenize(new JsonTokenExpressionIterator("/orders/5/items"), ORDERS));
+        assertEquals(List.of(), tokenize(new JsonTokenExpressionIterator("/total/id"), ORDERS));
+    }
+
+    @Test
+    public void testNotArray() throws Exception {
+        JsonTokenExpressionIterator expression = new JsonTokenExpressionIterator("/customer");
+        expression.init(context);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(ORDERS);
+        assertNull(expression.evaluate(exchange));
+        assertNotNull(exchange.getException());
+        assertTrue(exchange.getException().getMessage().contains("Expected JSON array at pointer: /customer"));
+    }
+
+    @Test
+    public void testGroup() throws Exception {
+        JsonTokenExpressionIterator expression = new JsonTokenExpressionIterator("/orders");
+        expression.setGroup(2);
+        assertEquals(List.of("[{\"id\":1,\"items\":[{\"sku\":\"x\"}]},{\"id\":2}]", "[{\"id\":3}]"),
+                tokenize(expression, ORDERS));
+    }
+
+    @Test
+    public void testType() throws Exception {
+        JsonTokenExpressionIterator expression = new JsonTokenExpressionIterator("/orders");
+        expression.setType(Map.class);
+        List<Object> orders = tokenize(expression, ORDERS);
+        assertEquals(3, orders.size());
+        assertInstanceOf(Map.class, orders.get(0));
+        assertEquals(2, ((Map<?, ?>) orders.get(1)).get("id"));
+    }
+
+    @Test
+    public void testTypeGroup() throws Exception {
+        JsonTokenExpressionIterator expression = new JsonTokenExpressionIterator("/orders");
+        expression.setType(Map.class);
+        expression.setGroup(2);
+        List<Object> groups = tokenize(expression, ORDERS);
+        assertEquals(2, groups.size());
+        assertEquals(2, ((List<?>) groups.get(0)).size());
+        assertEquals(1, ((List<?>) groups.get(1)).size());
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedBodiesReceived("{\"id\":1,\"items\":[{\"sku\":\"x\"}]}", "{\"id\":2}", "{\"id\":3}");
+
+        template.sendBody("direct:start", new ByteArrayInputStream(ORDERS.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSplitGroupType() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:group");
+        mock.expectedMessageCount(2);
+
+        template.sendBody("direct:group", ORDERS);
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals(2, mock.getReceivedExchanges().get(0).getIn().getBody(List.class).size());
+        assertEquals(1, mock.getReceivedExchanges().get(1).getIn().getBody(List.class).size());
+    }
+
+    private List<Object> tokenize(JsonTokenExpressionIterator expression, String json) throws Exception {
+        expression.init(context);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(json);
+        Iterator<?> it = (Iterator<?>) expression.evaluate(exchange);
+        List<Object> answer = new ArrayList<>();
+        try {
+            while (it.hasNext()) {
+                answer.add(it.next());
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+        }
+        assertFalse(it.hasNext());
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(new JsonTokenExpressionIterator("/orders")).streaming()
+                        .to("mock:order");
+
+                JsonTokenExpressionIterator group = new JsonTokenExpressionIterator("/orders");
+                group.setType(Map.class);
+                group.setGroup(2);
+                from("direct:group")
+                        .split(group).streaming()
+                        .to("mock:group");
+            }
+        };
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * To emit events from the routing engine to Java Flight Recorder.
+ * <p/>
+ * The events are when exchanges begin and complete, the execution of each processor, redelivery attempts, and exchanges
+ * failed due to thread pool rejections. The type converter and stream caching statistics are emitted as periodic
+ * events, when their statistics are enabled.
+ * <p/>
+ * This is both an event notifier and an intercept strategy, and must be added as both to the {@link CamelContext}
+ * before the routes are created (Camel Main does this when this is bound in the registry). The events are only created
+ * while a flight recording is running, so the overhead is very low otherwise.
+ */
+public class FlightRecorderEventNotifier extends EventNotifierSupport implements InterceptStrategy {
+
+    private final FlightRecorderListener listener = new FlightRecorderListener() {
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+            updateRecording(recorder);
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            updateRecording(FlightRecorder.getFlightRecorder());
+        }
+    };
+    private final Runnable typeConverterStatistics = this::emitTypeConverterStatistics;
+    private final Runnable streamCachingStatistics = this::emitStreamCachingStatistics;
+    private volatile boolean recording;
+
+    public FlightRecorderEventNotifier() {
+        setIgnoreExchangeCreatedEvent(false);
+        setIgnoreExchangeCompletedEvent(false);
+        setIgnoreExchangeFailedEvents(false);
+        setIgnoreExchangeRedeliveryEvents(false);
+        setIgnoreCamelContextEvents(true);
+        setIgnoreCamelContextInitEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+    }
+
+    /**
+     * Whether a flight recording is running
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    @Override
+    public boolean isDisabled() {
+        // no events are created when not recording
+        return !recording;
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof CamelEvent.ExchangeCreatedEvent ece) {
+            ExchangeBeginEvent jfr = new ExchangeBeginEvent();
+            if (jfr.isEnabled()) {
+                Exchange exchange = ece.getExchange();
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.endpointUri = exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null;
+                jfr.commit();
+            }
+        } else if (event instanceof CamelEvent.ExchangeCompletedEvent || event instanceof CamelEvent.ExchangeFailedEvent) {
+            onExchangeDone(((CamelEvent.ExchangeEvent) event).getExchange());
+        } else if (event instanceof CamelEvent.ExchangeRedeliveryEvent ere) {
+            RedeliveryEvent jfr = new RedeliveryEvent();
+            if (jfr.isEnabled()) {
+                Exchange exchange = ere.getExchange();
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.attempt = ere.getAttempt();
+                jfr.commit();
+            }
+        }
+    }
+
+    private void onExchangeDone(Exchange exchange) {
+        ExchangeCompleteEvent jfr = new ExchangeCompleteEvent();
+        if (jfr.isEnabled()) {
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = exchange.getFromRouteId();
+            jfr.failed = exchange.isFailed();
+            jfr.elapsed = exchange.getClock().elapsed();
+            jfr.commit();
+        }
+        if (exchange.getException() != null) {
+            RejectedExecutionException cause = exchange.getException(RejectedExecutionException.class);
+            if (cause != null) {
+                ThreadPoolRejectedEvent rejected = new ThreadPoolRejectedEvent();
+                if (rejected.isEnabled()) {
+                    rejected.exchangeId = exchange.getExchangeId();
+                    rejected.routeId = exchange.getFromRouteId();
+                    rejected.message = cause.getMessage();
+                    rejected.commit();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        return new FlightRecorderProcessor(target, definition);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        FlightRecorder.addPeriodicEvent(TypeConverterStatisticsEvent.class, typeConverterStatistics);
+        FlightRecorder.addPeriodicEvent(StreamCachingStatisticsEvent.class, streamCachingStatistics);
+        // the listener is called when the flight recorder is initialized and when recordings are started or stopped
+        FlightRecorder.addListener(listener);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        FlightRecorder.removeListener(listener);
+        FlightRecorder.removePeriodicEvent(typeConverterStatistics);
+        FlightRecorder.removePeriodicEvent(streamCachingStatistics);
+        recording = false;
+    }
+
+    private void updateRecording(FlightRecorder recorder) {
+        boolean running = false;
+        for (Recording rec : recorder.getRecordings()) {
+            if (rec.getState() == RecordingState.RUNNING) {
+                running = true;
+                break;
+            }
+        }
+        recording = running;
+    }
+
+    private void emitTypeConverterStatistics() {
+        CamelContext context = getCamelContext();
+        if (context == null || !context.isTypeConverterStatisticsEnabled()) {
+            return;
+        }
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        TypeConverterStatisticsEvent jfr = new TypeConverterStatisticsEvent();
+        jfr.noop = statistics.getNoopCounter();
+        jfr.attempts = statistics.getAttemptCounter();
+        jfr.hits = statistics.getHitCounter();
+        jfr.misses = statistics.getMissCounter();
+        jfr.failures = statistics.getFailedCounter();
+        jfr.commit();
+    }
+
+    private void emitStreamCachingStatistics() {
+        CamelContext context = getCamelContext();
+        if (context == null) {
+            return;
+        }
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        StreamCachingStatisticsEvent jfr = new StreamCachingStatisticsEvent();
+        jfr.memoryCounter = statistics.getCacheMemoryCounter();
+        jfr.memorySize = statistics.getCacheMemorySize();
+        jfr.spoolCounter = statistics.getCacheSpoolCounter();
+        jfr.spoolSize = statistics.getCacheSpoolSize();
+        jfr.commit();
+    }
+
+    private static String routeId(NamedNode definition) {
+        NamedNode node = definition;
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return "route".equals(node.getShortName()) ? node.getId() : null;
+    }
+
+    /**
+     * Emits a {@link ProcessorEvent} for the execution of the processor, which ends when the processor is done, also
+     * when it continues asynchronously.
+     */
+    private final class FlightRecorderProcessor extends DelegateAsyncProcessor {
+
+        private final String routeId;
+        private final String processorId;
+        private final String processorName;
+
+        FlightRecorderProcessor(Processor processor, NamedNode definition) {
+            super(processor);
+            this.routeId = routeId(definition);
+            this.processorId = definition.getId();
+            this.processorName = definition.getShortName();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            if (!recording) {
+                return processor.process(exchange, callback);
+            }
+            ProcessorEvent jfr = new ProcessorEvent();
+            if (!jfr.isEnabled()) {
+                return processor.process(exchange, callback);
+            }
+            jfr.begin();
+            return processor.process(exchange, doneSync -> {
+                jfr.end();
+                if (jfr.shouldCommit()) {
+                    jfr.exchangeId = exchange.getExchangeId();
+                    jfr.routeId = routeId;
+                    jfr.processorId = processorId;
+                    jfr.processor = processorName;
+                    jfr.failed = exchange.isFailed();
+                    jfr.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "FlightRecorder[" + processor + "]";
+        }
+    }
+}
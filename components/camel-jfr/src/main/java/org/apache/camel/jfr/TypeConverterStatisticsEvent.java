@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name(TypeConverterStatisticsEvent.NAME)
+@Category({ "Camel Application", "Statistics" })
+@Label("Type Converter Statistics")
+@Description("The number of type conversions (requires type converter statistics to be enabled)")
+@StackTrace(false)
+@Period("1 s")
+public class TypeConverterStatisticsEvent extends Event {
+
+    public static final String NAME = "org.apache.camel.TypeConverterStatistics";
+
+    @Label("Noop")
+    @Description("Number of noop attempts (no type conversion was needed)")
+    public long noop;
+    @Label("Attempts")
+    public long attempts;
+    @Label("Hits")
+    public long hits;
+    @Label("Misses")
+    @Description("Number of attempts which cannot be converted as no suitable type converter exists")
+    public long misses;
+    @Label("Failures")
+    public long failures;
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventNotifierTest extends CamelTestSupport {
+
+    @TempDir
+    Path dir;
+
+    private final FlightRecorderEventNotifier notifier = new FlightRecorderEventNotifier();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().addEventNotifier(notifier);
+        context.getCamelContextExtension().addInterceptStrategy(notifier);
+        return context;
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        assertFalse(notifier.isRecording());
+
+        Path file = dir.resolve("camel.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ExchangeBeginEvent.NAME);
+            recording.enable(ExchangeCompleteEvent.NAME);
+            recording.enable(ProcessorEvent.NAME);
+            recording.enable(RedeliveryEvent.NAME);
+            recording.start();
+            assertTrue(notifier.isRecording());
+
+            getMockEndpoint("mock:result").expectedMessageCount(1);
+            template.sendBody("direct:start", "Hello World");
+            MockEndpoint.assertIsSatisfied(context);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        assertFalse(notifier.isRecording());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> begin = events(events, ExchangeBeginEvent.NAME);
+        assertEquals(1, begin.size());
+
+        List<RecordedEvent> complete = events(events, ExchangeCompleteEvent.NAME);
+        assertEquals(1, complete.size());
+        assertEquals(begin.get(0).getString("exchangeId"), complete.get(0).getString("exchangeId"));
+        assertFalse(complete.get(0).getBoolean("failed"));
+
+        List<RecordedEvent> processors = events(events, ProcessorEvent.NAME);
+        // the processor is redelivered 2 times
+        assertEquals(5, processors.size());
+        assertEquals(2, processors.stream().filter(e -> e.getBoolean("failed")).count());
+        assertTrue(processors.stream().allMatch(e -> "myRoute".equals(e.getString("routeId"))));
+        assertTrue(processors.stream().anyMatch(e -> "myProcessor".equals(e.getString("processorId"))
+                && "process".equals(e.getString("processor"))));
+
+        List<RecordedEvent> redeliveries = events(events, RedeliveryEvent.NAME);
+        assertEquals(2, redeliveries.size());
+        assertEquals(1, redeliveries.get(0).getInt("attempt"));
+        assertEquals(2, redeliveries.get(1).getInt("attempt"));
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).toList();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            private int counter;
+
+            @Override
+            public void configure() {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(3).redeliveryDelay(0));
+
+                from("direct:start").routeId("myRoute")
+                        .process(e -> {
+                            if (++counter < 3) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        }).id("myProcessor")
+                        .log("${body}")
+                        .to("mock:result");
+            }
+        };
+    }
+}
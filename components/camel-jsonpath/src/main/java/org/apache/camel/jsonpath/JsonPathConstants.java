@@ -21,6 +21,12 @@ public final class JsonPathConstants {
     /** Header name for the encoding of the JSON document. */
     public static final String HEADER_JSON_ENCODING = "CamelJsonPathJsonEncoding";
 
+    /**
+     * Exchange property with the parsed JSON document, which is shared among the JSONPath expressions evaluated on the
+     * same message body.
+     */
+    public static final String JSON_DOCUMENT = "CamelJsonPathJsonDocument";
+
     private JsonPathConstants() {
         // no instance
     }
@@ -29,6 +29,7 @@ import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
@@ -182,15 +183,23 @@ public class JsonPathEngine {
     private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
         final Object json = getPayload(exchange);
 
+        // the json document may already have been parsed by another json path expression
+        Object document = getCachedDocument(exchange, json);
+        if (document != null) {
+            LOG.trace("JSonPath: {} is read from cached JSON document", path);
+            return JsonPath.using(configuration).parse(document).read(path);
+        }
+
         if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
+            return readWithInputStream(path, exchange, json);
         } else if (json instanceof GenericFile) {
             LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
                 InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
+                return read(path, exchange, json,
+                        JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()));
             }
         }
 
@@ -198,7 +207,7 @@ public class JsonPathEngine {
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
             String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
+            return read(path, exchange, json, JsonPath.using(configuration).parse(str));
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
@@ -209,10 +218,10 @@ public class JsonPathEngine {
             return JsonPath.using(configuration).parse(list).read(path);
         } else {
             //try to auto convert into inputStream
-            answer = readWithInputStream(path, exchange);
+            answer = readWithInputStream(path, exchange, json);
             if (answer == null) {
                 // fallback and attempt an adapter which can read the message body/header
-                answer = readWithAdapter(path, exchange);
+                answer = readWithAdapter(path, exchange, json);
             }
         }
         if (answer != null) {
@@ -237,8 +246,7 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
-        Object json = getPayload(exchange);
+    private Object readWithInputStream(String path, Exchange exchange, Object json) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
@@ -251,20 +259,20 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return read(path, exchange, json, JsonPath.using(configuration).parse(is, jsonEncoding));
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return read(path, exchange, json,
+                        JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()));
             }
         }
 
         return null;
     }
 
-    private Object readWithAdapter(String path, Exchange exchange) {
-        Object json = getPayload(exchange);
+    private Object readWithAdapter(String path, Exchange exchange, Object json) {
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
 
         doInitAdapter(exchange);
@@ -289,6 +297,52 @@ public class JsonPathEngine {
         return null;
     }
 
+    private static Object read(String path, Exchange exchange, Object json, DocumentContext context) {
+        if (isCacheable(json)) {
+            // cache the parsed json document, so other json path expressions can use it
+            exchange.setProperty(JsonPathConstants.JSON_DOCUMENT, new CachedDocument(json, context.json()));
+        }
+        return context.read(path);
+    }
+
+    private static Object getCachedDocument(Exchange exchange, Object json) {
+        if (!isCacheable(json)) {
+            return null;
+        }
+        CachedDocument cached = exchange.getProperty(JsonPathConstants.JSON_DOCUMENT, CachedDocument.class);
+        // the cached document is only valid for the same payload (such as the message body has not been changed)
+        return cached != null && cached.payload == json ? cached.document : null;
+    }
+
+    /**
+     * Whether the parsed json document of the payload can be cached. The cache is only valid for the same payload
+     * instance, so only payloads which cannot be changed in place are cached (such as a POJO can be changed by a
+     * processor without changing the message body).
+     */
+    private static boolean isCacheable(Object json) {
+        return json instanceof String || json instanceof InputStream || json instanceof StreamCache
+                || json instanceof GenericFile;
+    }
+
+    /**
+     * The parsed json document of the payload it was parsed from.
+     */
+    private static final class CachedDocument {
+        private final Object payload;
+        private final Object document;
+
+        private CachedDocument(Object payload, Object document) {
+            this.payload = payload;
+            this.document = document;
+        }
+
+        @Override
+        public String toString() {
+            // do not include the document as it can be big
+            return "CachedJsonDocument";
+        }
+    }
+
     private void doInitAdapter(Exchange exchange) {
         if (!initJsonAdapter) {
             try {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+public class JsonPathDocumentCacheTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // the input stream can only be read once, so the json document must be parsed only once
+        context.setStreamCaching(false);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("name").jsonpath("$.name")
+                        .setHeader("age").jsonpath("$.age", Integer.class)
+                        .choice()
+                        .when().jsonpath("$.pets[?(@.kind == 'dog')]")
+                        .setHeader("pet", constant("dog"))
+                        .otherwise()
+                        .setHeader("pet", constant("none"))
+                        .end()
+                        .split().jsonpath("$.pets")
+                        .to("mock:pet")
+                        .end()
+                        .setHeader("kind").jsonpath("$.pets[0].kind")
+                        // the cached document must not be used after the message body has been changed
+                        .setBody(constant("{\"name\": \"Goofy\"}"))
+                        .setHeader("newName").jsonpath("$.name")
+                        .to("mock:result");
+
+                from("direct:pojo")
+                        .setHeader("before").jsonpath("$.kind")
+                        // the pojo is changed in place, so the message body is the same instance
+                        .process(e -> e.getMessage().getBody(MyPojoType.class).setKind("cat"))
+                        .setHeader("after").jsonpath("$.kind")
+                        .to("mock:pojo");
+            }
+        };
+    }
+
+    @Test
+    public void testParseOnce() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedHeaderReceived("name", "Donald");
+        mock.expectedHeaderReceived("age", 42);
+        mock.expectedHeaderReceived("pet", "dog");
+        mock.expectedHeaderReceived("kind", "dog");
+        mock.expectedHeaderReceived("newName", "Goofy");
+        mock.message(0).exchangeProperty(JsonPathConstants.JSON_DOCUMENT).isNotNull();
+        getMockEndpoint("mock:pet").expectedMessageCount(2);
+
+        String json = "{\"name\": \"Donald\", \"age\": 42, \"pets\": [{\"kind\": \"dog\"}, {\"kind\": \"cat\"}]}";
+        template.sendBody("direct:start", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testPojoNotCached() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedHeaderReceived("before", "dog");
+        mock.expectedHeaderReceived("after", "cat");
+        mock.message(0).exchangeProperty(JsonPathConstants.JSON_DOCUMENT).isNull();
+
+        MyPojoType pojo = new MyPojoType();
+        pojo.setKind("dog");
+        template.sendBody("direct:pojo", pojo);
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+}
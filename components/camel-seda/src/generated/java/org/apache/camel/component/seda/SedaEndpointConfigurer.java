@@ -23,6 +23,10 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgrouped":
+        case "batchGrouped": target.setBatchGrouped(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
         case "blockwhenfull":
         case "blockWhenFull": target.setBlockWhenFull(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -49,6 +53,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": target.setMultipleConsumers(property(camelContext, boolean.class, value)); return true;
         case "offertimeout":
         case "offerTimeout": target.setOfferTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "partitionkey":
+        case "partitionKey": target.setPartitionKey(property(camelContext, java.lang.String.class, value)); return true;
         case "polltimeout":
         case "pollTimeout": target.setPollTimeout(property(camelContext, int.class, value)); return true;
         case "purgewhenstopping":
@@ -65,6 +71,10 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgrouped":
+        case "batchGrouped": return boolean.class;
+        case "batchsize":
+        case "batchSize": return int.class;
         case "blockwhenfull":
         case "blockWhenFull": return boolean.class;
         case "bridgeerrorhandler":
@@ -91,6 +101,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": return boolean.class;
         case "offertimeout":
         case "offerTimeout": return long.class;
+        case "partitionkey":
+        case "partitionKey": return java.lang.String.class;
         case "polltimeout":
         case "pollTimeout": return int.class;
         case "purgewhenstopping":
@@ -108,6 +120,10 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchgrouped":
+        case "batchGrouped": return target.isBatchGrouped();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
         case "blockwhenfull":
         case "blockWhenFull": return target.isBlockWhenFull();
         case "bridgeerrorhandler":
@@ -134,6 +150,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": return target.isMultipleConsumers();
         case "offertimeout":
         case "offerTimeout": return target.getOfferTimeout();
+        case "partitionkey":
+        case "partitionKey": return target.getPartitionKey();
         case "polltimeout":
         case "pollTimeout": return target.getPollTimeout();
         case "purgewhenstopping":
@@ -23,7 +23,9 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(23);
+        props.add("batchGrouped");
+        props.add("batchSize");
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
@@ -38,6 +40,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("multipleConsumers");
         props.add("name");
         props.add("offerTimeout");
+        props.add("partitionKey");
         props.add("pollTimeout");
         props.add("purgeWhenStopping");
         props.add("queue");
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -27,6 +29,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeExtension;
+import org.apache.camel.Expression;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -43,6 +46,10 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this implementation there is a little <i>slack period</i> when you suspend/stop the consumer, by which the
  * consumer may pickup a newly arrived messages and process it. That period is up till 1 second.
+ * <p/>
+ * When a partition key is configured, then a dispatcher thread polls the queue and hands over each message to the
+ * partition of one of the concurrent consumer threads, which is selected by the hash of the partition key. This keeps
+ * the order of the messages with the same key.
  */
 public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownAware, Suspendable {
 
@@ -53,11 +60,19 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
+    private final AtomicInteger pendingBatch = new AtomicInteger();
     private final int pollTimeout;
+    private final int batchSize;
+    private final boolean batchGrouped;
+    private Expression partitionKey;
+    private volatile List<BlockingQueue<Exchange>> partitions;
+    private volatile boolean dispatcherDone;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchGrouped = endpoint.isBatchGrouped();
     }
 
     @Override
@@ -79,7 +94,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        int size = getEndpoint().getQueue().size() + pendingBatch.get();
+        List<BlockingQueue<Exchange>> list = partitions;
+        if (list != null) {
+            for (BlockingQueue<Exchange> partition : list) {
+                size += partition.size();
+            }
+        }
+        return size;
     }
 
     @Override
@@ -128,6 +150,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         try {
             doRun();
         } finally {
+            // the partitions will not receive any more exchanges
+            dispatcherDone = true;
             taskCount.decrementAndGet();
             latch.countDown();
             LOG.debug("Ending this polling consumer thread, there are still {} consumer threads left.", latch.getCount());
@@ -135,7 +159,16 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     }
 
     protected void doRun() {
-        BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        pollQueue(getEndpoint().getQueue(), false);
+    }
+
+    /**
+     * Polls the given queue and processes the exchanges, or dispatches the exchanges to the partitions.
+     *
+     * @param queue     the queue
+     * @param partition whether the queue is a partition of this consumer
+     */
+    private void pollQueue(BlockingQueue<Exchange> queue, boolean partition) {
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -154,7 +187,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
             // do not poll if we are suspended or starting again after resuming
             if (isSuspending() || isSuspended() || isStarting()) {
-                if (shutdownPending && queue.isEmpty()) {
+                if (isShutdownComplete(queue, partition)) {
                     LOG.trace(
                             "Consumer is suspended and shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
@@ -181,18 +214,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        final Exchange original = exchange;
-                        // prepare the exchange before sending to consumer
-                        final Exchange prepared = prepareExchange(exchange);
-                        // callback to be executed when sending to consumer and processing is done
-                        AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
-                        // process the exchange
-                        sendToConsumers(prepared, callback);
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (partitionKey != null && !partition) {
+                        dispatch(exchange);
+                    } else if (batchSize > 1) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
-                } else if (shutdownPending && queue.isEmpty()) {
+                } else if (isShutdownComplete(queue, partition)) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
                     break;
@@ -210,6 +239,109 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private boolean isShutdownComplete(BlockingQueue<Exchange> queue, boolean partition) {
+        // a partition can still receive exchanges until the dispatcher is done
+        return shutdownPending && queue.isEmpty() && (!partition || dispatcherDone);
+    }
+
+    /**
+     * Hands over the exchange to the partition selected by the hash of the partition key, which is processed by a
+     * single consumer thread, so the exchanges with the same key are processed in the order they were sent.
+     */
+    private void dispatch(Exchange exchange) throws InterruptedException {
+        List<BlockingQueue<Exchange>> list = partitions;
+        if (list == null) {
+            // the consumer has been stopped
+            requeue(exchange);
+            return;
+        }
+        Object key = partitionKey.evaluate(exchange, Object.class);
+        int hash = key != null ? key.hashCode() : 0;
+        // spread the bits of the hash as keys are often similar, such as sequence numbers
+        int index = Math.floorMod(hash ^ hash >>> 16, list.size());
+        BlockingQueue<Exchange> partition = list.get(index);
+        LOG.trace("Dispatching exchange with partition key {} to partition {}", key, index);
+
+        // wait until there is room in the partition, so the producers are slowed down by the queue when busy
+        while (!partition.offer(exchange, pollTimeout, TimeUnit.MILLISECONDS)) {
+            if (!isRunAllowed()) {
+                requeue(exchange);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts the exchange, which has been polled from the queue of the endpoint but not processed, back on the queue as
+     * this consumer is stopping. If the queue is full, then the exchange is processed by the current thread instead.
+     */
+    private void requeue(Exchange exchange) {
+        if (getEndpoint().getQueue().offer(exchange)) {
+            LOG.trace("Consumer is stopping so exchange is put back on the queue: {}", exchange);
+        } else {
+            LOG.debug("Consumer is stopping and queue is full so exchange is processed by the current thread: {}", exchange);
+            processExchange(exchange);
+        }
+    }
+
+    /**
+     * Drains up to batch size exchanges that are already waiting on the queue (in addition to the given polled
+     * exchange) and processes them back-to-back, or as a single grouped exchange.
+     */
+    private void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        // drain in one go which takes the queue lock only once
+        int drained = queue.drainTo(batch, batchSize - 1);
+        // the drained exchanges are no longer on the queue but still pending
+        pendingBatch.addAndGet(drained);
+        LOG.trace("Drained {} additional exchanges from queue {}", drained, ObjectHelper.getIdentityHashCode(queue));
+
+        if (batchGrouped) {
+            pendingBatch.addAndGet(-drained);
+            processGroupedExchange(batch);
+        } else {
+            // must process all the drained exchanges as they have been taken from the queue
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    pendingBatch.decrementAndGet();
+                }
+                processExchange(batch.get(i));
+            }
+        }
+    }
+
+    private void processExchange(Exchange exchange) {
+        try {
+            final Exchange original = exchange;
+            // prepare the exchange before sending to consumer
+            final Exchange prepared = prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
+            // process the exchange
+            sendToConsumers(prepared, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    private void processGroupedExchange(List<Exchange> batch) {
+        Exchange group = getEndpoint().createExchange();
+        try {
+            for (Exchange exchange : batch) {
+                prepareExchange(exchange);
+                // the drained exchanges are done when the grouped exchange is done
+                exchange.getExchangeExtension().handoverCompletions(group);
+            }
+            group.setProperty(Exchange.BATCH_SIZE, batch.size());
+            group.getMessage().setBody(batch);
+            final Exchange prepared = prepareExchange(group);
+            sendToConsumers(prepared, doneSync -> onProcessingDone(group, prepared));
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", group, e);
+        }
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
@@ -295,9 +427,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     @Override
     protected void doStart() throws Exception {
         super.doStart();
-        latch = new CountDownLatch(getEndpoint().getConcurrentConsumers());
+        String key = getEndpoint().getPartitionKey();
+        if (key != null) {
+            partitionKey = getEndpoint().getCamelContext().resolveLanguage("simple").createExpression(key);
+            partitionKey.init(getEndpoint().getCamelContext());
+            partitions = createPartitions();
+        }
+        // the dispatcher of the partitions is an additional task
+        int tasks = getEndpoint().getConcurrentConsumers() + (partitions != null ? 1 : 0);
+        latch = new CountDownLatch(tasks);
         shutdownPending = false;
         forceShutdown = false;
+        dispatcherDone = false;
 
         setupTasks();
         getEndpoint().onStarted(this);
@@ -324,6 +465,21 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
         shutdownExecutor();
 
+        List<BlockingQueue<Exchange>> list = partitions;
+        partitions = null;
+        if (list != null) {
+            for (BlockingQueue<Exchange> partition : list) {
+                if (getEndpoint().isPurgeWhenStopping()) {
+                    partition.clear();
+                } else {
+                    // the exchanges which have not been processed (such as on a forced stop) must not be lost
+                    List<Exchange> pending = new ArrayList<>();
+                    partition.drainTo(pending);
+                    pending.forEach(this::requeue);
+                }
+            }
+        }
+
         super.doStop();
     }
 
@@ -344,6 +500,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      */
     private void setupTasks() {
         int poolSize = getEndpoint().getConcurrentConsumers();
+        if (partitions != null) {
+            // the dispatcher of the partitions is an additional thread
+            poolSize++;
+        }
 
         // create thread pool if needed
         if (executor == null) {
@@ -351,6 +511,15 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     getEndpoint().getEndpointUri(), poolSize);
         }
 
+        if (partitions != null) {
+            LOG.debug("Creating {} partitioned consumer tasks with poll timeout {} ms.", partitions.size(), pollTimeout);
+            executor.execute(this);
+            for (BlockingQueue<Exchange> partition : partitions) {
+                executor.execute(new PartitionTask(partition));
+            }
+            return;
+        }
+
         // submit needed number of tasks
         int tasks = poolSize - taskCount.get();
         LOG.debug("Creating {} consumer tasks with poll timeout {} ms.", tasks, pollTimeout);
@@ -359,4 +528,41 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Creates a partition for each of the concurrent consumers
+     */
+    private List<BlockingQueue<Exchange>> createPartitions() {
+        int size = getEndpoint().getSize();
+        List<BlockingQueue<Exchange>> answer = new ArrayList<>(getEndpoint().getConcurrentConsumers());
+        for (int i = 0; i < getEndpoint().getConcurrentConsumers(); i++) {
+            answer.add(size > 0 ? new LinkedBlockingQueue<>(size) : new LinkedBlockingQueue<>());
+        }
+        return answer;
+    }
+
+    /**
+     * Task which processes the exchanges of a partition.
+     */
+    private final class PartitionTask implements Runnable {
+
+        private final BlockingQueue<Exchange> partition;
+
+        private PartitionTask(BlockingQueue<Exchange> partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            taskCount.incrementAndGet();
+            try {
+                pollQueue(partition, true);
+            } finally {
+                taskCount.decrementAndGet();
+                latch.countDown();
+                LOG.debug("Ending this partition consumer thread, there are still {} consumer threads left.",
+                        latch.getCount());
+            }
+        }
+    }
+
 }
@@ -87,6 +87,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchGrouped;
+    @UriParam(label = "consumer,advanced")
+    private String partitionKey;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -496,6 +502,53 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages each consumer thread takes from the queue in one go. When a message has been
+     * polled, the consumer drains up to this number of messages that are already waiting on the queue and processes
+     * them back-to-back, which reduces the contention on the queue under high load. The default value of 1 turns
+     * batching off.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchGrouped() {
+        return batchGrouped;
+    }
+
+    /**
+     * Whether a batch of messages drained from the queue should be delivered to the route as a single exchange, where
+     * the message body is a {@link java.util.List} of the drained exchanges. This requires batchSize to be greater than
+     * 1. The drained exchanges are completed when the grouped exchange is done, so this is mostly intended for InOnly
+     * messaging.
+     */
+    public void setBatchGrouped(boolean batchGrouped) {
+        this.batchGrouped = batchGrouped;
+    }
+
+    @ManagedAttribute
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * An expression using the simple language, such as <tt>${header.orderId}</tt>, which computes the partition key of
+     * the messages. When a partition key is configured, each message is processed by the consumer thread which is
+     * selected by the hash of its key, so messages with the same key are processed one at a time, in the order they
+     * were sent, while messages with different keys are processed concurrently by the concurrentConsumers threads. The
+     * consumer uses an additional thread which takes the messages from the queue and hands them over to the consumer
+     * threads.
+     */
+    public void setPartitionKey(String partitionKey) {
+        this.partitionKey = partitionKey;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -1343,6 +1343,74 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     void setSourceLocationEnabled(Boolean sourceLocationEnabled);
 
+    /**
+     * Whether route fusion is enabled.
+     *
+     * When enabled, then consecutive synchronous EIPs in a route such as setHeader, setBody, filter, transform and log
+     * are collapsed into a single processor when the route is started, which reduces the per step overhead of routing.
+     * Message history, tracing, JMX statistics and error handling are still applied to each fused EIP.
+     *
+     * This is experimental and is default disabled.
+     */
+    Boolean isRouteFusion();
+
+    /**
+     * Whether route fusion is enabled.
+     *
+     * When enabled, then consecutive synchronous EIPs in a route such as setHeader, setBody, filter, transform and log
+     * are collapsed into a single processor when the route is started, which reduces the per step overhead of routing.
+     * Message history, tracing, JMX statistics and error handling are still applied to each fused EIP.
+     *
+     * This is experimental and is default disabled.
+     */
+    void setRouteFusion(Boolean routeFusion);
+
+    /**
+     * Whether routes are created in parallel when starting Camel.
+     *
+     * When enabled, then the route resources are loaded and parsed in parallel, and the routes are created from the
+     * route models in parallel using a fork-join pool when Camel is starting. The routes are still added and started in
+     * the same order as when created one by one. Routes created from route templates are created one by one.
+     *
+     * This is experimental and is default disabled.
+     */
+    Boolean isParallelRouteStartup();
+
+    /**
+     * Whether routes are created in parallel when starting Camel.
+     *
+     * When enabled, then the route resources are loaded and parsed in parallel, and the routes are created from the
+     * route models in parallel using a fork-join pool when Camel is starting. The routes are still added and started in
+     * the same order as when created one by one. Routes created from route templates are created one by one.
+     *
+     * This is experimental and is default disabled.
+     */
+    void setParallelRouteStartup(Boolean parallelRouteStartup);
+
+    /**
+     * Whether routes created from route templates are kept compact in memory.
+     *
+     * When enabled, then the route model of a route created from a route template is released after the route has been
+     * created. When the route is registered in JMX, then the route is registered without its processors, as the
+     * processors refer to the route model. This reduces the memory used by applications with many routes created from
+     * route templates. The route model is then no longer available for dumping the route.
+     *
+     * This is experimental and is default disabled.
+     */
+    Boolean isCompactTemplatedRoutes();
+
+    /**
+     * Whether routes created from route templates are kept compact in memory.
+     *
+     * When enabled, then the route model of a route created from a route template is released after the route has been
+     * created. When the route is registered in JMX, then the route is registered without its processors, as the
+     * processors refer to the route model. This reduces the memory used by applications with many routes created from
+     * route templates. The route model is then no longer available for dumping the route.
+     *
+     * This is experimental and is default disabled.
+     */
+    void setCompactTemplatedRoutes(Boolean compactTemplatedRoutes);
+
     /**
      * Whether camel-k style modeline is also enabled when not using camel-k. Enabling this allows to use a camel-k like
      * experience by being able to configure various settings using modeline directly in your route source code.
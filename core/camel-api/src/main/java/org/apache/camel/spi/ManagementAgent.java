@@ -289,6 +289,25 @@ public interface ManagementAgent extends Service {
      */
     Boolean getLoadStatisticsEnabled();
 
+    /**
+     * Sets whether the processing times of the routes and processors are recorded in a histogram, so the processing
+     * times at the 50th, 90th, 99th and 99.9th percentiles are available as statistics.
+     * <p/>
+     * Each route and processor then uses up to 34 KB of memory for its histogram.
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable the processing time histogram
+     */
+    void setProcessingTimeHistogramEnabled(Boolean flag);
+
+    /**
+     * Gets whether the processing times of the routes and processors are recorded in a histogram
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getProcessingTimeHistogramEnabled();
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
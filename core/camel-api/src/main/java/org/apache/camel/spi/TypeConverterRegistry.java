@@ -125,6 +125,21 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
      */
     TypeConverter lookup(Class<?> toType, Class<?> fromType);
 
+    /**
+     * Gets the type converter which is registered, or has previously been resolved, for converting exactly between the
+     * given types.
+     * <p/>
+     * Unlike {@link #lookup(Class, Class)} this does not search the class hierarchy of the types, which makes it cheap
+     * to call.
+     *
+     * @param  toType   the type to convert to
+     * @param  fromType the type to convert from
+     * @return          the type converter or <tt>null</tt> if not found.
+     */
+    default TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
+        return null;
+    }
+
     /**
      * Sets the injector to be used for creating new instances during type conversions.
      *
@@ -232,6 +232,7 @@ public abstract class AbstractCamelContext extends BaseService
     private final ThreadLocal<Set<String>> componentsInCreation = ThreadLocal.withInitial(HashSet::new);
     private final Lock routesLock = new ReentrantLock();
     private final Lock lock = new ReentrantLock();
+    private final Lock endpointsLock = new ReentrantLock();
     private VetoCamelContextStartException vetoed;
     private String managementName;
     private ClassLoader applicationContextClassLoader;
@@ -267,6 +268,9 @@ public abstract class AbstractCamelContext extends BaseService
     private Boolean loadHealthChecks = Boolean.FALSE;
     private Boolean devConsole = Boolean.FALSE;
     private Boolean sourceLocationEnabled = Boolean.FALSE;
+    private Boolean routeFusion = Boolean.FALSE;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
+    private Boolean compactTemplatedRoutes = Boolean.FALSE;
     private Boolean typeConverterStatisticsEnabled = Boolean.FALSE;
     private String dumpRoutes;
     private Boolean useMDCLogging = Boolean.FALSE;
@@ -778,91 +782,111 @@ public abstract class AbstractCamelContext extends BaseService
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
 
-        String scheme;
         Endpoint answer = null;
+        NormalizedUri key = null;
         if (!prototype) {
             // use optimized method to get the endpoint uri
-            NormalizedUri key = NormalizedUri.newNormalizedUri(uri, true);
+            key = NormalizedUri.newNormalizedUri(uri, true);
             // only lookup and reuse existing endpoints if not prototype scoped
             answer = endpoints.get(key);
         }
         if (answer == null) {
-            try {
-                // the uri may not contain a scheme such as a dynamic kamelet
-                // so we need to find the component name via the first text before : or ? mark
-                int pos1 = uri.indexOf(':');
-                int pos2 = uri.indexOf('?');
-                if (pos1 != -1 && pos2 != -1) {
-                    scheme = uri.substring(0, Math.min(pos1, pos2));
-                } else if (pos1 != -1) {
-                    scheme = uri.substring(0, pos1);
-                } else if (pos2 != -1) {
-                    scheme = uri.substring(0, pos2);
-                } else {
-                    scheme = null;
-                }
-                if (scheme == null) {
-                    // it may refer to a logical endpoint
-                    answer = camelContextExtension.getRegistry().lookupByNameAndType(uri, Endpoint.class);
-                    if (answer != null) {
-                        return answer;
+            if (key != null && Boolean.TRUE.equals(isParallelRouteStartup())) {
+                // routes may be created in parallel so ensure the same endpoint is only created once
+                endpointsLock.lock();
+                try {
+                    answer = endpoints.get(key);
+                    if (answer == null) {
+                        answer = doCreateEndpoint(uri, rawUri, parameters, prototype);
                     }
+                } finally {
+                    endpointsLock.unlock();
                 }
-                if (scheme == null) {
-                    scheme = uri;
-                }
-                LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
-                Component component = getComponent(scheme);
-                ServiceHelper.initService(component);
+            } else {
+                answer = doCreateEndpoint(uri, rawUri, parameters, prototype);
+            }
+        }
 
-                // Ask the component to resolve the endpoint.
-                if (component != null) {
-                    LOG.trace("Creating endpoint from uri: {} using component: {}", uri, component);
+        // unknown scheme
+        if (answer == null) {
+            throw new NoSuchEndpointException(uri);
+        }
 
-                    // Have the component create the endpoint if it can.
-                    answer = component.createEndpoint(
-                            component.useRawUri() ? rawUri : uri,
-                            parameters);
+        return answer;
+    }
 
-                    if (answer != null && LOG.isDebugEnabled()) {
-                        LOG.debug("{} converted to endpoint: {} by component: {}", URISupport.sanitizeUri(uri), answer,
-                                component);
-                    }
+    private Endpoint doCreateEndpoint(String uri, String rawUri, Map<String, Object> parameters, boolean prototype) {
+        String scheme;
+        Endpoint answer = null;
+        try {
+            // the uri may not contain a scheme such as a dynamic kamelet
+            // so we need to find the component name via the first text before : or ? mark
+            int pos1 = uri.indexOf(':');
+            int pos2 = uri.indexOf('?');
+            if (pos1 != -1 && pos2 != -1) {
+                scheme = uri.substring(0, Math.min(pos1, pos2));
+            } else if (pos1 != -1) {
+                scheme = uri.substring(0, pos1);
+            } else if (pos2 != -1) {
+                scheme = uri.substring(0, pos2);
+            } else {
+                scheme = null;
+            }
+            if (scheme == null) {
+                // it may refer to a logical endpoint
+                answer = camelContextExtension.getRegistry().lookupByNameAndType(uri, Endpoint.class);
+                if (answer != null) {
+                    return answer;
                 }
+            }
+            if (scheme == null) {
+                scheme = uri;
+            }
+            LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
+            Component component = getComponent(scheme);
+            ServiceHelper.initService(component);
+
+            // Ask the component to resolve the endpoint.
+            if (component != null) {
+                LOG.trace("Creating endpoint from uri: {} using component: {}", uri, component);
+
+                // Have the component create the endpoint if it can.
+                answer = component.createEndpoint(
+                        component.useRawUri() ? rawUri : uri,
+                        parameters);
 
-                if (answer == null) {
-                    // no component then try in registry and elsewhere
-                    answer = createEndpoint(uri);
-                    LOG.trace("No component to create endpoint from uri: {} fallback lookup in registry -> {}", uri, answer);
+                if (answer != null && LOG.isDebugEnabled()) {
+                    LOG.debug("{} converted to endpoint: {} by component: {}", URISupport.sanitizeUri(uri), answer,
+                            component);
                 }
+            }
 
-                if (answer != null) {
-                    if (!prototype) {
-                        addService(answer);
-                        // register in registry
-                        answer = addEndpointToRegistry(uri, answer);
-                    } else {
-                        addPrototypeService(answer);
-                        // if there is endpoint strategies, then use the endpoints they return
-                        // as this allows to intercept endpoints etc.
-                        for (EndpointStrategy strategy : endpointStrategies) {
-                            answer = strategy.registerEndpoint(uri, answer);
-                        }
+            if (answer == null) {
+                // no component then try in registry and elsewhere
+                answer = createEndpoint(uri);
+                LOG.trace("No component to create endpoint from uri: {} fallback lookup in registry -> {}", uri, answer);
+            }
+
+            if (answer != null) {
+                if (!prototype) {
+                    addService(answer);
+                    // register in registry
+                    answer = addEndpointToRegistry(uri, answer);
+                } else {
+                    addPrototypeService(answer);
+                    // if there is endpoint strategies, then use the endpoints they return
+                    // as this allows to intercept endpoints etc.
+                    for (EndpointStrategy strategy : endpointStrategies) {
+                        answer = strategy.registerEndpoint(uri, answer);
                     }
                 }
-            } catch (NoSuchEndpointException e) {
-                // throw as-is
-                throw e;
-            } catch (Exception e) {
-                throw new ResolveEndpointFailedException(uri, e);
             }
+        } catch (NoSuchEndpointException e) {
+            // throw as-is
+            throw e;
+        } catch (Exception e) {
+            throw new ResolveEndpointFailedException(uri, e);
         }
-
-        // unknown scheme
-        if (answer == null) {
-            throw new NoSuchEndpointException(uri);
-        }
-
         return answer;
     }
 
@@ -3769,6 +3793,36 @@ public abstract class AbstractCamelContext extends BaseService
         this.sourceLocationEnabled = sourceLocationEnabled;
     }
 
+    @Override
+    public Boolean isRouteFusion() {
+        return routeFusion;
+    }
+
+    @Override
+    public void setRouteFusion(Boolean routeFusion) {
+        this.routeFusion = routeFusion;
+    }
+
+    @Override
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    @Override
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    @Override
+    public Boolean isCompactTemplatedRoutes() {
+        return compactTemplatedRoutes;
+    }
+
+    @Override
+    public void setCompactTemplatedRoutes(Boolean compactTemplatedRoutes) {
+        this.compactTemplatedRoutes = compactTemplatedRoutes;
+    }
+
     @Override
     public void setTypeConverterStatisticsEnabled(Boolean typeConverterStatisticsEnabled) {
         this.typeConverterStatisticsEnabled = typeConverterStatisticsEnabled;
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.CaseInsensitiveArrayMap;
+
+/**
+ * {@link HeadersMapFactory} which uses the {@link org.apache.camel.util.CaseInsensitiveArrayMap
+ * CaseInsensitiveArrayMap} which is a case insensitive open addressing hash map. The case insensitive hash of the
+ * constants from {@link Exchange} is computed once, and the constants of components can be added using
+ * {@link #registerKnownHeaders(Class)}. Copying the headers of a message is done by cloning the arrays of the map.
+ */
+public class ArrayHeadersMapFactory implements HeadersMapFactory {
+
+    static {
+        CaseInsensitiveArrayMap.registerKnownKeys(Exchange.class);
+    }
+
+    /**
+     * Registers the public static final String fields of the given class (such as the constants class of a component)
+     * as well known header names.
+     *
+     * @param constants the class with the header name constants
+     */
+    public void registerKnownHeaders(Class<?> constants) {
+        CaseInsensitiveArrayMap.registerKnownKeys(constants);
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CaseInsensitiveArrayMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new CaseInsensitiveArrayMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CaseInsensitiveArrayMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
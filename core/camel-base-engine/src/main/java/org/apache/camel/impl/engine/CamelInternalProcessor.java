@@ -177,6 +177,20 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         return null;
     }
 
+    /**
+     * The advices sorted in the order they are executed
+     */
+    List<CamelInternalProcessorAdvice<?>> getAdvices() {
+        return advices;
+    }
+
+    /**
+     * Number of advices which keep state
+     */
+    int getStatefulAdvices() {
+        return statefulAdvices;
+    }
+
     @Override
     public void addRoutePolicyAdvice(List<RoutePolicy> routePolicyList) {
         addAdvice(new CamelInternalProcessor.RoutePolicyAdvice(routePolicyList));
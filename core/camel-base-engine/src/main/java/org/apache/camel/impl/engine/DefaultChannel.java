@@ -121,6 +121,30 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
         return route;
     }
 
+    /**
+     * Whether this channel can be fused with other channels into a single {@link FusedProcessor}.
+     * <p/>
+     * This is only possible when the next processor is not wrapped by any interceptors, and the error handler (if any)
+     * cannot redeliver, as the fused processor then calls the next processor, and the error handler on failures,
+     * directly.
+     */
+    public boolean isFusable() {
+        if (nextProcessor == null || output != nextProcessor) {
+            return false;
+        }
+        if (errorHandler == null) {
+            return true;
+        }
+        if (errorHandler instanceof ErrorHandlerRedeliveryCustomizer erh && erh.getOutput() == output) {
+            try {
+                return !erh.determineIfRedeliveryIsEnabled();
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // do not call super as we want to be in control here of the lifecycle
@@ -103,6 +103,15 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         return pendingTasks.intValue();
     }
 
+    /**
+     * Whether reactive work is running on the current thread, either by this executor or by executing tasks from the
+     * queue.
+     */
+    protected boolean isRunningOnCurrentThread() {
+        Worker worker = workers.get();
+        return worker.running || worker.queueDepth > 0;
+    }
+
     @Override
     protected void doStop() throws Exception {
         if (LOG.isDebugEnabled() && statisticsEnabled) {
@@ -124,6 +133,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         private volatile Deque<Runnable> queue = new ArrayDeque<>();
         private volatile Deque<Deque<Runnable>> back;
         private volatile boolean running;
+        private int queueDepth;
 
         public Worker(int number, DefaultReactiveExecutor executor) {
             this.number = number;
@@ -232,6 +242,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             if (polled == null) {
                 return false;
             }
+            queueDepth++;
             try {
                 decrementPendingTasks();
                 if (LOG.isTraceEnabled()) {
@@ -241,6 +252,8 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             } catch (Exception t) {
                 // should not happen
                 LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            } finally {
+                queueDepth--;
             }
             return true;
         }
@@ -23,12 +23,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.RouteConfigurationsBuilder;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StartupStep;
 import org.apache.camel.StaticService;
 import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
 import org.apache.camel.spi.FactoryFinder;
@@ -36,6 +39,7 @@ import org.apache.camel.spi.ModelineFactory;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.RoutesBuilderLoader;
 import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.ResolverHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -173,6 +177,10 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         }
 
         // now load all the same resources for each loader
+        if (ParallelRouteStartupHelper.isParallel(camelContext, resources.size())) {
+            doLoadRoutesBuildersInParallel(groups, answer);
+            return answer;
+        }
         for (Map.Entry<RoutesBuilderLoader, List<Resource>> entry : groups.entrySet()) {
             RoutesBuilderLoader loader = entry.getKey();
             // the extended loader can load all resources in one unit
@@ -212,6 +220,56 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         return answer;
     }
 
+    /**
+     * Loads the resources in parallel, where each resource is loaded (and parsed) as its own task, except for the
+     * extended loaders which loads all their resources in one task. The builders are added in the same order as when
+     * loading the resources one by one.
+     */
+    protected void doLoadRoutesBuildersInParallel(
+            Map<RoutesBuilderLoader, List<Resource>> groups, List<RoutesBuilder> answer)
+            throws Exception {
+        List<Object> sources = new ArrayList<>();
+        List<Callable<Collection<RoutesBuilder>>> tasks = new ArrayList<>();
+        for (Map.Entry<RoutesBuilderLoader, List<Resource>> entry : groups.entrySet()) {
+            RoutesBuilderLoader loader = entry.getKey();
+            if (loader instanceof ExtendedRoutesBuilderLoader extLoader) {
+                List<Resource> files = entry.getValue();
+                sources.add(files);
+                tasks.add(() -> extLoader.loadRoutesBuilders(files));
+            } else {
+                for (Resource resource : entry.getValue()) {
+                    sources.add(resource);
+                    tasks.add(() -> {
+                        RoutesBuilder builder = loader.loadRoutesBuilder(resource);
+                        return builder != null ? List.of(builder) : null;
+                    });
+                }
+            }
+        }
+
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(RoutesLoader.class, "parallel",
+                "Load " + tasks.size() + " Route Resources In Parallel");
+        List<Future<Collection<RoutesBuilder>>> futures = ParallelRouteStartupHelper.invokeAll(camelContext, tasks);
+        recorder.endStep(step);
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                Collection<RoutesBuilder> builders = ParallelRouteStartupHelper.getResult(futures.get(i));
+                if (builders != null) {
+                    answer.addAll(builders);
+                }
+            } catch (Exception e) {
+                if (isIgnoreLoadingError()) {
+                    LOG.warn("Loading resources error: {} due to: {}. This exception is ignored.", sources.get(i),
+                            e.getMessage());
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
     @Override
     public void preParseRoute(Resource resource, boolean optional) throws Exception {
         RoutesBuilderLoader loader = resolveRoutesBuilderLoader(resource, optional);
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.EventHelper;
+import org.apache.camel.support.ExchangeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A processor which routes the exchange through a sequence of fused {@link DefaultChannel}s in a single flattened loop,
+ * which is used when route fusion is enabled (see {@link CamelContext#setRouteFusion(Boolean)}).
+ * <p/>
+ * The advices of each channel (such as message history, tracing and JMX statistics) are executed in the same order as
+ * the channel would do, and when the next processor fails then the error handler of the channel is called to handle the
+ * failure. However, the overhead of scheduling each step and its callbacks on the reactive executor is avoided.
+ * <p/>
+ * Only channels which are {@link DefaultChannel#isFusable() fusable} can be fused. When an exchange cannot take the
+ * fast path, such as transacted exchanges, or when the unit of work must be called before and after each processor,
+ * then the step is processed by the channel itself.
+ */
+public class FusedProcessor extends AsyncProcessorSupport implements Navigate<Processor> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FusedProcessor.class);
+
+    private final CamelContext camelContext;
+    private final ShutdownStrategy shutdownStrategy;
+    private final List<Processor> channels;
+    private final Step[] steps;
+
+    private static final class Step {
+        private final DefaultChannel channel;
+        private final AsyncProcessor target;
+        private final AsyncProcessor errorHandler;
+        private final CamelInternalProcessorAdvice<?>[] advices;
+        private final int statefulAdvices;
+
+        private Step(DefaultChannel channel) {
+            this.channel = channel;
+            this.target = AsyncProcessorConverterHelper.convert(channel.getNextProcessor());
+            this.errorHandler = channel.getErrorHandler() != null
+                    ? AsyncProcessorConverterHelper.convert(channel.getErrorHandler()) : null;
+            this.advices = channel.getAdvices().toArray(new CamelInternalProcessorAdvice<?>[0]);
+            this.statefulAdvices = channel.getStatefulAdvices();
+        }
+    }
+
+    public FusedProcessor(CamelContext camelContext, List<Processor> channels) {
+        this.camelContext = camelContext;
+        this.shutdownStrategy = camelContext.getShutdownStrategy();
+        this.channels = new ArrayList<>(channels);
+        this.steps = new Step[channels.size()];
+        for (int i = 0; i < steps.length; i++) {
+            Processor channel = channels.get(i);
+            if (!isFusable(channel)) {
+                throw new IllegalArgumentException("Processor cannot be fused: " + channel);
+            }
+            steps[i] = new Step((DefaultChannel) channel);
+        }
+    }
+
+    /**
+     * Whether the given processor is a channel that can be fused
+     */
+    public static boolean isFusable(Processor processor) {
+        return processor instanceof DefaultChannel channel && channel.isFusable();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        new FusedTask(exchange, callback).signal();
+        // the callback is always called when the last step is done
+        return false;
+    }
+
+    private enum State {
+        START,
+        CHANNEL,
+        PROCESS,
+        ERROR_HANDLER
+    }
+
+    /**
+     * Routes the exchange through the steps.
+     * <p/>
+     * Each call to a processor completes by calling this callback (synchronously or asynchronously). To avoid deep
+     * stacks and without having to schedule each step on the reactive executor, the steps are run in a loop by the
+     * thread that signals the first completion, while completions signalled by the same thread during the loop only
+     * lets the loop continue.
+     */
+    private final class FusedTask implements AsyncCallback {
+
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private int index;
+        private State state = State.START;
+        private Object[] states;
+
+        private FusedTask(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            signal();
+        }
+
+        void signal() {
+            if (pending.getAndIncrement() != 0) {
+                // the loop is running and will continue
+                return;
+            }
+            int missed = 1;
+            do {
+                runSteps();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Runs the steps until a processor is called, or all steps are done
+         */
+        private void runSteps() {
+            while (index < steps.length) {
+                Step step = steps[index];
+                switch (state) {
+                    case START:
+                        if (!continueProcessing()) {
+                            index = steps.length;
+                            break;
+                        }
+                        // prepare for next run
+                        ExchangeHelper.prepareOutToIn(exchange);
+                        if (isSlowPath()) {
+                            // let the channel process the exchange
+                            state = State.CHANNEL;
+                            step.channel.process(exchange, this);
+                            return;
+                        }
+                        if (!before(step)) {
+                            // error in before so break out
+                            next();
+                            break;
+                        }
+                        state = State.PROCESS;
+                        if (!step.target.process(exchange, this)) {
+                            EventHelper.notifyExchangeAsyncProcessingStartedEvent(camelContext, exchange);
+                        }
+                        return;
+                    case PROCESS:
+                        if (exchange.getException() != null && step.errorHandler != null) {
+                            // let the error handler handle the failure (it cannot redeliver)
+                            state = State.ERROR_HANDLER;
+                            step.errorHandler.process(exchange, this);
+                            return;
+                        }
+                        after(step);
+                        next();
+                        break;
+                    case ERROR_HANDLER:
+                        after(step);
+                        next();
+                        break;
+                    default:
+                        // the channel is done
+                        next();
+                        break;
+                }
+            }
+
+            // copyResults is needed in case MEP is OUT and the message is not an OUT message
+            ExchangeHelper.copyResults(exchange, exchange);
+            callback.done(false);
+        }
+
+        private void next() {
+            index++;
+            state = State.START;
+            states = null;
+        }
+
+        private boolean continueProcessing() {
+            if (exchange.isRouteStop()) {
+                LOG.debug("ExchangeId: {} is marked to stop routing: {}", exchange.getExchangeId(), exchange);
+                return false;
+            }
+            if (index == 0) {
+                // the first step must always be processed (the error handler handles any previous failure)
+                return true;
+            }
+            boolean stop = exchange.isFailed() || exchange.isRollbackOnly() || exchange.isRollbackOnlyLast()
+                    || exchange.getExchangeExtension().isErrorHandlerHandledSet()
+                            && exchange.getExchangeExtension().isErrorHandlerHandled();
+            if (stop) {
+                LOG.debug("Message exchange has failed: so breaking out of fused processor for exchange: {}", exchange);
+                return false;
+            }
+            return true;
+        }
+
+        private boolean isSlowPath() {
+            if (exchange.getException() != null || exchange.isTransacted() || shutdownStrategy.isForceShutdown()
+                    || ExchangeHelper.isErrorHandlerBridge(exchange)) {
+                return true;
+            }
+            UnitOfWork uow = exchange.getUnitOfWork();
+            return uow != null && uow.isBeforeAfterProcess();
+        }
+
+        private boolean before(Step step) {
+            states = step.statefulAdvices > 0 ? new Object[step.statefulAdvices] : null;
+            for (int i = 0, j = 0; i < step.advices.length; i++) {
+                CamelInternalProcessorAdvice<?> task = step.advices[i];
+                try {
+                    Object state = task.before(exchange);
+                    if (task.hasState()) {
+                        states[j++] = state;
+                    }
+                } catch (Exception e) {
+                    exchange.setException(e);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void after(Step step) {
+            int stateIndex = step.statefulAdvices - 1;
+            for (int i = step.advices.length - 1; i >= 0; i--) {
+                CamelInternalProcessorAdvice<?> task = step.advices[i];
+                Object state = null;
+                if (task.hasState()) {
+                    state = states[stateIndex--];
+                }
+                AdviceIterator.runAfterTask(task, state, exchange);
+            }
+        }
+    }
+
+    @Override
+    public List<Processor> next() {
+        if (!hasNext()) {
+            return null;
+        }
+        return new ArrayList<>(channels);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !channels.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Fused" + channels;
+    }
+}
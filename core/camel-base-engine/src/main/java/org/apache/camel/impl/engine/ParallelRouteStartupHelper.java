@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * Helper for running the tasks when starting routes in parallel, such as loading route resources and creating routes,
+ * when {@link CamelContext#isParallelRouteStartup()} is enabled.
+ */
+public final class ParallelRouteStartupHelper {
+
+    private static final String THREAD_NAME = "ParallelRouteStartup";
+
+    private ParallelRouteStartupHelper() {
+    }
+
+    /**
+     * Whether the tasks should be run in parallel
+     *
+     * @param  context the camel context
+     * @param  tasks   number of tasks
+     * @return         <tt>true</tt> if parallel route startup is enabled and there is more than one task
+     */
+    public static boolean isParallel(CamelContext context, int tasks) {
+        return tasks > 1 && Boolean.TRUE.equals(context.isParallelRouteStartup());
+    }
+
+    /**
+     * Runs the tasks in parallel on a fork-join pool, and waits for all the tasks to complete.
+     * <p/>
+     * The pool is only used for the given tasks, and the pool threads uses the thread context classloader of the
+     * calling thread.
+     *
+     * @param  context the camel context
+     * @param  tasks   the tasks
+     * @return         the futures of the tasks in the same order as the tasks
+     */
+    public static <T> List<Future<T>> invokeAll(CamelContext context, List<Callable<T>> tasks)
+            throws InterruptedException {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        int parallelism = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism), p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName(context.getExecutorServiceManager().resolveThreadName(THREAD_NAME));
+            thread.setContextClassLoader(tccl);
+            return thread;
+        }, null, false);
+        try {
+            return pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Gets the result of a task which has been completed, and rethrows the exception from the task if it failed.
+     */
+    public static <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Experimental;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+
+/**
+ * A {@link ReactiveExecutor} which hands over tasks scheduled from threads that are not routing (such as I/O threads
+ * that complete asynchronous requests) to a work-stealing {@link ForkJoinPool}, to spread the routing across the CPU
+ * cores.
+ * <p/>
+ * Tasks scheduled while routing run on the current thread, as with the {@link DefaultReactiveExecutor}, so the
+ * continuations of an exchange stay on the same thread (and CPU cache) when possible. Tasks handed over to the pool are
+ * queued by the submitting thread, so the tasks from the same I/O thread are queued together, and are stolen by the
+ * idle threads of the pool.
+ */
+@Experimental
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends DefaultReactiveExecutor implements CamelContextAware {
+
+    private static final String THREAD_NAME = "ReactiveExecutor";
+
+    private final LongAdder handedOverTasks = new LongAdder();
+    private CamelContext camelContext;
+    private int parallelism;
+    private volatile ForkJoinPool pool;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the work-stealing pool")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of threads in the work-stealing pool. The default is the number of CPU cores.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of tasks handed over to the work-stealing pool")
+    public long getHandedOverTasks() {
+        return handedOverTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen by the threads of the work-stealing pool")
+    public long getStolenTasks() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getStealCount() : 0;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        ForkJoinPool fjp = pool;
+        if (fjp == null || isRunningOnCurrentThread()) {
+            super.schedule(runnable);
+            return;
+        }
+        try {
+            // the task and its continuations are run by the reactive worker of the thread in the pool
+            fjp.execute(() -> super.schedule(runnable));
+            if (isStatisticsEnabled()) {
+                handedOverTasks.increment();
+            }
+        } catch (RejectedExecutionException e) {
+            // the pool is shutting down
+            super.schedule(runnable);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (pool == null) {
+            if (parallelism <= 0) {
+                parallelism = Runtime.getRuntime().availableProcessors();
+            }
+            final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                if (camelContext != null) {
+                    thread.setName(camelContext.getExecutorServiceManager().resolveThreadName(THREAD_NAME));
+                }
+                thread.setContextClassLoader(tccl);
+                return thread;
+            }, null, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        ForkJoinPool fjp = pool;
+        if (fjp != null) {
+            pool = null;
+            // the tasks in the pool are still executed
+            fjp.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor[parallelism=" + parallelism + "]";
+    }
+}
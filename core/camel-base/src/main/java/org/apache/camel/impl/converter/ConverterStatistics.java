@@ -58,8 +58,9 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
     /**
      * Log the statistics from the converters
      *
-     * @param converters    the converters cache instance
-     * @param missConverter the type that represents a type conversion miss
+     * @param converters the converters cache instance
+     * @param misses     the negative cache of type conversion misses
      */
-    void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter);
+    void logMappingStatisticsMessage(
+            Map<TypeConvertible<?, ?>, TypeConverter> converters, Map<TypeConvertible<?, ?>, Boolean> misses);
 }
@@ -38,7 +38,6 @@ import org.apache.camel.spi.Injector;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.TypeConvertible;
 import org.apache.camel.support.MessageHelper;
-import org.apache.camel.support.TypeConverterSupport;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -48,15 +47,11 @@ import static org.apache.camel.impl.converter.TypeResolverHelper.tryAssignableFr
 
 public abstract class CoreTypeConverterRegistry extends ServiceSupport implements TypeConverter, TypeConverterRegistry {
 
-    protected static final TypeConverter MISS_CONVERTER = new TypeConverterSupport() {
-        @Override
-        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-            return (T) MISS_VALUE;
-        }
-    };
-
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
+    // the maximum number of type pairs to keep in the negative cache
+    private static final int MAXIMUM_MISSES = 1000;
+
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -71,6 +66,11 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
 
+    // Bounded negative cache of the type pairs where the lookup failed, so the slow lookups are not repeated on
+    // every conversion. The value is true if the conversion is not possible at all, and false if there is no
+    // type converter registered (the fallback type converters must still be tried as they depend on the value)
+    private final Map<TypeConvertible<?, ?>, Boolean> misses = new ConcurrentHashMap<>();
+
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
             statistics = new TypeConverterStatistics();
@@ -409,7 +409,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return objConverter.convertTo(type, exchange, value);
         }
 
-        converters.put(typeConvertible, MISS_CONVERTER);
+        addMiss(typeConvertible, Boolean.TRUE);
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
@@ -424,6 +424,12 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
         }
 
+        final Boolean miss = misses.get(typeConvertible);
+        if (miss != null) {
+            // we have previously attempted to convert but missed
+            return miss ? TypeConverter.MISS_VALUE : null;
+        }
+
         final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
         if (superConverterTc != null) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
@@ -431,6 +437,9 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
                 converters.put(typeConvertible, superConverterTc);
                 return ret;
             }
+        } else {
+            // there is no type converter for this type pair, so only the fallback converters can convert
+            addMiss(typeConvertible, Boolean.FALSE);
         }
 
         return null;
@@ -467,6 +476,14 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return null;
     }
 
+    private void addMiss(TypeConvertible<?, ?> typeConvertible, Boolean miss) {
+        if (misses.size() >= MAXIMUM_MISSES) {
+            // the cache is only for the type pairs that are often converted, so start over when it is full
+            misses.clear();
+        }
+        misses.put(typeConvertible, miss);
+    }
+
     private static Object doConvert(
             Class<?> type, Exchange exchange, Object value, boolean tryConvert, TypeConverter converter) {
 
@@ -477,6 +494,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         }
     }
 
+    @Override
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return converters.get(new TypeConvertible<>(fromType, toType));
     }
@@ -484,6 +502,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        misses.clear();
     }
 
     @Override
@@ -501,12 +520,6 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     private void addOrReplaceTypeConverter(TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible) {
         TypeConverter converter = converters.get(typeConvertible);
 
-        if (converter == MISS_CONVERTER) {
-            // we have previously attempted to convert but missed, so add this converter
-            converters.put(typeConvertible, typeConverter);
-            return;
-        }
-
         // only override it if its different
         // as race conditions can lead to many threads trying to promote the same fallback converter
         if (typeConverter != converter) {
@@ -521,6 +534,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                // we may have previously attempted to convert but missed
+                misses.clear();
             }
         }
     }
@@ -545,6 +560,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        misses.clear();
         return removed != null;
     }
 
@@ -559,6 +575,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        misses.clear();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -637,7 +654,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         super.doStop();
 
         // log utilization statistics when stopping, including mappings
-        statistics.logMappingStatisticsMessage(converters, MISS_CONVERTER);
+        statistics.logMappingStatisticsMessage(converters, misses);
 
         statistics.reset();
     }
@@ -18,7 +18,6 @@
 package org.apache.camel.impl.converter;
 
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.TypeConverter;
@@ -105,29 +104,27 @@ final class TypeConverterStatistics implements ConverterStatistics {
     /**
      * Compute the total number of cached missed conversions
      *
-     * @param  converters    the converters cache instance
-     * @param  missConverter the type that represents a type conversion miss
-     * @return               The number of cached missed conversions as an AtomicInteger instance
+     * @param  misses the negative cache of type conversion misses
+     * @return        The number of cached missed conversions
      */
-    private static AtomicInteger computeCachedMisses(
-            Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
-        AtomicInteger misses = new AtomicInteger();
-
-        converters.forEach((k, v) -> {
-            if (v == missConverter) {
-                misses.incrementAndGet();
+    private static long computeCachedMisses(Map<TypeConvertible<?, ?>, Boolean> misses) {
+        long answer = 0;
+        for (Boolean miss : misses.values()) {
+            if (miss) {
+                answer++;
             }
-        });
-        return misses;
+        }
+        return answer;
     }
 
     @Override
-    public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
-        final AtomicInteger misses = computeCachedMisses(converters, missConverter);
+    public void logMappingStatisticsMessage(
+            Map<TypeConvertible<?, ?>, TypeConverter> converters, Map<TypeConvertible<?, ?>, Boolean> misses) {
+        final long cachedMisses = computeCachedMisses(misses);
 
         LOG.info(
                 "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, misses={}, failures={}] mappings[total={}, misses={}]",
                 getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), converters.size(),
-                misses);
+                cachedMisses);
     }
 }
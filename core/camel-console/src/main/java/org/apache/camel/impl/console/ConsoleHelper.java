@@ -23,10 +23,12 @@ import java.util.Collections;
 import java.util.List;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.support.LoggerHelper;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.TimeUtils;
 import org.apache.camel.util.json.JsonObject;
 import org.apache.camel.util.json.Jsoner;
 
@@ -112,4 +114,32 @@ public final class ConsoleHelper {
         return null;
     }
 
+    /**
+     * Appends the processing times at the 50th, 90th, 99th and 99.9th percentiles, if the processing time histogram is
+     * enabled.
+     */
+    public static void appendProcessingTimePercentiles(StringBuilder sb, ManagedPerformanceCounterMBean mb, String indent) {
+        long p50 = mb.getProcessingTimeP50();
+        if (p50 >= 0) {
+            sb.append(String.format("\n%sP50 Time: %s", indent, TimeUtils.printDuration(p50, true)));
+            sb.append(String.format("\n%sP90 Time: %s", indent, TimeUtils.printDuration(mb.getProcessingTimeP90(), true)));
+            sb.append(String.format("\n%sP99 Time: %s", indent, TimeUtils.printDuration(mb.getProcessingTimeP99(), true)));
+            sb.append(String.format("\n%sP999 Time: %s", indent, TimeUtils.printDuration(mb.getProcessingTimeP999(), true)));
+        }
+    }
+
+    /**
+     * Adds the processing times at the 50th, 90th, 99th and 99.9th percentiles, if the processing time histogram is
+     * enabled.
+     */
+    public static void putProcessingTimePercentiles(JsonObject stats, ManagedPerformanceCounterMBean mb) {
+        long p50 = mb.getProcessingTimeP50();
+        if (p50 >= 0) {
+            stats.put("p50ProcessingTime", p50);
+            stats.put("p90ProcessingTime", mb.getProcessingTimeP90());
+            stats.put("p99ProcessingTime", mb.getProcessingTimeP99());
+            stats.put("p999ProcessingTime", mb.getProcessingTimeP999());
+        }
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.annotations.DevConsole;
+import org.apache.camel.support.ScheduledPollConsumer;
+import org.apache.camel.support.SharedPollScheduler;
+import org.apache.camel.support.SharedScheduledPollConsumerScheduler;
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+@DevConsole(name = "poll-scheduler", displayName = "Shared Poll Scheduler",
+            description = "Display information about the consumers using the shared poll scheduler")
+public class PollSchedulerDevConsole extends AbstractDevConsole {
+
+    public PollSchedulerDevConsole() {
+        super("camel", "poll-scheduler", "Shared Poll Scheduler",
+              "Display information about the consumers using the shared poll scheduler");
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+
+        SharedPollScheduler sps = getCamelContext().getCamelContextExtension().getContextPlugin(SharedPollScheduler.class);
+        if (sps != null) {
+            sb.append(String.format("Tick Duration: %d", sps.getTickDuration()));
+            sb.append(String.format("\nPool Size: %d", sps.getPoolSize()));
+            sb.append(String.format("\nDefault Scheduler: %b", sps.isDefaultScheduler()));
+            sb.append(String.format("\nPending Polls: %d", sps.getPendingPolls()));
+            for (SharedScheduledPollConsumerScheduler s : sps.getSchedulers()) {
+                Consumer consumer = s.getConsumer();
+                sb.append("\n");
+                sb.append(String.format("\n    Id: %s", routeId(consumer)));
+                sb.append(String.format("\n    Uri: %s", consumer.getEndpoint().getEndpointUri()));
+                sb.append(String.format("\n    Adaptive: %b", s.isAdaptive()));
+                sb.append(String.format("\n    Delay (initial: %d delay: %d unit: %s)",
+                        s.getInitialDelay(), s.getDelay(), s.getTimeUnit()));
+                sb.append(String.format("\n    Current Delay: %d ms", s.getCurrentDelay()));
+                sb.append(String.format("\n    Polls (total: %d idle: %d full: %d)",
+                        s.getPollCounter(), s.getIdlePollCounter(), s.getFullPollCounter()));
+                if (consumer instanceof ScheduledPollConsumer spc) {
+                    sb.append(String.format("\n    Last Polled Messages: %d", spc.getLastPolledMessages()));
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        final JsonObject root = new JsonObject();
+
+        SharedPollScheduler sps = getCamelContext().getCamelContextExtension().getContextPlugin(SharedPollScheduler.class);
+        if (sps != null) {
+            root.put("tickDuration", sps.getTickDuration());
+            root.put("poolSize", sps.getPoolSize());
+            root.put("defaultScheduler", sps.isDefaultScheduler());
+            root.put("pendingPolls", sps.getPendingPolls());
+            final List<JsonObject> list = new ArrayList<>();
+            root.put("consumers", list);
+            for (SharedScheduledPollConsumerScheduler s : sps.getSchedulers()) {
+                Consumer consumer = s.getConsumer();
+                JsonObject jo = new JsonObject();
+                jo.put("id", routeId(consumer));
+                jo.put("uri", consumer.getEndpoint().getEndpointUri());
+                jo.put("adaptive", s.isAdaptive());
+                jo.put("initialDelay", s.getInitialDelay());
+                jo.put("delay", s.getDelay());
+                jo.put("currentDelay", s.getCurrentDelay());
+                jo.put("timeUnit", s.getTimeUnit());
+                jo.put("pollCounter", s.getPollCounter());
+                jo.put("idlePollCounter", s.getIdlePollCounter());
+                jo.put("fullPollCounter", s.getFullPollCounter());
+                if (consumer instanceof ScheduledPollConsumer spc) {
+                    jo.put("lastPolledMessages", spc.getLastPolledMessages());
+                }
+                list.add(jo);
+            }
+        }
+
+        return root;
+    }
+
+    private static String routeId(Consumer consumer) {
+        return consumer instanceof RouteIdAware ria ? ria.getRouteId() : null;
+    }
+}
@@ -144,6 +144,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+            ConsoleHelper.appendProcessingTimePercentiles(sb, mrb, "    ");
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
@@ -224,6 +225,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n        Mean Time: %s", TimeUtils.printDuration(mp.getMeanProcessingTime(), true)));
             sb.append(String.format("\n        Max Time: %s", TimeUtils.printDuration(mp.getMaxProcessingTime(), true)));
             sb.append(String.format("\n        Min Time: %s", TimeUtils.printDuration(mp.getMinProcessingTime(), true)));
+            ConsoleHelper.appendProcessingTimePercentiles(sb, mp, "        ");
             if (mp.getExchangesTotal() > 0) {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
@@ -310,6 +312,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
+            ConsoleHelper.putProcessingTimePercentiles(stats, mrb);
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
@@ -401,6 +404,7 @@ public class RouteDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mp.getMeanProcessingTime());
         stats.put("maxProcessingTime", mp.getMaxProcessingTime());
         stats.put("minProcessingTime", mp.getMinProcessingTime());
+        ConsoleHelper.putProcessingTimePercentiles(stats, mp);
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
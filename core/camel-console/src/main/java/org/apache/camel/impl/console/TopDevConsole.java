@@ -86,6 +86,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+                    ConsoleHelper.appendProcessingTimePercentiles(sb, mrb, "    ");
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                     sb.append(
@@ -142,6 +143,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mpb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mpb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mpb.getMinProcessingTime(), true)));
+                    ConsoleHelper.appendProcessingTimePercentiles(sb, mpb, "    ");
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mpb.getLastProcessingTime(), true)));
                     sb.append(
@@ -255,6 +257,7 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mpb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mpb.getMaxProcessingTime());
         stats.put("minProcessingTime", mpb.getMinProcessingTime());
+        ConsoleHelper.putProcessingTimePercentiles(stats, mpb);
         stats.put("lastProcessingTime", mpb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mpb.getDeltaProcessingTime());
         stats.put("totalProcessingTime", mpb.getTotalProcessingTime());
@@ -269,6 +272,7 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
         stats.put("minProcessingTime", mrb.getMinProcessingTime());
+        ConsoleHelper.putProcessingTimePercentiles(stats, mrb);
         stats.put("lastProcessingTime", mrb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
         stats.put("totalProcessingTime", mrb.getTotalProcessingTime());
@@ -45,6 +45,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "caseInsensitiveHeaders": target.setCaseInsensitiveHeaders(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "classresolver":
         case "classResolver": target.setClassResolver(property(camelContext, org.apache.camel.spi.ClassResolver.class, value)); return true;
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": target.setCompactTemplatedRoutes(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "debugstandby":
         case "debugStandby": target.setDebugStandby(property(camelContext, boolean.class, value)); return true;
         case "debugger": target.setDebugger(property(camelContext, org.apache.camel.spi.Debugger.class, value)); return true;
@@ -84,6 +86,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": target.setModeline(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "namestrategy":
         case "nameStrategy": target.setNameStrategy(property(camelContext, org.apache.camel.spi.CamelContextNameStrategy.class, value)); return true;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": target.setParallelRouteStartup(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "propertiescomponent":
         case "propertiesComponent": target.setPropertiesComponent(property(camelContext, org.apache.camel.spi.PropertiesComponent.class, value)); return true;
         case "restconfiguration":
@@ -92,6 +96,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": target.setRestRegistry(property(camelContext, org.apache.camel.spi.RestRegistry.class, value)); return true;
         case "routecontroller":
         case "routeController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
+        case "routefusion":
+        case "routeFusion": target.setRouteFusion(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": target.setRuntimeEndpointRegistry(property(camelContext, org.apache.camel.spi.RuntimeEndpointRegistry.class, value)); return true;
         case "sslcontextparameters":
@@ -165,6 +171,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "caseInsensitiveHeaders": return java.lang.Boolean.class;
         case "classresolver":
         case "classResolver": return org.apache.camel.spi.ClassResolver.class;
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": return java.lang.Boolean.class;
         case "debugstandby":
         case "debugStandby": return boolean.class;
         case "debugger": return org.apache.camel.spi.Debugger.class;
@@ -204,6 +212,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": return java.lang.Boolean.class;
         case "namestrategy":
         case "nameStrategy": return org.apache.camel.spi.CamelContextNameStrategy.class;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return java.lang.Boolean.class;
         case "propertiescomponent":
         case "propertiesComponent": return org.apache.camel.spi.PropertiesComponent.class;
         case "restconfiguration":
@@ -212,6 +222,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": return org.apache.camel.spi.RestRegistry.class;
         case "routecontroller":
         case "routeController": return org.apache.camel.spi.RouteController.class;
+        case "routefusion":
+        case "routeFusion": return java.lang.Boolean.class;
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": return org.apache.camel.spi.RuntimeEndpointRegistry.class;
         case "sslcontextparameters":
@@ -286,6 +298,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "caseInsensitiveHeaders": return target.isCaseInsensitiveHeaders();
         case "classresolver":
         case "classResolver": return target.getClassResolver();
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": return target.isCompactTemplatedRoutes();
         case "debugstandby":
         case "debugStandby": return target.isDebugStandby();
         case "debugger": return target.getDebugger();
@@ -325,6 +339,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "modeline": return target.isModeline();
         case "namestrategy":
         case "nameStrategy": return target.getNameStrategy();
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return target.isParallelRouteStartup();
         case "propertiescomponent":
         case "propertiesComponent": return target.getPropertiesComponent();
         case "restconfiguration":
@@ -333,6 +349,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "restRegistry": return target.getRestRegistry();
         case "routecontroller":
         case "routeController": return target.getRouteController();
+        case "routefusion":
+        case "routeFusion": return target.isRouteFusion();
         case "runtimeendpointregistry":
         case "runtimeEndpointRegistry": return target.getRuntimeEndpointRegistry();
         case "sslcontextparameters":
@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.apache.camel.CamelContext;
@@ -37,6 +39,7 @@ import org.apache.camel.RouteTemplateContext;
 import org.apache.camel.StartupStep;
 import org.apache.camel.api.management.JmxSystemPropertyKeys;
 import org.apache.camel.impl.engine.DefaultExecutorServiceManager;
+import org.apache.camel.impl.engine.ParallelRouteStartupHelper;
 import org.apache.camel.impl.engine.RouteService;
 import org.apache.camel.impl.engine.SimpleCamelContext;
 import org.apache.camel.model.BeanFactoryDefinition;
@@ -594,7 +597,8 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
             // defensive copy of routes to be started as kamelets
             // can add route definitions from existing routes
             List<RouteDefinition> toBeStarted = new ArrayList<>(routeDefinitions);
-            startRouteDefinitions(toBeStarted);
+            // the routes can be created in parallel as the model is not locked while starting the routes
+            doStartRouteDefinitions(toBeStarted, ParallelRouteStartupHelper.isParallel(this, toBeStarted.size()));
         }
     }
 
@@ -610,6 +614,10 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
     }
 
     public void startRouteDefinitions(List<RouteDefinition> routeDefinitions) throws Exception {
+        doStartRouteDefinitions(routeDefinitions, false);
+    }
+
+    protected void doStartRouteDefinitions(List<RouteDefinition> routeDefinitions, boolean parallel) throws Exception {
         // indicate we are staring the route using this thread so
         // we are able to query this if needed
         boolean alreadyStartingRoutes = isStartingRoutes();
@@ -628,7 +636,15 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
         try {
             RouteDefinitionHelper.forceAssignIds(getCamelContextReference(), routeDefinitions);
             List<RouteDefinition> routeDefinitionsToRemove = null;
+            // the routes to create in parallel, until a route which must be created by itself
+            List<RouteDefinition> parallelRouteDefinitions = parallel ? new ArrayList<>() : null;
             for (RouteDefinition routeDefinition : routeDefinitions) {
+                boolean template = routeDefinition.isTemplate() != null && routeDefinition.isTemplate()
+                        && routeDefinition.getTemplateParameters() != null;
+                if (template && parallelRouteDefinitions != null) {
+                    // routes from templates use local properties and beans, so the previous routes are created first
+                    createAndStartRoutesInParallel(parallelRouteDefinitions);
+                }
                 try {
                     // assign ids to the routes and validate that the id's is all unique
                     String duplicate = RouteDefinitionHelper.validateUniqueIds(routeDefinition, routeDefinitions,
@@ -641,8 +657,7 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                     }
 
                     // if the route definition was created via a route template then we need to prepare its parameters when the route is being created and started
-                    if (routeDefinition.isTemplate() != null && routeDefinition.isTemplate()
-                            && routeDefinition.getTemplateParameters() != null) {
+                    if (template) {
 
                         // apply configurer if any present
                         if (routeDefinition.getRouteTemplateContext().getConfigurer() != null) {
@@ -727,17 +742,11 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                         RouteDefinitionHelper.forceAssignIds(this, routeDefinition.getInput());
                         RouteDefinitionHelper.forceAssignIds(this, routeDefinition);
 
-                        StartupStepRecorder recorder
-                                = getCamelContextReference().getCamelContextExtension().getStartupStepRecorder();
-                        StartupStep step = recorder.beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
-
-                        getCamelContextExtension().createRoute(routeDefinition.getRouteId());
-
-                        Route route = model.getModelReifierFactory().createRoute(this, routeDefinition);
-                        recorder.endStep(step);
-
-                        RouteService routeService = new RouteService(route);
-                        startRouteService(routeService, true);
+                        if (parallelRouteDefinitions != null && !template) {
+                            parallelRouteDefinitions.add(routeDefinition);
+                        } else {
+                            createAndStartRoute(routeDefinition);
+                        }
                     } else {
                         // Add the definition to the list of definitions to remove as the route is excluded
                         if (routeDefinitionsToRemove == null) {
@@ -753,6 +762,9 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                     }
                 }
             }
+            if (parallelRouteDefinitions != null) {
+                createAndStartRoutesInParallel(parallelRouteDefinitions);
+            }
             if (routeDefinitionsToRemove != null) {
                 // Remove all the excluded routes
                 model.removeRouteDefinitions(routeDefinitionsToRemove);
@@ -765,6 +777,82 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
         }
     }
 
+    private void createAndStartRoute(RouteDefinition routeDefinition) throws Exception {
+        StartupStepRecorder recorder = getCamelContextReference().getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
+
+        getCamelContextExtension().createRoute(routeDefinition.getRouteId());
+
+        Route route = model.getModelReifierFactory().createRoute(this, routeDefinition);
+        recorder.endStep(step);
+
+        RouteService routeService = new RouteService(route);
+        startRouteService(routeService, true);
+        compactRoute(route, routeDefinition);
+    }
+
+    private void compactRoute(Route route, RouteDefinition routeDefinition) {
+        if (isCompactRoute(route)) {
+            // the route model is no longer in use when the route has been created
+            LOG.debug("Releasing model of route: {} as compact templated routes is enabled", route.getRouteId());
+            route.clearRouteModel();
+            ((DefaultModel) model).releaseRouteDefinition(routeDefinition);
+        }
+    }
+
+    /**
+     * Whether the route is created from a route template, and its model can be released when compact templated routes
+     * is enabled (JMX registers such a route without its processors, which refer to the model).
+     */
+    private boolean isCompactRoute(Route route) {
+        return Boolean.TRUE.equals(isCompactTemplatedRoutes()) && route.isCreatedByRouteTemplate()
+                && !route.isCreatedByKamelet();
+    }
+
+    /**
+     * Creates the routes in parallel, and then adds the routes in the same order as the route definitions, so the
+     * routes are added and started the same way as when they are created one by one.
+     */
+    private void createAndStartRoutesInParallel(List<RouteDefinition> routeDefinitions) throws Exception {
+        if (routeDefinitions.size() == 1) {
+            createAndStartRoute(routeDefinitions.get(0));
+        } else if (!routeDefinitions.isEmpty()) {
+            StartupStepRecorder recorder = getCamelContextReference().getCamelContextExtension().getStartupStepRecorder();
+            StartupStep step = recorder.beginStep(CamelContext.class, getCamelContextExtension().getName(),
+                    "Create " + routeDefinitions.size() + " Routes In Parallel");
+
+            List<Callable<Route>> tasks = new ArrayList<>(routeDefinitions.size());
+            for (RouteDefinition routeDefinition : routeDefinitions) {
+                tasks.add(() -> createRoute(recorder, routeDefinition));
+            }
+            List<Future<Route>> futures = ParallelRouteStartupHelper.invokeAll(this, tasks);
+            recorder.endStep(step);
+
+            // if a route failed to be created then the previous routes are added, as when created one by one
+            for (int i = 0; i < futures.size(); i++) {
+                Route route = ParallelRouteStartupHelper.getResult(futures.get(i));
+                RouteService routeService = new RouteService(route);
+                startRouteService(routeService, true);
+                compactRoute(route, routeDefinitions.get(i));
+            }
+        }
+        routeDefinitions.clear();
+    }
+
+    private Route createRoute(StartupStepRecorder recorder, RouteDefinition routeDefinition) {
+        // the pool thread is creating the route so it must also be marked as starting routes
+        setStartingRoutes(true);
+        getCamelContextExtension().createRoute(routeDefinition.getRouteId());
+        StartupStep step = recorder.beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
+        try {
+            return model.getModelReifierFactory().createRoute(this, routeDefinition);
+        } finally {
+            recorder.endStep(step);
+            getCamelContextExtension().createRoute(null);
+            setStartingRoutes(false);
+        }
+    }
+
     @Override
     protected ExecutorServiceManager createExecutorServiceManager() {
         return new DefaultExecutorServiceManager(this);
@@ -319,6 +319,14 @@ public class DefaultModel implements Model {
         this.routeDefinitions.remove(toBeRemoved);
     }
 
+    /**
+     * Releases the route definition from the model, without removing the route which has been created from the route
+     * definition.
+     */
+    synchronized void releaseRouteDefinition(RouteDefinition routeDefinition) {
+        this.routeDefinitions.remove(routeDefinition);
+    }
+
     @Override
     public synchronized void removeRouteTemplateDefinitions(String pattern) throws Exception {
         for (RouteTemplateDefinition def : new ArrayList<>(routeTemplateDefinitions)) {
@@ -41,6 +41,27 @@ public abstract class BaseSimpleNode implements SimpleNode {
         return token.getText();
     }
 
+    /**
+     * Whether the node is a literal value which is the same every time the node is evaluated, such as a number or a
+     * quoted text without any functions.
+     */
+    protected static boolean isConstant(SimpleNode node) {
+        if (node instanceof SingleQuoteStart quote) {
+            return isConstant(quote.getBlock());
+        } else if (node instanceof DoubleQuoteStart quote) {
+            return isConstant(quote.getBlock());
+        } else if (node instanceof CompositeNodes composite) {
+            for (SimpleNode child : composite.getChildren()) {
+                if (!isConstant(child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return node instanceof NumericExpression || node instanceof BooleanExpression || node instanceof NullExpression
+                || node instanceof LiteralExpression && !(node instanceof SimpleFunctionExpression);
+    }
+
     protected static String createCode(CamelContext camelContext, String expression, CompositeNodes block)
             throws SimpleParserException {
         String answer = null;
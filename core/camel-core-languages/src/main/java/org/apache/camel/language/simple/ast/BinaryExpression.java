@@ -19,6 +19,7 @@ package org.apache.camel.language.simple.ast;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,11 +27,14 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.language.simple.BaseSimpleParser;
 import org.apache.camel.language.simple.types.BinaryOperatorType;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.EqualToConstantPredicate;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.builder.PredicateBuilder;
@@ -44,6 +48,9 @@ public class BinaryExpression extends BaseSimpleNode {
 
     // this is special for the range operator where you define the range as from..to (where from and to are numbers)
     private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)(\\.\\.)(\\d+)$");
+    // functions which only read a value from the exchange, such as a header, without any side effects
+    private static final Pattern READ_ONLY_FUNCTION_PATTERN = Pattern.compile(
+            "^(?:(?:in\\.)?headers?|exchangeProperty|variables?)(?:\\.[\\w-]+|\\[[^\\[\\]()]+\\])$|^(?:in\\.)?body$");
 
     private final BinaryOperatorType operator;
     private SimpleNode left;
@@ -89,6 +96,25 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        PredicateExpression answer = doCreateExpression(camelContext, expression, leftExp, rightExp);
+        if (isConstant(left) && isConstant(right)) {
+            // both sides are constant values, so the result is also constant
+            answer = createConstantExpression(camelContext, answer);
+        }
+        return answer;
+    }
+
+    private PredicateExpression doCreateExpression(
+            CamelContext camelContext, String expression, Expression leftExp, Expression rightExp) {
+        if (operator == BinaryOperatorType.EQ || operator == BinaryOperatorType.NOT_EQ
+                || operator == BinaryOperatorType.GT || operator == BinaryOperatorType.GTE
+                || operator == BinaryOperatorType.LT || operator == BinaryOperatorType.LTE) {
+            PredicateExpression answer = createCompareExpression(camelContext, leftExp, rightExp);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         if (operator == BinaryOperatorType.EQ) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
@@ -118,13 +144,18 @@ public class BinaryExpression extends BaseSimpleNode {
             return createExpression(camelContext, leftExp, rightExp,
                     PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
         } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
-            return createIsExpression(camelContext, expression, leftExp, rightExp);
+            return createExpression(camelContext, rightExp, String.class,
+                    name -> createIsPredicate(camelContext, expression, leftExp, name));
         } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(camelContext, leftExp, rightExp);
+            // reg ex should use String pattern, so we evaluate the right hand side as a String
+            return createExpression(camelContext, rightExp, String.class,
+                    regex -> createRegexPredicate(leftExp, regex));
         } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(camelContext, leftExp, rightExp);
+            return createExpression(camelContext, rightExp, Object.class,
+                    values -> createInPredicate(leftExp, values));
         } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+            return createExpression(camelContext, rightExp, String.class,
+                    range -> createRangePredicate(expression, leftExp, range));
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
@@ -134,151 +165,248 @@ public class BinaryExpression extends BaseSimpleNode {
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
-    private Expression createIsExpression(
-            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
+    private Predicate createIsPredicate(
+            final CamelContext camelContext, final String expression, final Expression leftExp, final String name) {
+        if (name == null || "null".equals(name)) {
+            throw new SimpleIllegalSyntaxException(
+                    expression, right.getToken().getIndex(),
+                    operator + " operator cannot accept null. A class type must be provided.");
+        }
+        Class<?> rightType = camelContext.getClassResolver().resolveClass(name);
+        if (rightType == null) {
+            throw new SimpleIllegalSyntaxException(
+                    expression, right.getToken().getIndex(),
+                    operator + " operator cannot find class with name: " + name);
+        }
 
-                String name = rightExp.evaluate(exchange, String.class);
-                if (name == null || "null".equals(name)) {
-                    throwMissingClass();
-                }
-                Class<?> rightType = camelContext.getClassResolver().resolveClass(name);
-                if (rightType == null) {
-                    throwClassNotFound(name);
-                }
+        Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+        if (operator == BinaryOperatorType.NOT_IS) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-                Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
-                if (operator == BinaryOperatorType.NOT_IS) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
+    private Predicate createRegexPredicate(final Expression leftExp, final String regex) {
+        Predicate predicate = PredicateBuilder.regex(leftExp, regex);
+        if (operator == BinaryOperatorType.NOT_REGEX) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Predicate createInPredicate(final Expression leftExp, final Object right) {
+        // okay the in operator is a bit more complex as we need to build a list of values
+        // from the right hand side expression.
+        // each element on the right hand side must be separated by comma (default for create iterator)
+        Iterator<?> it = ObjectHelper.createIterator(right);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        // then reuse value builder to create the in predicate with the list of values
+        ValueBuilder vb = new ValueBuilder(leftExp);
+        Predicate predicate = vb.in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-            private void throwClassNotFound(String name) {
-                throw new SimpleIllegalSyntaxException(
-                        expression, right.getToken().getIndex(),
-                        operator + " operator cannot find class with name: " + name);
-            }
+    private Predicate createRangePredicate(final String expression, final Expression leftExp, final String range) {
+        Predicate predicate;
+
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (matcher.matches()) {
+            // wrap as constant expression for the from and to values
+            Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+            Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+            // build a compound predicate for the range
+            predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+            predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        } else {
+            throw new SimpleIllegalSyntaxException(
+                    expression, right.getToken().getIndex(),
+                    operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
+        }
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-            private void throwMissingClass() {
-                throw new SimpleIllegalSyntaxException(
-                        expression, right.getToken().getIndex(),
-                        operator + " operator cannot accept null. A class type must be provided.");
+    /**
+     * Creates the expression for an operator where the predicate depends on the value of the right hand side, such as
+     * the regular expression to match.
+     */
+    private <R> PredicateExpression createExpression(
+            final CamelContext camelContext, final Expression rightExp, final Class<R> rightType,
+            final Function<R, Predicate> factory) {
+        final String text = left + " " + token.getText() + " " + right;
+
+        if (isConstant(right)) {
+            // the right hand side is a constant value, so the predicate only needs to be created once
+            Predicate predicate = null;
+            try {
+                predicate = factory.apply(rightExp.evaluate(new DefaultExchange(camelContext), rightType));
+            } catch (Exception e) {
+                // the right hand side is invalid which is reported when the predicate is evaluated
             }
+            if (predicate != null) {
+                final Predicate answer = predicate;
+                return new PredicateExpression(camelContext, text) {
+                    @Override
+                    public boolean matches(Exchange exchange) {
+                        return answer.matches(exchange);
+                    }
+                };
+            }
+        }
 
+        return new PredicateExpression(camelContext, text) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                Predicate predicate = factory.apply(rightExp.evaluate(exchange, rightType));
+                return predicate.matches(exchange);
             }
         };
     }
 
-    private Expression createRegexExpression(
+    /**
+     * Creates the expression for comparing with a constant right hand side value, which is converted once, instead of
+     * every time the predicate is evaluated.
+     *
+     * @return the expression, or <tt>null</tt> if the right hand side is not a constant value which can be optimized
+     */
+    private PredicateExpression createCompareExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // reg ex should use String pattern, so we evaluate the right hand side as a String
-                Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
-                if (operator == BinaryOperatorType.NOT_REGEX) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+        if (!isConstant(right)) {
+            return null;
+        }
+        ConstantOperand constant = null;
+        try {
+            constant = ConstantOperand.create(rightExp.evaluate(new DefaultExchange(camelContext), Object.class));
+        } catch (Exception e) {
+            // the right hand side cannot be evaluated up front so do not optimize
+        }
+        if (constant == null) {
+            return null;
+        }
 
+        final ConstantOperand operand = constant;
+        final BinaryOperatorType type = operator;
+        if (type == BinaryOperatorType.EQ) {
+            String key = readOnlyFunctionKey();
+            if (key != null) {
+                return new EqualToConstantExpression(
+                        camelContext, leftExp + " " + token.getText() + " " + rightExp, key,
+                        leftExp, operand);
+            }
+        }
+        return new PredicateExpression(camelContext, leftExp + " " + token.getText() + " " + rightExp) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                Object leftValue = leftExp.evaluate(exchange, Object.class);
+                if (leftValue == null) {
+                    // only the left side is null so they are not equal
+                    return type == BinaryOperatorType.NOT_EQ;
+                }
+                TypeConverter converter = exchange.getContext().getTypeConverter();
+                return switch (type) {
+                    case EQ -> operand.isEqualTo(converter, leftValue);
+                    case NOT_EQ -> !operand.isEqualTo(converter, leftValue);
+                    case GT -> operand.compareTo(converter, leftValue) > 0;
+                    case GTE -> operand.compareTo(converter, leftValue) >= 0;
+                    case LT -> operand.compareTo(converter, leftValue) < 0;
+                    default -> operand.compareTo(converter, leftValue) <= 0;
+                };
             }
         };
     }
 
-    private Expression createInExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // okay the in operator is a bit more complex as we need to build a list of values
-                // from the right hand side expression.
-                // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+    /**
+     * The key of the left hand side, when it is a function which only reads a value from the exchange, so the value can
+     * be evaluated once for many predicates.
+     *
+     * @return the key, or <tt>null</tt> if the left hand side is not such a function
+     */
+    private String readOnlyFunctionKey() {
+        if (left instanceof SimpleFunctionStart function && function.getBlock().getChildren().size() == 1
+                && function.getBlock().getChildren().get(0) instanceof LiteralNode literal) {
+            String text = literal.getText().trim();
+            if (READ_ONLY_FUNCTION_PATTERN.matcher(text).matches()) {
+                return "simple:" + text;
             }
+        }
+        return null;
+    }
 
+    private PredicateExpression createExpression(
+            final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
+        return new PredicateExpression(camelContext, left + " " + token.getText() + " " + right) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
         };
     }
 
-    private Expression createRangeExpression(
-            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
-
-                String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
-                    throw new SimpleIllegalSyntaxException(
-                            expression, right.getToken().getIndex(),
-                            operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
-                }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
+    /**
+     * Evaluates the predicate once, for when both sides are constant values.
+     */
+    private static PredicateExpression createConstantExpression(
+            final CamelContext camelContext, final PredicateExpression predicate) {
+        try {
+            boolean answer = predicate.matches(new DefaultExchange(camelContext));
+            return PredicateExpression.constant(camelContext, predicate.toString(), answer);
+        } catch (Exception e) {
+            // the predicate is invalid which is reported when the predicate is evaluated
+            return predicate;
+        }
+    }
 
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    /**
+     * The expression of the equal operator with a constant right hand side, which the Choice EIP can look up by the
+     * value of the left hand side.
+     */
+    private static final class EqualToConstantExpression extends PredicateExpression implements EqualToConstantPredicate {
+
+        private final String key;
+        private final Expression leftExp;
+        private final ConstantOperand operand;
+
+        EqualToConstantExpression(CamelContext camelContext, String text, String key, Expression leftExp,
+                                  ConstantOperand operand) {
+            super(camelContext, text);
+            this.key = key;
+            this.leftExp = leftExp;
+            this.operand = operand;
+        }
 
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
-    }
+        @Override
+        public String getExpressionKey() {
+            return key;
+        }
 
-    private Expression createExpression(
-            final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+        @Override
+        public Object evaluateExpression(Exchange exchange) {
+            return leftExp.evaluate(exchange, Object.class);
+        }
 
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+        @Override
+        public Object getConstantValue() {
+            return operand.getValue();
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = leftExp.evaluate(exchange, Object.class);
+            if (leftValue == null) {
+                // only the left side is null so they are not equal
+                return false;
             }
-        };
+            return operand.isEqualTo(exchange.getContext().getTypeConverter(), leftValue);
+        }
     }
 
     @Override
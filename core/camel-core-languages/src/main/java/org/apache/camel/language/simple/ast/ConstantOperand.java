@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.TypeConverter;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * A constant right hand side value of a binary operator, such as a quoted text or a number, which is converted once
+ * when the predicate is created, instead of every time the predicate is evaluated.
+ * <p/>
+ * The result of the comparisons is the same as {@link ObjectHelper#typeCoerceEquals(TypeConverter, Object, Object)} and
+ * {@link ObjectHelper#typeCoerceCompare(TypeConverter, Object, Object)}, which are used for the combinations of types
+ * which are not optimized.
+ */
+final class ConstantOperand {
+
+    private final Object value;
+    private final String text;
+    private final boolean integral;
+    private final long longValue;
+    private final boolean floating;
+    private final double doubleValue;
+
+    private ConstantOperand(Object value, String text, boolean integral, long longValue, boolean floating,
+                            double doubleValue) {
+        this.value = value;
+        this.text = text;
+        this.integral = integral;
+        this.longValue = longValue;
+        this.floating = floating;
+        this.doubleValue = doubleValue;
+    }
+
+    /**
+     * Creates the operand for the given constant value
+     *
+     * @return the operand, or <tt>null</tt> if the comparisons of the value cannot be optimized
+     */
+    static ConstantOperand create(Object value) {
+        try {
+            if (value instanceof String str) {
+                if (ObjectHelper.isNumber(str)) {
+                    long num = Long.parseLong(str);
+                    // a number as text is compared as floating number if the other side is a floating number
+                    return new ConstantOperand(value, str, true, num, false, Double.parseDouble(str));
+                } else if (ObjectHelper.isFloatingNumber(str)) {
+                    return new ConstantOperand(value, str, false, 0, true, Double.parseDouble(str));
+                } else {
+                    return new ConstantOperand(value, str, false, 0, false, 0);
+                }
+            } else if (value instanceof Integer || value instanceof Long) {
+                long num = ((Number) value).longValue();
+                return new ConstantOperand(value, null, true, num, false, num);
+            }
+        } catch (NumberFormatException e) {
+            // such as a too large number which fails when evaluated, so do not optimize
+        }
+        return null;
+    }
+
+    /**
+     * The constant value
+     */
+    Object getValue() {
+        return value;
+    }
+
+    /**
+     * Whether the left value is equal to this value
+     *
+     * @param  converter the type converter
+     * @param  leftValue the left value (not null)
+     * @return           <tt>true</tt> if equal
+     */
+    boolean isEqualTo(TypeConverter converter, Object leftValue) {
+        if (text != null) {
+            if (leftValue instanceof String str) {
+                if (integral && ObjectHelper.isNumber(str)) {
+                    return Long.parseLong(str) == longValue;
+                }
+                return str.equals(text);
+            } else if (integral && leftValue instanceof Integer num && isInt()) {
+                return num == (int) longValue;
+            } else if (integral && leftValue instanceof Long num) {
+                return num == longValue;
+            }
+        } else if (value instanceof Integer) {
+            if (leftValue instanceof String str && ObjectHelper.isNumber(str)) {
+                return Integer.parseInt(str) == (int) longValue;
+            } else if (leftValue instanceof Integer num) {
+                return num == (int) longValue;
+            }
+        } else {
+            if (leftValue instanceof String str && ObjectHelper.isNumber(str)) {
+                return Long.parseLong(str) == longValue;
+            } else if (leftValue instanceof Long num) {
+                return num == longValue;
+            }
+        }
+        return ObjectHelper.typeCoerceEquals(converter, leftValue, value);
+    }
+
+    /**
+     * Compares the left value with this value
+     *
+     * @param  converter the type converter
+     * @param  leftValue the left value (not null)
+     * @return           the value <tt>0</tt> if equal, a value less than <tt>0</tt> if the left value is less than this
+     *                   value, and a value greater than <tt>0</tt> if the left value is greater than this value
+     */
+    int compareTo(TypeConverter converter, Object leftValue) {
+        if (text != null) {
+            if (leftValue instanceof String str) {
+                return compareTo(str);
+            } else if (integral && leftValue instanceof Integer num && isInt()) {
+                return Integer.compare(num, (int) longValue);
+            } else if (integral && leftValue instanceof Long num) {
+                return Long.compare(num, longValue);
+            }
+        } else if (value instanceof Integer) {
+            if (leftValue instanceof String str && ObjectHelper.isNumber(str)) {
+                return Integer.compare(Integer.parseInt(str), (int) longValue);
+            } else if (leftValue instanceof Integer num) {
+                return Integer.compare(num, (int) longValue);
+            }
+        } else {
+            if (leftValue instanceof String str && ObjectHelper.isNumber(str)) {
+                return Long.compare(Long.parseLong(str), longValue);
+            } else if (leftValue instanceof Long num) {
+                return Long.compare(num, longValue);
+            }
+        }
+        return ObjectHelper.typeCoerceCompare(converter, leftValue, value);
+    }
+
+    private int compareTo(String leftValue) {
+        // prioritize non-floating numbers first
+        if (ObjectHelper.isNumber(leftValue)) {
+            long num = Long.parseLong(leftValue);
+            if (integral) {
+                return Long.compare(num, longValue);
+            } else if (floating) {
+                return Double.compare(Double.parseDouble(leftValue), doubleValue);
+            }
+        } else if (ObjectHelper.isFloatingNumber(leftValue)) {
+            double dec = Double.parseDouble(leftValue);
+            if (integral || floating) {
+                return Double.compare(dec, doubleValue);
+            }
+        }
+        // fallback to string comparison
+        return leftValue.compareTo(text);
+    }
+
+    private boolean isInt() {
+        return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE;
+    }
+}
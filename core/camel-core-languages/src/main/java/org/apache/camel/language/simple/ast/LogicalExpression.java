@@ -25,7 +25,6 @@ import org.apache.camel.language.simple.types.LogicalOperatorType;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
 import org.apache.camel.support.ExpressionToPredicateAdapter;
-import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -78,50 +77,61 @@ public class LogicalExpression extends BaseSimpleNode {
         final Expression rightExp = right.createExpression(camelContext, expression);
 
         if (operator == LogicalOperatorType.AND) {
-            return createAndExpression(leftExp, rightExp);
+            return createAndExpression(camelContext, leftExp, rightExp);
         } else if (operator == LogicalOperatorType.OR) {
-            return createOrExpression(leftExp, rightExp);
+            return createOrExpression(camelContext, leftExp, rightExp);
         }
 
         throw new SimpleParserException("Unknown logical operator " + operator, token.getIndex());
     }
 
-    private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+    private Expression createAndExpression(
+            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        final String text = left + " " + token.getText() + " " + right;
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
+        // the right side is not evaluated if the left side is false, so the result can be known up front
+        if (isConstant(leftExp, false) || isConstant(leftExp, true) && isConstant(rightExp, false)) {
+            return PredicateExpression.constant(camelContext, text, false);
+        } else if (isConstant(leftExp, true) && isConstant(rightExp, true)) {
+            return PredicateExpression.constant(camelContext, text, true);
+        }
 
+        final Predicate leftPredicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
+        final Predicate rightPredicate = ExpressionToPredicateAdapter.toPredicate(rightExp);
+        return new PredicateExpression(camelContext, text) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return leftPredicate.matches(exchange) && rightPredicate.matches(exchange);
             }
         };
     }
 
-    private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+    private Expression createOrExpression(
+            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        final String text = left + " " + token.getText() + " " + right;
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
+        // the right side is not evaluated if the left side is true, so the result can be known up front
+        if (isConstant(leftExp, true) || isConstant(leftExp, false) && isConstant(rightExp, true)) {
+            return PredicateExpression.constant(camelContext, text, true);
+        } else if (isConstant(leftExp, false) && isConstant(rightExp, false)) {
+            return PredicateExpression.constant(camelContext, text, false);
+        }
 
+        final Predicate leftPredicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
+        final Predicate rightPredicate = ExpressionToPredicateAdapter.toPredicate(rightExp);
+        return new PredicateExpression(camelContext, text) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return leftPredicate.matches(exchange) || rightPredicate.matches(exchange);
             }
         };
     }
 
+    private static boolean isConstant(Expression expression, boolean value) {
+        return expression instanceof PredicateExpression predicate && predicate.isConstant()
+                && predicate.matches(null) == value;
+    }
+
     @Override
     public String createCode(CamelContext camelContext, String expression) throws SimpleParserException {
         return BaseSimpleParser.CODE_START + doCreateCode(camelContext, expression) + BaseSimpleParser.CODE_END;
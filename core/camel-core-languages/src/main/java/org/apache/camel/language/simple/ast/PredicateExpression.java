@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+
+/**
+ * Base class for the expressions of the operators in the AST, which is both an {@link Expression} and a
+ * {@link Predicate}, so the predicate can be matched directly without adapting the expression to a predicate, and
+ * without converting the result to a boolean.
+ */
+abstract class PredicateExpression implements Expression, Predicate {
+
+    private final CamelContext camelContext;
+    private final String text;
+
+    PredicateExpression(CamelContext camelContext, String text) {
+        this.camelContext = camelContext;
+        this.text = text;
+    }
+
+    /**
+     * Creates a predicate which always has the given result, such as when the operands are constant values which has
+     * been evaluated when the predicate was created.
+     */
+    static PredicateExpression constant(CamelContext camelContext, String text, boolean value) {
+        return new ConstantPredicateExpression(camelContext, text, value);
+    }
+
+    /**
+     * Whether the result of this predicate is constant
+     */
+    boolean isConstant() {
+        return false;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        // noop as the operands has already been created
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        boolean answer = matches(exchange);
+        if (type == Object.class || type == Boolean.class || type == boolean.class) {
+            return (T) Boolean.valueOf(answer);
+        }
+        return camelContext.getTypeConverter().convertTo(type, answer);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static final class ConstantPredicateExpression extends PredicateExpression {
+
+        private final boolean value;
+
+        ConstantPredicateExpression(CamelContext camelContext, String text, boolean value) {
+            super(camelContext, text);
+            this.value = value;
+        }
+
+        @Override
+        boolean isConstant() {
+            return true;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return value;
+        }
+    }
+}
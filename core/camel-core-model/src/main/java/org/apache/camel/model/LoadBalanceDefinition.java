@@ -30,6 +30,7 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 import org.apache.camel.Expression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -48,6 +49,7 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
     @XmlElements({
             @XmlElement(name = "customLoadBalancer", type = CustomLoadBalancerDefinition.class),
             @XmlElement(name = "failoverLoadBalancer", type = FailoverLoadBalancerDefinition.class),
+            @XmlElement(name = "leastInflightLoadBalancer", type = LeastInflightLoadBalancerDefinition.class),
             @XmlElement(name = "randomLoadBalancer", type = RandomLoadBalancerDefinition.class),
             @XmlElement(name = "roundRobinLoadBalancer", type = RoundRobinLoadBalancerDefinition.class),
             @XmlElement(name = "stickyLoadBalancer", type = StickyLoadBalancerDefinition.class),
@@ -205,6 +207,31 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
         return this;
     }
 
+    /**
+     * Uses least inflight load balancer, which chooses the processor with the least inflight exchanges and fastest
+     * response times.
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition leastInflight() {
+        setLoadBalancerType(new LeastInflightLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses least inflight load balancer, which chooses the processor with the least inflight exchanges and fastest
+     * response times.
+     *
+     * @param  decayTime the time in millis over which the moving average of the response times decays
+     * @return           the builder
+     */
+    public LoadBalanceDefinition leastInflight(long decayTime) {
+        LeastInflightLoadBalancerDefinition def = new LeastInflightLoadBalancerDefinition();
+        def.setDecayTime(Long.toString(decayTime));
+        setLoadBalancerType(def);
+        return this;
+    }
+
     /**
      * Uses round robin load balancer
      *
@@ -71,6 +71,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -102,6 +105,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.maxInflight = source.maxInflight;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -410,6 +414,43 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages that can be in-flight at the same time when using parallel processing.
+     * A split message is in-flight from when it has been split until it has been aggregated. When the limit is reached,
+     * the splitter stops splitting (which applies backpressure on the splitter iterator) until an in-flight message has
+     * been aggregated.
+     * <p/>
+     * Together with streaming mode, where the replies are aggregated out-of-order in the order they complete, this
+     * allows splitting very large messages in parallel with a bounded memory usage.
+     * <p/>
+     * The default is 0 which means there is no limit.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages that can be in-flight at the same time when using parallel processing.
+     * A split message is in-flight from when it has been split until it has been aggregated. When the limit is reached,
+     * the splitter stops splitting (which applies backpressure on the splitter iterator) until an in-flight message has
+     * been aggregated.
+     * <p/>
+     * Together with streaming mode, where the replies are aggregated out-of-order in the order they complete, this
+     * allows splitting very large messages in parallel with a bounded memory usage.
+     * <p/>
+     * The default is 0 which means there is no limit.
+     *
+     * @param  maxInflight the maximum number of in-flight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -630,6 +671,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.loadbalancer;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * The destination endpoint with the least inflight exchanges and fastest response times is selected, by comparing two
+ * random endpoints (power of two choices). This reacts to slow or busy endpoints.
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "leastInflightLoadBalancer")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class LeastInflightLoadBalancerDefinition extends LoadBalancerDefinition {
+
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "10000", javaType = "java.time.Duration")
+    private String decayTime;
+
+    public LeastInflightLoadBalancerDefinition() {
+    }
+
+    protected LeastInflightLoadBalancerDefinition(LeastInflightLoadBalancerDefinition source) {
+        super(source);
+        this.decayTime = source.decayTime;
+    }
+
+    @Override
+    public LeastInflightLoadBalancerDefinition copyDefinition() {
+        return new LeastInflightLoadBalancerDefinition(this);
+    }
+
+    public String getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * The time over which the moving average of the response times of an endpoint decays. A shorter time reacts faster
+     * to changes in the response times, and a longer time is more stable.
+     * <p/>
+     * The default value is 10 seconds.
+     */
+    public void setDecayTime(String decayTime) {
+        this.decayTime = decayTime;
+    }
+
+    @Override
+    public String toString() {
+        return "LeastInflightLoadBalancer";
+    }
+
+}
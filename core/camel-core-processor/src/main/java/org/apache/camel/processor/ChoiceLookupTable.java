@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.EqualToConstantPredicate;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * A lookup table for the {@link ChoiceProcessor} when all its when clauses tests whether the same expression is equal
+ * to a constant value, such as <tt>${header.type} == 'order'</tt>, so the expression is evaluated once, and the
+ * matching when clause is found by a hash lookup of the value, instead of evaluating the predicates one by one.
+ * <p/>
+ * The constant values are indexed the same way as they are compared by
+ * {@link ObjectHelper#typeCoerceEquals(org.apache.camel.TypeConverter, Object, Object)}: texts which are numbers and
+ * integer and long values by their numeric value, and other texts by the text. When the type of the value may be
+ * compared differently by type coercion, then the lookup tells to evaluate the predicates one by one instead.
+ */
+public final class ChoiceLookupTable {
+
+    /**
+     * No when clause matches the value
+     */
+    public static final int NO_MATCH = -1;
+
+    /**
+     * The when clause cannot be looked up for the value, so the predicates must be evaluated one by one
+     */
+    public static final int EVALUATE = -2;
+
+    private final EqualToConstantPredicate expression;
+    private final Map<Object, Integer> index;
+    private final boolean hasText;
+    private final boolean hasLargeNumberText;
+    private final boolean hasInteger;
+    private final boolean hasLong;
+
+    private ChoiceLookupTable(EqualToConstantPredicate expression, Map<Object, Integer> index, boolean hasText,
+                              boolean hasLargeNumberText, boolean hasInteger, boolean hasLong) {
+        this.expression = expression;
+        this.index = index;
+        this.hasText = hasText;
+        this.hasLargeNumberText = hasLargeNumberText;
+        this.hasInteger = hasInteger;
+        this.hasLong = hasLong;
+    }
+
+    /**
+     * Creates a lookup table for the given when clauses
+     *
+     * @param  filters the when clauses
+     * @return         the lookup table, or <tt>null</tt> if the when clauses does not all test whether the same
+     *                 expression is equal to a constant value
+     */
+    public static ChoiceLookupTable create(List<FilterProcessor> filters) {
+        if (filters.size() < 2) {
+            return null;
+        }
+
+        EqualToConstantPredicate first = null;
+        Map<Object, Integer> index = new HashMap<>();
+        boolean hasText = false;
+        boolean hasLargeNumberText = false;
+        boolean hasInteger = false;
+        boolean hasLong = false;
+        for (int i = 0; i < filters.size(); i++) {
+            Predicate predicate = filters.get(i).getPredicate();
+            if (!(predicate instanceof EqualToConstantPredicate equal) || equal.getExpressionKey() == null) {
+                return null;
+            }
+            if (first == null) {
+                first = equal;
+            } else if (!first.getExpressionKey().equals(equal.getExpressionKey())) {
+                return null;
+            }
+
+            Object key;
+            Object value = equal.getConstantValue();
+            if (value instanceof String str) {
+                if (ObjectHelper.isNumber(str)) {
+                    long num;
+                    try {
+                        num = Long.parseLong(str);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    hasLargeNumberText |= num < Integer.MIN_VALUE || num > Integer.MAX_VALUE;
+                    key = num;
+                } else {
+                    hasText = true;
+                    key = str;
+                }
+            } else if (value instanceof Integer || value instanceof Long) {
+                hasInteger |= value instanceof Integer;
+                hasLong |= value instanceof Long;
+                key = ((Number) value).longValue();
+            } else {
+                return null;
+            }
+            // the first when clause wins when there are duplicate values
+            index.putIfAbsent(key, i);
+        }
+        return new ChoiceLookupTable(first, index, hasText, hasLargeNumberText, hasInteger, hasLong);
+    }
+
+    /**
+     * Evaluates the expression and finds the matching when clause
+     *
+     * @param  exchange the exchange
+     * @return          the index of the matching when clause, {@link #NO_MATCH} if no when clause matches, or
+     *                  {@link #EVALUATE} if the predicates must be evaluated one by one
+     */
+    public int lookup(Exchange exchange) {
+        Object value = expression.evaluateExpression(exchange);
+        if (value == null) {
+            // none of the constant values are null
+            return NO_MATCH;
+        }
+        Object key;
+        if (value instanceof String str) {
+            if (ObjectHelper.isNumber(str)) {
+                long num;
+                try {
+                    num = Long.parseLong(str);
+                } catch (NumberFormatException e) {
+                    return EVALUATE;
+                }
+                if (hasInteger && (num < Integer.MIN_VALUE || num > Integer.MAX_VALUE)) {
+                    return EVALUATE;
+                }
+                key = num;
+            } else if (hasInteger || hasLong) {
+                // texts which are not numbers are converted when compared with numbers
+                return EVALUATE;
+            } else {
+                key = str;
+            }
+        } else if (value instanceof Integer num) {
+            if (hasText || hasLargeNumberText || hasLong) {
+                return EVALUATE;
+            }
+            key = num.longValue();
+        } else if (value instanceof Long num) {
+            if (hasText || hasInteger) {
+                return EVALUATE;
+            }
+            key = num;
+        } else {
+            return EVALUATE;
+        }
+        Integer answer = index.get(key);
+        return answer != null ? answer : NO_MATCH;
+    }
+
+    /**
+     * The key of the expression which all the when clauses tests
+     */
+    public String getExpressionKey() {
+        return expression.getExpressionKey();
+    }
+
+    /**
+     * Number of distinct constant values
+     */
+    public int size() {
+        return index.size();
+    }
+}
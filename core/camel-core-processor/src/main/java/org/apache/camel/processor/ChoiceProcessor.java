@@ -50,18 +50,51 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
     private final FilterProcessor[] filters;
     private final int len;
     private final AsyncProcessor otherwise;
+    private final ChoiceLookupTable lookupTable;
     private transient long notFiltered;
 
     public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise) {
+        this(filters, otherwise, null);
+    }
+
+    public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise, ChoiceLookupTable lookupTable) {
         this.filters = filters.toArray(new FilterProcessor[0]);
         this.len = filters.size();
         this.otherwise = otherwise != null ? AsyncProcessorConverterHelper.convert(otherwise) : null;
+        this.lookupTable = lookupTable;
     }
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        int start = 0;
+        if (lookupTable != null) {
+            // all the filters test whether the same expression is equal to a constant value,
+            // so we can evaluate the expression once and lookup the matching filter
+            int index = ChoiceLookupTable.EVALUATE;
+            try {
+                index = lookupTable.lookup(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            // check for error if so we should break out
+            if (!continueProcessing(exchange, "so breaking out of choice", LOG)) {
+                callback.done(true);
+                return true;
+            }
+
+            if (index >= 0) {
+                FilterProcessor filter = filters[index];
+                filter.matched();
+                return filter.getProcessor().process(exchange, callback);
+            } else if (index == ChoiceLookupTable.NO_MATCH) {
+                // skip the filters and use otherwise
+                start = len;
+            }
+        }
+
         // find the first matching filter and process the exchange using it
-        for (int i = 0; i < len; i++) {
+        for (int i = start; i < len; i++) {
             FilterProcessor filter = filters[i];
             // evaluate the predicate on filter predicate early to be faster
             // and avoid issues when having nested choices
@@ -118,6 +151,14 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         return otherwise;
     }
 
+    /**
+     * Gets the lookup table used for finding the matching filter, when all the filters test whether the same expression
+     * is equal to a constant value.
+     */
+    public ChoiceLookupTable getLookupTable() {
+        return lookupTable;
+    }
+
     /**
      * Gets the number of Exchanges that did not match any predicate and are routed using otherwise
      */
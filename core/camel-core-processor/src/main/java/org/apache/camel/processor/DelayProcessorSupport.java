@@ -18,13 +18,13 @@ package org.apache.camel.processor;
 
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.support.HashedTimingWheelScheduler;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -42,6 +42,7 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
     private final CamelContext camelContext;
     private final ScheduledExecutorService executorService;
     private final boolean shutdownExecutorService;
+    private HashedTimingWheelScheduler scheduler;
     private boolean asyncDelayed = true;
     private boolean callerRunsWhenRejected = true;
     private final AtomicInteger delayedCount = new AtomicInteger();
@@ -124,7 +125,8 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
                     LOG.trace("Scheduling delayed task to run in {} millis for exchangeId: {}",
                             delay, exchange.getExchangeId());
                 }
-                executorService.schedule(call, delay, TimeUnit.MILLISECONDS);
+                // the timing wheel hands over the task to the executor service when the delay has passed
+                scheduler.schedule(() -> executeCall(call), delay);
                 // tell Camel routing engine we continue routing asynchronous
                 return false;
             } catch (RejectedExecutionException e) {
@@ -159,6 +161,15 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
         }
     }
 
+    private void executeCall(ProcessCall call) {
+        try {
+            executorService.execute(call);
+        } catch (RejectedExecutionException e) {
+            // let the caller (the thread of the timing wheel) run as the exchange must be continued
+            call.run();
+        }
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         if (!isRunAllowed()) {
@@ -269,6 +280,9 @@ public abstract class DelayProcessorSupport extends DelegateAsyncProcessor {
         } else if (executorService != null) {
             asyncDelayed = true;
         }
+        if (executorService != null && scheduler == null) {
+            scheduler = HashedTimingWheelScheduler.resolve(camelContext, executorService);
+        }
         super.doStart();
     }
 
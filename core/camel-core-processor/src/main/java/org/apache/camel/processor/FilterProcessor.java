@@ -97,6 +97,14 @@ public class FilterProcessor extends DelegateAsyncProcessor implements Traceable
         return matches;
     }
 
+    /**
+     * Counts an exchange which has been matched by other means than evaluating the predicate, such as the lookup table
+     * of the choice processor.
+     */
+    void matched() {
+        filtered++;
+    }
+
     @Override
     public String toString() {
         return id;
@@ -65,6 +65,7 @@ import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
@@ -173,6 +174,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int maxInflight;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -285,6 +287,19 @@ public class MulticastProcessor extends AsyncProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of exchanges that can be in-flight (sent but not yet aggregated) at the same time when
+     * using parallel processing. When the limit is reached, then no more exchanges are sent until an in-flight exchange
+     * has been aggregated. The default is 0 which means there is no limit.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -411,6 +426,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -474,6 +490,31 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Whether the maximum number of in-flight exchanges has been reached
+         */
+        protected boolean isInflightFull() {
+            return maxInflight > 0 && nbExchangeSent.get() - nbAggregated.get() >= maxInflight;
+        }
+
+        /**
+         * Suspends sending more exchanges until an in-flight exchange has been aggregated.
+         */
+        protected void suspend() {
+            suspended.set(true);
+            // an exchange may have been aggregated in the meantime, and then we should resume
+            resume();
+        }
+
+        /**
+         * Resumes sending exchanges (if suspended) when there is room for more in-flight exchanges.
+         */
+        protected void resume() {
+            if (suspended.get() && !done.get() && !isInflightFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -604,6 +645,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         // aggregate exchanges if any
                         aggregate();
 
+                        // continue sending if we were suspended due to too many in-flight exchanges
+                        resume();
+
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
@@ -626,7 +670,12 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (isInflightFull()) {
+                        // apply backpressure and wait until an in-flight exchange has been aggregated
+                        suspend();
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -969,10 +1018,13 @@ public class MulticastProcessor extends AsyncProcessorSupport
             streamCache = streamCacheBody;
         }
 
+        // the sub exchanges share the headers of a private copy (until changed), instead of copying them each
+        Exchange source = processors.size() > 1 ? createSharedHeadersCopy(exchange) : exchange;
+
         int index = 0;
         for (Processor processor : processors) {
             // copy exchange, and do not share the unit of work
-            Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+            Exchange copy = processorExchangeFactory.createCorrelatedCopy(source, false);
             copy.getExchangeExtension().setTransacted(exchange.isTransacted());
             // If we are in a transaction, set TRANSACTION_CONTEXT_DATA property for new exchanges to share txData
             // during the transaction.
@@ -1021,6 +1073,22 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return result;
     }
 
+    /**
+     * Creates a private copy of the exchange (with the same exchange id) to create the sub exchanges from, which shares
+     * its message headers (read-only) with the sub exchanges, so the headers are only copied by the sub exchanges which
+     * change them.
+     *
+     * @param  exchange the exchange
+     * @return          the copy, which must not be routed or changed
+     */
+    protected Exchange createSharedHeadersCopy(Exchange exchange) {
+        Exchange answer = ExchangeHelper.createCopy(exchange, true);
+        if (answer.getIn() instanceof DefaultMessage message) {
+            message.shareHeaders();
+        }
+        return answer;
+    }
+
     /**
      * Creates the {@link ProcessorExchangePair} which holds the processor and exchange to be send out.
      * <p/>
@@ -23,10 +23,14 @@ import java.util.List;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.CamelContext;
+import org.apache.camel.Channel;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.impl.engine.FusedProcessor;
+import org.apache.camel.processor.errorhandler.DeadLetterChannel;
+import org.apache.camel.processor.errorhandler.DefaultErrorHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
@@ -50,7 +54,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
     private final List<AsyncProcessor> processors;
-    private final int size;
+    // the steps to route the exchange through, which can have fused processors when route fusion is enabled
+    private List<AsyncProcessor> steps;
+    private int size;
     private PooledExchangeTaskFactory taskFactory;
 
     private String id;
@@ -97,7 +103,7 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
                 ExchangeHelper.prepareOutToIn(exchange);
 
                 // get the next processor
-                AsyncProcessor processor = processors.get(index++);
+                AsyncProcessor processor = steps.get(index++);
 
                 processor.process(exchange, this);
             } else {
@@ -122,6 +128,7 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         this.camelContext = camelContext;
         this.reactiveExecutor = camelContext.getCamelContextExtension().getReactiveExecutor();
         this.processors = processors.stream().map(AsyncProcessorConverterHelper::convert).toList();
+        this.steps = this.processors;
         this.size = processors.size();
     }
 
@@ -203,6 +210,66 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(taskFactory, processors);
+
+        List<AsyncProcessor> list = processors;
+        if (Boolean.TRUE.equals(camelContext.isRouteFusion())) {
+            list = fuse(processors);
+            if (list.size() < processors.size()) {
+                LOG.debug("Fused {} steps into {} steps in pipeline: {}", processors.size(), list.size(), id);
+            }
+        }
+        steps = list;
+        size = list.size();
+    }
+
+    /**
+     * Fuses consecutive steps which are simple synchronous EIPs into a single {@link FusedProcessor}.
+     */
+    private List<AsyncProcessor> fuse(List<AsyncProcessor> processors) {
+        List<AsyncProcessor> answer = new ArrayList<>(processors.size());
+        List<Processor> group = new ArrayList<>();
+        for (AsyncProcessor processor : processors) {
+            if (isFusable(processor)) {
+                group.add(processor);
+                continue;
+            }
+            addGroup(answer, group);
+            answer.add(processor);
+        }
+        addGroup(answer, group);
+        return answer;
+    }
+
+    private void addGroup(List<AsyncProcessor> answer, List<Processor> group) {
+        if (group.size() > 1) {
+            answer.add(new FusedProcessor(camelContext, group));
+        } else if (group.size() == 1) {
+            answer.add(AsyncProcessorConverterHelper.convert(group.get(0)));
+        }
+        group.clear();
+    }
+
+    private static boolean isFusable(Processor processor) {
+        if (!FusedProcessor.isFusable(processor)) {
+            return false;
+        }
+        Channel channel = (Channel) processor;
+        // the fused processor calls the error handler directly, so only the default error handlers are supported
+        Processor errorHandler = channel.getErrorHandler();
+        if (errorHandler != null && errorHandler.getClass() != DefaultErrorHandler.class
+                && errorHandler.getClass() != DeadLetterChannel.class) {
+            return false;
+        }
+        // only simple EIPs that do not hand over the exchange to another thread (such as threads or wire-tap),
+        // and where any child outputs (such as in filter) are processed inline as part of the EIP itself
+        Processor next = channel.getNextProcessor();
+        return next instanceof SetHeaderProcessor || next instanceof SetHeadersProcessor
+                || next instanceof SetPropertyProcessor || next instanceof SetVariableProcessor
+                || next instanceof SetVariablesProcessor || next instanceof SetBodyProcessor
+                || next instanceof TransformProcessor || next instanceof LogProcessor || next instanceof FilterProcessor
+                || next instanceof RemoveHeaderProcessor || next instanceof RemoveHeadersProcessor
+                || next instanceof RemovePropertyProcessor || next instanceof RemovePropertiesProcessor
+                || next instanceof RemoveVariableProcessor;
     }
 
     @Override
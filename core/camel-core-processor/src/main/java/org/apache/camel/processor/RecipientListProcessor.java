@@ -16,8 +16,8 @@
  */
 package org.apache.camel.processor;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -201,31 +201,10 @@ public class RecipientListProcessor extends MulticastProcessor {
 
         // optimize for recipient without need for using delimiter
         // (if its list/collection/array type)
-        if (recipientList instanceof List<?> col) {
-            int size = col.size();
-            List<ProcessorExchangePair> result = new ArrayList<>(size);
-            int index = 0;
-            for (Object recipient : col) {
-                index = doCreateProcessorExchangePairs(exchange, recipient, result, index);
-            }
-            return result;
-        } else if (recipientList instanceof Collection<?> col) {
-            int size = col.size();
-            List<ProcessorExchangePair> result = new ArrayList<>(size);
-            int index = 0;
-            for (Object recipient : col) {
-                index = doCreateProcessorExchangePairs(exchange, recipient, result, index);
-            }
-            return result;
+        if (recipientList instanceof Collection<?> col) {
+            return doCreateProcessorExchangePairs(exchange, col);
         } else if (recipientList != null && recipientList.getClass().isArray()) {
-            Object[] arr = (Object[]) recipientList;
-            int size = Array.getLength(recipientList);
-            List<ProcessorExchangePair> result = new ArrayList<>(size);
-            int index = 0;
-            for (Object recipient : arr) {
-                index = doCreateProcessorExchangePairs(exchange, recipient, result, index);
-            }
-            return result;
+            return doCreateProcessorExchangePairs(exchange, Arrays.asList((Object[]) recipientList));
         }
 
         // okay we have to use iterator based separated by delimiter
@@ -235,16 +214,25 @@ public class RecipientListProcessor extends MulticastProcessor {
         } else {
             iter = ObjectHelper.createIterator(recipientList, delimiter);
         }
-        List<ProcessorExchangePair> result = new ArrayList<>();
+        List<Object> recipients = new ArrayList<>();
+        iter.forEachRemaining(recipients::add);
+        return doCreateProcessorExchangePairs(exchange, recipients);
+    }
+
+    private List<ProcessorExchangePair> doCreateProcessorExchangePairs(Exchange exchange, Collection<?> recipients)
+            throws NoTypeConversionAvailableException {
+        List<ProcessorExchangePair> result = new ArrayList<>(recipients.size());
+        // the sub exchanges share the headers of a private copy (until changed), instead of copying them each
+        Exchange source = recipients.size() > 1 ? createSharedHeadersCopy(exchange) : exchange;
         int index = 0;
-        while (iter.hasNext()) {
-            index = doCreateProcessorExchangePairs(exchange, iter.next(), result, index);
+        for (Object recipient : recipients) {
+            index = doCreateProcessorExchangePair(exchange, source, recipient, result, index);
         }
         return result;
     }
 
-    private int doCreateProcessorExchangePairs(
-            Exchange exchange, Object recipient, List<ProcessorExchangePair> result, int index)
+    private int doCreateProcessorExchangePair(
+            Exchange exchange, Exchange source, Object recipient, List<ProcessorExchangePair> result, int index)
             throws NoTypeConversionAvailableException {
         boolean prototype = cacheSize < 0;
 
@@ -274,18 +262,21 @@ public class RecipientListProcessor extends MulticastProcessor {
         }
 
         // then create the exchange pair
-        result.add(createProcessorExchangePair(index++, endpoint, producer, exchange, pattern, prototype));
+        result.add(createProcessorExchangePair(index++, endpoint, producer, exchange, source, pattern, prototype));
         return index;
     }
 
     /**
      * This logic is similar to MulticastProcessor but we have to return a RecipientProcessorExchangePair instead
+     *
+     * @param source the exchange to copy the sub exchange from, which is the exchange itself, or a private copy of it
+     *               (see {@link #createSharedHeadersCopy(Exchange)})
      */
     protected ProcessorExchangePair createProcessorExchangePair(
             int index, Endpoint endpoint, Producer producer,
-            Exchange exchange, ExchangePattern pattern, boolean prototypeEndpoint) {
+            Exchange exchange, Exchange source, ExchangePattern pattern, boolean prototypeEndpoint) {
         // copy exchange, and do not share the unit of work
-        Exchange copy = processorExchangeFactory.createCorrelatedCopy(exchange, false);
+        Exchange copy = processorExchangeFactory.createCorrelatedCopy(source, false);
         copy.getExchangeExtension().setTransacted(exchange.isTransacted());
 
         // If we are in a transaction, set TRANSACTION_CONTEXT_DATA property for new exchanges to share txData
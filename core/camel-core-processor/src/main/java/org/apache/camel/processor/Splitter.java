@@ -41,6 +41,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.Traceable;
 import org.apache.camel.processor.aggregate.ShareUnitOfWorkAggregationStrategy;
 import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
+import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.util.IOHelper;
@@ -320,6 +321,10 @@ public class Splitter extends MulticastProcessor implements AsyncProcessor, Trac
             // we do not want to copy the message history for split sub-messages
             answer.removeProperty(ExchangePropertyKey.MESSAGE_HISTORY);
         }
+        // the copy is private, so its headers can be shared with the sub exchanges (until changed)
+        if (answer.getIn() instanceof DefaultMessage message) {
+            message.shareHeaders();
+        }
         return answer;
     }
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -100,6 +101,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -231,6 +233,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +407,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock striping then force completion of all groups must be deferred until the lock is released
+        AtomicBoolean forceCompletionOfAllGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionOfAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +425,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (forceCompletionOfAllGroups != null && forceCompletionOfAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -472,11 +482,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  forceCompletionOfAllGroups              flag to set if completion of all groups should be forced after
+     *                                                 the lock has been released, or <tt>null</tt> to force completion
+     *                                                 immediately
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean forceCompletionOfAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -576,10 +590,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            forceCompletionOfAllGroups(forceCompletionOfAllGroups);
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
-            forceCompletionOfAllGroups();
+            forceCompletionOfAllGroups(forceCompletionOfAllGroups);
         }
 
         // special for some repository implementations
@@ -616,6 +630,32 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return list;
     }
 
+    private void forceCompletionOfAllGroups(AtomicBoolean deferred) {
+        if (deferred != null) {
+            // we hold a lock stripe so we cannot acquire the other stripes now
+            deferred.set(true);
+        } else {
+            forceCompletionOfAllGroups();
+        }
+    }
+
+    /**
+     * Gets the lock to use when aggregating the given correlation key.
+     * <p/>
+     * When lock striping is enabled, then the lock stripe for the correlation key is returned, otherwise the shared
+     * aggregation lock.
+     */
+    private Lock getLock(String key) {
+        Lock[] stripes = stripedLocks;
+        if (stripes == null) {
+            return lock;
+        }
+        int h = key.hashCode();
+        // spread the higher bits of the hash as the mask only uses the lower bits
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
     protected void doAggregationComplete(
             String complete, List<Exchange> list, String key,
             Exchange originalExchange, Exchange answer, boolean aggregateFailed) {
@@ -1105,6 +1145,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of lock stripes to use for aggregating exchanges, allowing exchanges with different correlation keys to be
+     * aggregated in parallel. The number is rounded up to a power of two. A value of 1 or less (default) uses a single
+     * shared lock.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    private boolean isLockStriping() {
+        return lockStripes > 1;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1266,7 +1323,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless lock striping is in use where the lock stripe is acquired per evicted correlation key)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || isLockStriping());
             addListener(this::onEviction);
         }
 
@@ -1274,6 +1332,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         protected void purge() {
             // wait for lock to be created
             if (lock != null) {
+                if (stripedLocks != null) {
+                    // the lock stripe is acquired per correlation key on eviction
+                    super.purge();
+                    return;
+                }
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1290,6 +1353,20 @@ public class AggregateProcessor extends AsyncProcessorSupport
             }
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
+            if (stripedLocks != null) {
+                Lock keyLock = getLock(key);
+                keyLock.lock();
+                try {
+                    doEviction(key, exchangeId);
+                } finally {
+                    keyLock.unlock();
+                }
+            } else {
+                doEviction(key, exchangeId);
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
             if (inProgress) {
                 log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
@@ -1342,40 +1419,57 @@ public class AggregateProcessor extends AsyncProcessorSupport
             Set<String> keys = aggregationRepository.getKeys();
 
             if (keys != null && !keys.isEmpty()) {
-                // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
-                try {
+                if (stripedLocks != null) {
+                    // acquire the lock stripe per correlation key so other groups can be aggregated meanwhile
                     for (String key : keys) {
-                        boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                stolenInterval = true;
-                            }
+                        Lock keyLock = getLock(key);
+                        keyLock.lock();
+                        try {
+                            doIntervalCompletion(key);
+                        } finally {
+                            keyLock.unlock();
                         }
-                        if (optimisticLocking && stolenInterval) {
-                            LOG.debug(
-                                    "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
-                                    key);
+                    }
+                } else {
+                    // must acquire the shared aggregation lock to be able to trigger interval completion
+                    lock.lock();
+                    try {
+                        for (String key : keys) {
+                            doIntervalCompletion(key);
                         }
+                    } finally {
+                        lock.unlock();
                     }
-                } finally {
-                    lock.unlock();
                 }
             }
 
             LOG.trace("Completion interval task complete");
         }
+
+        private void doIntervalCompletion(String key) {
+            boolean stolenInterval = false;
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange == null) {
+                stolenInterval = true;
+            } else {
+                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                // indicate it was completed by interval
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                try {
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
+                    }
+                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                    stolenInterval = true;
+                }
+            }
+            if (optimisticLocking && stolenInterval) {
+                LOG.debug(
+                        "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
+                        key);
+            }
+        }
     }
 
     /**
@@ -1554,6 +1648,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (isLockStriping()) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of optimisticLocking or lockStripes can be used, not both.");
+            }
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException(
+                        "Option lockStripes cannot be used together with completionFromBatchConsumer.");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1637,6 +1741,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (isLockStriping()) {
+            // round up to power of two so the lock stripe can be selected by masking the hash
+            int size = Integer.highestOneBit(lockStripes - 1) << 1;
+            Lock[] stripes = new Lock[size];
+            for (int i = 0; i < size; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            LOG.info("Using {} lock stripes to aggregate correlation keys in parallel", size);
+            stripedLocks = stripes;
+            // the shared aggregation lock (used for recovery) must then acquire all the lock stripes
+            lock = new AllStripesLock(stripes);
         } else {
             lock = new ReentrantLock();
         }
@@ -1747,24 +1862,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the shared aggregation lock (or lock stripe) to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
-            if (exchange != null) {
+            if (doForceCompletionOfGroup(key)) {
                 total = 1;
-                LOG.trace("Force completion triggered for correlation key: {}", key);
-                // indicate it was completed by a force completion request
-                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                if (answer != null) {
-                    onSubmitCompletion(key, answer);
-                }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1791,24 +1899,28 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
             total = keys.size();
-            try {
+            if (stripedLocks != null) {
+                // acquire the lock stripe per correlation key so other groups can be aggregated meanwhile
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
-                        }
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        doForceCompletionOfGroup(key);
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
-            } finally {
-                lock.unlock();
+            } else {
+                // must acquire the shared aggregation lock to be able to trigger force completion
+                lock.lock();
+                try {
+                    for (String key : keys) {
+                        doForceCompletionOfGroup(key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1820,20 +1932,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the shared aggregation lock (or lock stripe) to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
-            if (exchange != null) {
+            if (doForceDiscardingOfGroup(key)) {
                 total = 1;
-                LOG.trace("Force discarded triggered for correlation key: {}", key);
-                // force discarding by setting aggregate failed as true
-                onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1860,20 +1969,28 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
             total = keys.size();
-            try {
+            if (stripedLocks != null) {
+                // acquire the lock stripe per correlation key so other groups can be aggregated meanwhile
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        doForceDiscardingOfGroup(key);
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
-            } finally {
-                lock.unlock();
+            } else {
+                // must acquire the shared aggregation lock to be able to trigger force completion
+                lock.lock();
+                try {
+                    for (String key : keys) {
+                        doForceDiscardingOfGroup(key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
             }
         }
         LOG.trace("Completed force discarding of all groups task");
@@ -1884,6 +2001,116 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return total;
     }
 
+    private boolean doForceCompletionOfGroup(String key) {
+        Exchange exchange = aggregationRepository.get(camelContext, key);
+        if (exchange != null) {
+            LOG.trace("Force completion triggered for correlation key: {}", key);
+            // indicate it was completed by a force completion request
+            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+            if (answer != null) {
+                onSubmitCompletion(key, answer);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean doForceDiscardingOfGroup(String key) {
+        Exchange exchange = aggregationRepository.get(camelContext, key);
+        if (exchange != null) {
+            LOG.trace("Force discarded triggered for correlation key: {}", key);
+            // force discarding by setting aggregate failed as true
+            onCompletion(key, exchange, exchange, false, true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lock which acquires all the lock stripes (in order), used for tasks that must be run exclusively when lock
+     * striping is in use.
+     */
+    private static final class AllStripesLock implements Lock {
+
+        private final Lock[] stripes;
+
+        private AllStripesLock(Lock[] stripes) {
+            this.stripes = stripes;
+        }
+
+        @Override
+        public void lock() {
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            int i = 0;
+            try {
+                for (; i < stripes.length; i++) {
+                    stripes[i].lockInterruptibly();
+                }
+            } catch (InterruptedException e) {
+                // release the stripes we have acquired so far
+                for (int j = i - 1; j >= 0; j--) {
+                    stripes[j].unlock();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            for (int i = 0; i < stripes.length; i++) {
+                if (!stripes[i].tryLock()) {
+                    for (int j = i - 1; j >= 0; j--) {
+                        stripes[j].unlock();
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            final long deadline = System.nanoTime() + unit.toNanos(time);
+            int i = 0;
+            try {
+                for (; i < stripes.length; i++) {
+                    // each stripe gets the time that remains of the timeout
+                    if (!stripes[i].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        break;
+                    }
+                }
+            } finally {
+                if (i < stripes.length) {
+                    // timeout or interrupted so release the stripes we have acquired so far
+                    for (int j = i - 1; j >= 0; j--) {
+                        stripes[j].unlock();
+                    }
+                }
+            }
+            return i == stripes.length;
+        }
+
+        @Override
+        public void unlock() {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            // a condition cannot be bound to several locks (which is allowed by the lock contract)
+            throw new UnsupportedOperationException("Conditions are not supported when using lock stripes");
+        }
+    }
+
     /**
      * Synchronization class to avoid busy-loop when waiting for exchanges to be processed during shutdown.
      */
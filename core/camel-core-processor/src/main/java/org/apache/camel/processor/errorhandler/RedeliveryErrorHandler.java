@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
@@ -53,6 +52,7 @@ import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.HashedTimingWheelScheduler;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -81,6 +81,8 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
     // state
     protected final AtomicInteger redeliverySleepCounter = new AtomicInteger();
     protected ScheduledExecutorService executorService;
+    // schedules the asynchronous delayed redeliveries on the executor service
+    protected HashedTimingWheelScheduler redeliveryScheduler;
     protected volatile boolean preparingShutdown;
 
     // output
@@ -798,8 +800,18 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 LOG.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", redeliveryDelay,
                         exchange.getExchangeId());
             }
-            executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
-                    TimeUnit.MILLISECONDS);
+            redeliveryScheduler.schedule(this::executeRedelivery, redeliveryDelay);
+        }
+
+        private void executeRedelivery() {
+            // the thread of the timing wheel must not run the redelivery, as it runs the timeouts of all the users
+            // of the shared scheduler, so hand over to the executor service (as each redelivery was scheduled on before)
+            try {
+                executorService.execute(() -> reactiveExecutor.schedule(this::redeliver));
+            } catch (RejectedExecutionException e) {
+                // let the caller (the thread of the timing wheel) run as the exchange must be continued
+                reactiveExecutor.schedule(this::redeliver);
+            }
         }
 
         private void runSynchronousRedelivery() {
@@ -1647,6 +1659,10 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 // use default shared executor service
                 executorService = PluginHelper.getErrorHandlerExecutorService(camelContext);
             }
+            if (redeliveryScheduler == null || redeliveryScheduler.getExecutor() != executorService) {
+                // the scheduler is shared by the error handlers which use the same executor service
+                redeliveryScheduler = HashedTimingWheelScheduler.resolve(camelContext, executorService);
+            }
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Using ExecutorService: {} for redeliveries on error handler: {}", executorService, this);
             }
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements a load balancing policy which chooses the processor which is the least busy, based on the number of
+ * inflight exchanges and the response times of each processor.
+ * <p/>
+ * For each exchange two processors are picked at random, and the processor with the lowest cost is chosen (power of two
+ * choices). The cost of a processor is its moving average of the response times multiplied by its number of inflight
+ * exchanges (plus one). The moving average reacts immediately to a slower response (peak) and otherwise decays towards
+ * the response times over the decay time. A processor which has not been chosen for a while has its average decayed as
+ * well, so a processor which has recovered from being slow gets traffic again.
+ */
+public class LeastInflightLoadBalancer extends LoadBalancerSupport {
+
+    public static final long DEFAULT_DECAY_TIME = 10000;
+
+    // the cost of a busy processor which has no response times yet (one minute in nanos)
+    private static final double PENALTY = 60_000_000_000d;
+
+    private final Map<AsyncProcessor, ProcessorStatistics> statistics = new ConcurrentHashMap<>();
+    private final AtomicInteger lastChosenIndex = new AtomicInteger(-1);
+    private long decayTime = DEFAULT_DECAY_TIME;
+    private double decayTimeNanos = DEFAULT_DECAY_TIME * 1_000_000d;
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (list.length == 0) {
+            // no processors but indicate we are done
+            callback.done(false);
+            return false;
+        }
+
+        long now = System.nanoTime();
+        int index = chooseProcessor(list, now);
+        lastChosenIndex.set(index);
+        AsyncProcessor processor = list[index];
+        ProcessorStatistics stats = getStatistics(processor);
+        stats.inflight.incrementAndGet();
+        stats.chosen.increment();
+        processor.process(exchange, doneSync -> {
+            stats.inflight.decrementAndGet();
+            stats.onResponse(System.nanoTime() - now);
+            callback.done(false);
+        });
+        return false;
+    }
+
+    private int chooseProcessor(AsyncProcessor[] processors, long now) {
+        int size = processors.length;
+        if (size == 1) {
+            return 0;
+        }
+        int a;
+        int b;
+        if (size == 2) {
+            a = 0;
+            b = 1;
+        } else {
+            // pick two different processors at random
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            a = random.nextInt(size);
+            b = random.nextInt(size - 1);
+            if (b >= a) {
+                b++;
+            }
+        }
+        double costA = getStatistics(processors[a]).cost(now);
+        double costB = getStatistics(processors[b]).cost(now);
+        if (costA == costB) {
+            return ThreadLocalRandom.current().nextBoolean() ? a : b;
+        }
+        return costA < costB ? a : b;
+    }
+
+    private ProcessorStatistics getStatistics(AsyncProcessor processor) {
+        ProcessorStatistics answer = statistics.get(processor);
+        if (answer == null) {
+            answer = statistics.computeIfAbsent(processor, p -> new ProcessorStatistics());
+        }
+        return answer;
+    }
+
+    public long getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * The time in millis over which the moving average of the response times decays.
+     */
+    public void setDecayTime(long decayTime) {
+        if (decayTime <= 0) {
+            throw new IllegalArgumentException("DecayTime must be positive, was: " + decayTime);
+        }
+        this.decayTime = decayTime;
+        this.decayTimeNanos = decayTime * 1_000_000d;
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return lastChosenIndex.get();
+    }
+
+    /**
+     * Number of inflight exchanges of the processor at the given index
+     */
+    public int getInflight(int index) {
+        ProcessorStatistics stats = statisticsAt(index);
+        return stats != null ? stats.inflight.get() : 0;
+    }
+
+    /**
+     * Number of times the processor at the given index has been chosen
+     */
+    public long getChosen(int index) {
+        ProcessorStatistics stats = statisticsAt(index);
+        return stats != null ? stats.chosen.sum() : 0;
+    }
+
+    /**
+     * The moving average of the response times in millis of the processor at the given index
+     */
+    public double getAverageResponseTime(int index) {
+        ProcessorStatistics stats = statisticsAt(index);
+        return stats != null ? stats.average(System.nanoTime()) / 1_000_000d : 0;
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void reset() {
+        statistics.clear();
+        lastChosenIndex.set(-1);
+    }
+
+    private ProcessorStatistics statisticsAt(int index) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (index < 0 || index >= list.length) {
+            return null;
+        }
+        return statistics.get(list[index]);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        statistics.clear();
+    }
+
+    private final class ProcessorStatistics {
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final LongAdder chosen = new LongAdder();
+        // the moving average of the response times in nanos (guarded by this)
+        private double average;
+        private long lastUpdate = System.nanoTime();
+
+        synchronized void onResponse(long responseTime) {
+            long now = System.nanoTime();
+            if (responseTime > average) {
+                // react immediately to a slower response
+                average = responseTime;
+            } else {
+                double weight = Math.exp(-(now - lastUpdate) / decayTimeNanos);
+                average = average * weight + responseTime * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        synchronized double average(long now) {
+            // the average decays while there are no responses
+            long elapsed = Math.max(0, now - lastUpdate);
+            return average * Math.exp(-elapsed / decayTimeNanos);
+        }
+
+        double cost(long now) {
+            double avg = average(now);
+            int pending = inflight.get();
+            if (avg == 0 && pending > 0) {
+                // no response times yet but busy, so avoid sending everything to a processor which may be stuck
+                return PENALTY + pending;
+            }
+            // add one so the inflight exchanges are considered also before there are any response times
+            return (avg + 1) * (pending + 1);
+        }
+    }
+}
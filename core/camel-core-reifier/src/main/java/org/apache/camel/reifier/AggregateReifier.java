@@ -194,6 +194,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (completeAllOnStop != null) {
             answer.setCompleteAllOnStop(completeAllOnStop);
         }
+        Integer lockStripes = parseInt(definition.getLockStripes());
+        if (lockStripes != null) {
+            answer.setLockStripes(lockStripes);
+        }
         if (definition.getOptimisticLockRetryPolicy() == null) {
             if (definition.getOptimisticLockRetryPolicyDefinition() != null) {
                 answer.setOptimisticLockRetryPolicy(
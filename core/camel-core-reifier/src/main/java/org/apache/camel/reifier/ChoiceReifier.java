@@ -27,6 +27,7 @@ import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.WhenDefinition;
 import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.processor.ChoiceLookupTable;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.DisabledProcessor;
 import org.apache.camel.processor.FilterProcessor;
@@ -82,7 +83,14 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
                 otherwiseProcessor = createOutputsProcessor(definition.getOtherwise().getOutputs());
             }
         }
-        return new ChoiceProcessor(filters, otherwiseProcessor);
+        // when all the when clauses test whether the same expression is equal to a constant value,
+        // then the matching when clause can be looked up instead of evaluating the predicates one by one
+        ChoiceLookupTable lookupTable = ChoiceLookupTable.create(filters);
+        if (lookupTable != null) {
+            LOG.debug("Choice using lookup table with {} values of expression: {}", lookupTable.size(),
+                    lookupTable.getExpressionKey());
+        }
+        return new ChoiceProcessor(filters, otherwiseProcessor, lookupTable);
     }
 
     /**
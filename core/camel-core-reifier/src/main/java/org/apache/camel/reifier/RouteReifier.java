@@ -33,8 +33,8 @@ import org.apache.camel.FailedToCreateRouteException;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RouteAware;
+import org.apache.camel.RouteTemplateContext;
 import org.apache.camel.RuntimeCamelException;
-import org.apache.camel.Service;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.ShutdownRoute;
 import org.apache.camel.ShutdownRunningTask;
@@ -385,22 +385,7 @@ public class RouteReifier extends ProcessorReifier<RouteDefinition> {
 
         if (definition.getRouteTemplateContext() != null) {
             // make route stop beans from the local repository (route templates / kamelets)
-            Service wrapper = new ServiceSupport() {
-                @Override
-                protected void doStop() throws Exception {
-                    close();
-                }
-
-                @Override
-                public void close() throws IOException {
-                    BeanRepository repo = definition.getRouteTemplateContext().getLocalBeanRepository();
-                    if (repo instanceof Closeable obj) {
-                        IOHelper.close(obj);
-                    }
-                    super.close();
-                }
-            };
-            route.addService(wrapper, true);
+            route.addService(new LocalBeanRepositoryService(definition.getRouteTemplateContext()), true);
         }
 
         return route;
@@ -490,4 +475,31 @@ public class RouteReifier extends ProcessorReifier<RouteDefinition> {
 
     }
 
+    /**
+     * Closes the beans from the local repository of the route template context when the route is stopped.
+     * <p/>
+     * This does not refer to the route model, so the model can be released when the route has been created.
+     */
+    private static final class LocalBeanRepositoryService extends ServiceSupport {
+
+        private final RouteTemplateContext routeTemplateContext;
+
+        private LocalBeanRepositoryService(RouteTemplateContext routeTemplateContext) {
+            this.routeTemplateContext = routeTemplateContext;
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            close();
+        }
+
+        @Override
+        public void close() throws IOException {
+            BeanRepository repo = routeTemplateContext.getLocalBeanRepository();
+            if (repo instanceof Closeable obj) {
+                IOHelper.close(obj);
+            }
+            super.close();
+        }
+    }
 }
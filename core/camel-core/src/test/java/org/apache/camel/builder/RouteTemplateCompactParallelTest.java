@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.model.RouteDefinition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RouteTemplateCompactParallelTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.setCompactTemplatedRoutes(true);
+        return context;
+    }
+
+    @Test
+    public void testCompactTemplatedRoutesWithParallelRouteStartup() throws Exception {
+        getMockEndpoint("mock:cheese").expectedBodiesReceived("Hello Cheese");
+        getMockEndpoint("mock:cake").expectedBodiesReceived("Hello Cake");
+        getMockEndpoint("mock:parallel").expectedBodiesReceived("Hello Parallel");
+        getMockEndpoint("mock:plain").expectedBodiesReceived("Hello Plain");
+
+        assertEquals(5, context.getRoutes().size());
+        assertNotNull(context.getRouteDefinition("plain"));
+        assertNotNull(context.getRouteDefinition("plain2"));
+        // the routes created from the template, and created in parallel, have released their model
+        assertNull(context.getRouteDefinition("first"));
+        assertNull(context.getRouteDefinition("second"));
+        assertNull(context.getRouteDefinition("parallel"));
+        assertNull(context.getRoute("parallel").getRoute());
+
+        template.sendBody("direct:one", "Hello Cheese");
+        template.sendBody("direct:two", "Hello Cake");
+        template.sendBody("direct:parallel", "Hello Parallel");
+        template.sendBody("direct:plain", "Hello Plain");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                routeTemplate("myTemplate").templateParameter("foo").templateParameter("bar")
+                        .from("direct:{{foo}}")
+                        .to("mock:{{bar}}");
+
+                templatedRoute("myTemplate").routeId("first").parameter("foo", "one").parameter("bar", "cheese");
+                templatedRoute("myTemplate").routeId("second").parameter("foo", "two").parameter("bar", "cake");
+
+                from("direct:plain").routeId("plain").to("mock:plain");
+                from("direct:plain2").routeId("plain2").to("mock:plain");
+
+                // a route created from a template without template parameters is created in parallel with the other routes
+                RouteDefinition route = from("direct:parallel").routeId("parallel").to("mock:parallel");
+                route.setTemplate(true);
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.ModelLifecycleStrategySupport;
+import org.apache.camel.model.RouteDefinition;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RouteTemplateCompactTest extends ContextTestSupport {
+
+    private final List<WeakReference<RouteDefinition>> definitions = new ArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        ModelCamelContext context = (ModelCamelContext) super.createCamelContext();
+        context.setCompactTemplatedRoutes(true);
+        context.addModelLifecycleStrategy(new ModelLifecycleStrategySupport() {
+            @Override
+            public void onAddRouteDefinition(RouteDefinition definition) {
+                if (Boolean.TRUE.equals(definition.isTemplate())) {
+                    definitions.add(new WeakReference<>(definition));
+                }
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testCompactTemplatedRoutes() throws Exception {
+        getMockEndpoint("mock:cheese").expectedBodiesReceived("Hello Cheese");
+        getMockEndpoint("mock:cake").expectedBodiesReceived("Hello Cake");
+
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("first")
+                .parameter("foo", "one").parameter("bar", "cheese").add();
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("second")
+                .parameter("foo", "two").parameter("bar", "cake").add();
+
+        // the routes created from the template have released their model
+        assertEquals(3, context.getRoutes().size());
+        assertEquals(1, context.getRouteDefinitions().size());
+        assertNotNull(context.getRouteDefinition("plain"));
+        assertNull(context.getRouteDefinition("first"));
+        assertNull(context.getRoute("first").getRoute());
+        assertNull(context.getRoute("second").getRoute());
+
+        template.sendBody("direct:one", "Hello Cheese");
+        template.sendBody("direct:two", "Hello Cake");
+
+        assertMockEndpointsSatisfied();
+
+        // and the model can be garbage collected
+        assertEquals(2, definitions.size());
+        await().atMost(10, TimeUnit.SECONDS).until(() -> {
+            System.gc();
+            return definitions.stream().allMatch(r -> r.get() == null);
+        });
+    }
+
+    @Test
+    public void testStopStartAndRemoveCompactRoute() throws Exception {
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("first")
+                .parameter("foo", "one").parameter("bar", "cheese").add();
+
+        context.getRouteController().stopRoute("first");
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("first").name());
+        context.getRouteController().startRoute("first");
+        assertEquals("Started", context.getRouteController().getRouteStatus("first").name());
+
+        getMockEndpoint("mock:cheese").expectedBodiesReceived("Hello Cheese");
+        template.sendBody("direct:one", "Hello Cheese");
+        assertMockEndpointsSatisfied();
+
+        context.getRouteController().stopRoute("first");
+        context.removeRoute("first");
+        assertNull(context.getRoute("first"));
+
+        // the route can be created again with the same id
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("first")
+                .parameter("foo", "one").parameter("bar", "cheese").add();
+        assertEquals("Started", context.getRouteController().getRouteStatus("first").name());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                routeTemplate("myTemplate").templateParameter("foo").templateParameter("bar")
+                        .from("direct:{{foo}}")
+                        .onException(Exception.class).handled(true).to("log:error").end()
+                        .setHeader("foo", constant("{{foo}}"))
+                        .log("${body}")
+                        .choice().when(header("foo").isEqualTo("x")).to("log:x").otherwise().to("log:y").end()
+                        .split(body().tokenize(",")).to("log:split").end()
+                        .doTry().to("log:try").doCatch(Exception.class).to("log:catch").end()
+                        .filter(simple("${body} contains 'Hello'"))
+                        .to("mock:{{bar}}");
+
+                from("direct:plain").routeId("plain").to("mock:plain");
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.ScheduledPollConsumer;
+import org.apache.camel.support.SharedPollScheduler;
+import org.apache.camel.support.SharedScheduledPollConsumerScheduler;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerSharedSchedulerTest extends ContextTestSupport {
+
+    @Test
+    public void testSharedScheduler() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader(fileUri("idle"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        SharedPollScheduler sps = context.getCamelContextExtension().getContextPlugin(SharedPollScheduler.class);
+        assertNotNull(sps);
+        assertTrue(sps.isStarted());
+        // the batch route is not started
+        assertEquals(1, sps.getSchedulers().size());
+        assertEquals(10, scheduler("idle").getDelay());
+    }
+
+    @Test
+    public void testIdleBackoff() throws Exception {
+        SharedScheduledPollConsumerScheduler scheduler = scheduler("idle");
+
+        // the delay is increased up to 4 times the delay when there is no files
+        await().atMost(10, TimeUnit.SECONDS).until(() -> scheduler.getCurrentDelay() == 40);
+        assertTrue(scheduler.getIdlePollCounter() >= 2);
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        template.sendBodyAndHeader(fileUri("idle"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        assertMockEndpointsSatisfied();
+
+        // and the delay is reset when there are files again
+        await().atMost(10, TimeUnit.SECONDS).until(() -> scheduler.getCurrentDelay() < 40);
+    }
+
+    @Test
+    public void testFullBatch() throws Exception {
+        getMockEndpoint("mock:batch").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader(fileUri("batch"), "Message " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+
+        // each poll only picks up 1 file, so the polls are full batches
+        SharedScheduledPollConsumerScheduler scheduler = scheduler("batch");
+        assertTrue(scheduler.getFullPollCounter() >= 4, "Should be full polls: " + scheduler.getFullPollCounter());
+    }
+
+    private SharedScheduledPollConsumerScheduler scheduler(String routeId) {
+        ScheduledPollConsumer consumer = (ScheduledPollConsumer) context.getRoute(routeId).getConsumer();
+        return assertInstanceOf(SharedScheduledPollConsumerScheduler.class, consumer.getScheduler());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("idle?scheduler=shared&scheduler.maxIdleMultiplier=4&initialDelay=0&delay=10"))
+                        .routeId("idle").convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("batch?scheduler=shared&maxMessagesPerPoll=1&initialDelay=0&delay=1000"))
+                        .routeId("batch").autoStartup(false).to("mock:batch");
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchSizeTest extends ContextTestSupport {
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+        // a single consumer processes the batches in order
+        for (int i = 0; i < 100; i++) {
+            mock.message(i).body().isEqualTo("Message " + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:foo?batchSize=10", "Message " + i);
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(10);
+
+        AtomicInteger done = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            template.send("seda:bar?batchSize=10&batchGrouped=true", e -> {
+                e.getMessage().setBody("Message");
+                e.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        done.incrementAndGet();
+                    }
+                });
+            });
+        }
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getExchanges()) {
+            List<?> batch = exchange.getMessage().getBody(List.class);
+            assertEquals(10, batch.size());
+            assertEquals(10, exchange.getProperty(Exchange.BATCH_SIZE));
+        }
+        // the on completions of the grouped exchanges are done after the mock has received the batch
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(100, done.get()));
+    }
+
+    @Test
+    public void testBatchSizeInOut() throws Exception {
+        getMockEndpoint("mock:inout").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Bye " + i, template.requestBody("seda:baz?batchSize=10", "" + i));
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?batchSize=10").routeId("foo").autoStartup(false).to("mock:result");
+
+                from("seda:bar?batchSize=10&batchGrouped=true").routeId("bar").autoStartup(false).to("mock:grouped");
+
+                from("seda:baz?batchSize=10").transform(simple("Bye ${body}")).to("mock:inout");
+            }
+        };
+    }
+}
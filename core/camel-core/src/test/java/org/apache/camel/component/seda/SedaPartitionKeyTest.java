@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaPartitionKeyTest extends ContextTestSupport {
+
+    private static final int KEYS = 10;
+    private static final int MESSAGES = 200;
+
+    private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final List<Integer> processed = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testOrderPerKey() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(MESSAGES);
+
+        for (int i = 0; i < MESSAGES; i++) {
+            template.sendBodyAndHeader("seda:foo", i, "key", "key-" + i % KEYS);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(KEYS, received.size());
+        for (Map.Entry<String, List<Integer>> entry : received.entrySet()) {
+            List<Integer> numbers = entry.getValue();
+            assertEquals(MESSAGES / KEYS, numbers.size());
+            for (int i = 1; i < numbers.size(); i++) {
+                assertTrue(numbers.get(i - 1) < numbers.get(i), "Messages should be in order for " + entry.getKey());
+            }
+            // the messages with the same key are processed by the same thread
+            assertEquals(1, threads.get(entry.getKey()).size());
+        }
+
+        // and the keys are spread over the concurrent consumers
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        threads.values().forEach(names::addAll);
+        assertTrue(names.size() > 1, "Should use several consumer threads, was: " + names);
+    }
+
+    @Test
+    public void testInOut() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, template.requestBodyAndHeader("seda:foo", i, "key", "key-" + i));
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStopRouteCompletesPendingMessages() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(50);
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBodyAndHeader("seda:foo", i, "key", "key-" + i % KEYS);
+        }
+        // the messages which have been handed over to the consumer threads must also be processed
+        context.getRouteController().stopRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testForcedStopKeepsPartitionedMessages() throws Exception {
+        SedaEndpoint endpoint = context.getEndpoint("seda:bar", SedaEndpoint.class);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("seda:bar", i, "key", "same");
+        }
+        // the first message blocks the consumer thread of the partition, so the others wait in the partition
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().isEmpty());
+
+        // force stopping the route, as the first message does not complete in time
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("bar").getConsumer();
+        CompletableFuture<Void> stop = CompletableFuture.runAsync(() -> {
+            try {
+                context.getRouteController().stopRoute("bar", 500, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !consumer.isRunAllowed());
+        // the consumer threads stop when the first message completes, so the others are left in the partition
+        blocked.countDown();
+        stop.get(5, TimeUnit.SECONDS);
+
+        // the messages in the partition are put back on the queue
+        List<Integer> bodies = new ArrayList<>();
+        for (Exchange exchange : endpoint.getQueue()) {
+            bodies.add(exchange.getMessage().getBody(Integer.class));
+        }
+        Collections.sort(bodies);
+        assertEquals(List.of(1, 2, 3, 4), bodies);
+
+        context.getRouteController().startRoute("bar");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> processed.containsAll(List.of(1, 2, 3, 4)));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?concurrentConsumers=4&partitionKey=${header.key}").routeId("foo")
+                        .process(e -> {
+                            String key = e.getMessage().getHeader("key", String.class);
+                            received.computeIfAbsent(key, k -> new ArrayList<>()).add(e.getMessage().getBody(int.class));
+                            threads.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet())
+                                    .add(Thread.currentThread().getName());
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                        })
+                        .to("mock:result");
+
+                from("seda:bar?concurrentConsumers=2&partitionKey=${header.key}").routeId("bar")
+                        .process(e -> {
+                            int body = e.getMessage().getBody(int.class);
+                            if (body == 0) {
+                                started.countDown();
+                                blocked.await();
+                            }
+                            processed.add(body);
+                        });
+            }
+        };
+    }
+}
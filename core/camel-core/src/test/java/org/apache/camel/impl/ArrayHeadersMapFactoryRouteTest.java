@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.apache.camel.util.CaseInsensitiveArrayMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class ArrayHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new ArrayHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testArrayHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+        getMockEndpoint("mock:result").expectedHeaderReceived(Exchange.FILE_NAME, "hello.txt");
+
+        template.sendBodyAndHeader("direct:start", "Hello World", "foo", 123);
+
+        assertMockEndpointsSatisfied();
+
+        Exchange exchange = getMockEndpoint("mock:result").getReceivedExchanges().get(0);
+        assertInstanceOf(CaseInsensitiveArrayMap.class, exchange.getMessage().getHeaders());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("FOO", constant(456))
+                        .setHeader("Bar", constant("yes"))
+                        .setHeader("camelFileName", constant("hello.txt"))
+                        .to("log:foo")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
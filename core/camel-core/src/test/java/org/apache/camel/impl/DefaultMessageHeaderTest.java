@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Map;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.support.DefaultExchange;
@@ -300,4 +302,60 @@ public class DefaultMessageHeaderTest {
         assertEquals(Integer.valueOf(123), msg.getHeader("beer", "123", Integer.class));
     }
 
+    @Test
+    public void testSharedHeaders() {
+        DefaultMessage msg = new DefaultMessage(camelContext);
+        msg.setHeader("foo", "cheese");
+        msg.setHeader("bar", "beer");
+        msg.shareHeaders();
+
+        Message copy = msg.copy();
+        Message copy2 = msg.copy();
+        assertEquals("cheese", copy.getHeader("FOO"));
+        assertEquals("beer", copy2.getHeader("Bar"));
+        assertTrue(copy.hasHeaders());
+
+        // changing a copy only changes its own headers
+        copy.setHeader("foo", "wine");
+        copy2.removeHeader("bar");
+        assertNull(copy2.removeHeader("unknown"));
+
+        assertEquals("wine", copy.getHeader("foo"));
+        assertEquals("beer", copy.getHeader("bar"));
+        assertEquals("cheese", copy2.getHeader("foo"));
+        assertNull(copy2.getHeader("bar"));
+        assertEquals("cheese", msg.getHeader("foo"));
+        assertEquals("beer", msg.getHeader("bar"));
+
+        // copies of copies share the headers as well
+        Message copy3 = msg.copy().copy();
+        copy3.removeHeaders("*");
+        assertFalse(copy3.hasHeaders());
+        assertEquals("beer", msg.getHeader("bar"));
+
+        // reset must not clear the shared headers
+        Message copy4 = msg.copy();
+        copy4.reset();
+        assertFalse(copy4.hasHeaders());
+        assertEquals("cheese", msg.copy().getHeader("foo"));
+    }
+
+    @Test
+    public void testSharedHeadersCopyIntoExistingHeaders() {
+        DefaultMessage msg = new DefaultMessage(camelContext);
+        msg.setHeader("foo", "cheese");
+        msg.shareHeaders();
+
+        Message other = new DefaultMessage(camelContext);
+        other.setHeader("bar", "beer");
+        Map<String, Object> headers = other.getHeaders();
+        other.copyFrom(msg);
+
+        // keeps its own headers
+        assertSame(headers, other.getHeaders());
+        assertEquals("cheese", other.getHeader("foo"));
+        assertNull(other.getHeader("bar"));
+        assertNull(msg.getHeader("bar"));
+    }
+
 }
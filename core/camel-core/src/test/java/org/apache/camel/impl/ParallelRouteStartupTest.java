@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Route;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.RoutesBuilderLoaderSupport;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelRouteStartupTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        context.getRegistry().bind("routes-builder-loader-test", new TestRoutesBuilderLoader());
+        return context;
+    }
+
+    @Test
+    public void testCreateRoutesInParallel() throws Exception {
+        // the routes are added in the same order as when created one by one, and the route from the template is last
+        List<Route> routes = context.getRoutes();
+        assertEquals(ROUTES + 1, routes.size());
+        for (int i = 0; i < ROUTES; i++) {
+            assertEquals("direct://start" + i, routes.get(i).getEndpoint().getEndpointUri());
+        }
+        assertEquals("myTemplatedRoute", routes.get(ROUTES).getRouteId());
+
+        // the routes use the same endpoint
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(ROUTES + 1);
+        for (Route route : routes) {
+            assertSame(mock, route.getCamelContext().hasEndpoint("mock://result"));
+            template.sendBody(route.getEndpoint(), "Hello");
+        }
+        assertMockEndpointsSatisfied();
+
+        // the routes are created by the pool threads as sub steps of the parallel step
+        StartupStep parallel = findStep("Create " + ROUTES + " Routes In Parallel");
+        List<StartupStep> created = steps().stream()
+                .filter(s -> "Create Route".equals(s.getDescription()) && s.getParentId() == parallel.getId())
+                .collect(Collectors.toList());
+        assertEquals(ROUTES, created.size());
+        for (StartupStep step : created) {
+            assertEquals(parallel.getLevel() + 1, step.getLevel());
+        }
+    }
+
+    @Test
+    public void testLoadRoutesInParallel() throws Exception {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            resources.add(ResourceHelper.fromString("route" + i + ".test", "direct:load" + i));
+        }
+        Collection<RoutesBuilder> builders = PluginHelper.getRoutesLoader(context).findRoutesBuilders(resources);
+
+        // the builders are in the same order as the resources
+        List<String> uris = builders.stream().map(b -> ((TestRouteBuilder) b).uri).collect(Collectors.toList());
+        assertEquals(List.of("direct:load0", "direct:load1", "direct:load2", "direct:load3", "direct:load4"), uris);
+        for (RoutesBuilder builder : builders) {
+            assertTrue(((TestRouteBuilder) builder).thread.contains("ParallelRouteStartup"));
+        }
+
+        assertNotNull(findStep("Load 5 Route Resources In Parallel"));
+    }
+
+    private List<StartupStep> steps() {
+        return context.getCamelContextExtension().getStartupStepRecorder().steps().collect(Collectors.toList());
+    }
+
+    private StartupStep findStep(String description) {
+        return steps().stream().filter(s -> description.equals(s.getDescription())).findFirst().orElseThrow();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:start" + i)
+                            .setHeader("route", constant(i))
+                            .filter(header("route").isGreaterThanOrEqualTo(0))
+                            .to("mock:result");
+                }
+
+                routeTemplate("myTemplate").templateParameter("name")
+                        .from("direct:{{name}}")
+                        .to("mock:result");
+
+                templatedRoute("myTemplate").routeId("myTemplatedRoute").parameter("name", "templated");
+            }
+        };
+    }
+
+    private static final class TestRoutesBuilderLoader extends RoutesBuilderLoaderSupport {
+
+        @Override
+        public String getSupportedExtension() {
+            return "test";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            return new TestRouteBuilder(IOHelper.loadText(resource.getInputStream()).trim(), Thread.currentThread().getName());
+        }
+    }
+
+    private static final class TestRouteBuilder extends RouteBuilder {
+
+        private final String uri;
+        private final String thread;
+
+        private TestRouteBuilder(String uri, String thread) {
+            this.uri = uri;
+            this.thread = thread;
+        }
+
+        @Override
+        public void configure() {
+            from(uri).to("mock:result");
+        }
+    }
+}
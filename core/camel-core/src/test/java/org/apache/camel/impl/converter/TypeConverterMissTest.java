@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TypeConverterMissTest extends ContextTestSupport {
+
+    @Test
+    public void testMissThenAddTypeConverter() {
+        assertNull(context.getTypeConverter().convertTo(Country.class, "en"));
+        assertNull(context.getTypeConverter().convertTo(Country.class, "en"));
+
+        // the previous miss should not be remembered when a type converter is added
+        context.getTypeConverterRegistry().addTypeConverters(new MyConverters());
+
+        Country country = context.getTypeConverter().convertTo(Country.class, "en");
+        assertNotNull(country);
+        assertEquals("England", country.getName());
+    }
+
+    @Test
+    public void testMissThenAddFallbackTypeConverter() {
+        assertNull(context.getTypeConverter().convertTo(Country.class, "en"));
+
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new CountryFallbackConverter(), false);
+
+        Country country = context.getTypeConverter().convertTo(Country.class, "en");
+        assertNotNull(country);
+        assertEquals("England", country.getName());
+    }
+
+    @Test
+    public void testFallbackTypeConverterDependsOnValue() {
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new CountryFallbackConverter(), false);
+
+        // the fallback converter can only convert some values, so it must still be used after a miss
+        assertNull(context.getTypeConverter().convertTo(Country.class, "xx"));
+        assertNull(context.getTypeConverter().convertTo(Country.class, "xx"));
+
+        Country country = context.getTypeConverter().convertTo(Country.class, "en");
+        assertNotNull(country);
+        assertEquals("England", country.getName());
+    }
+
+    private static class CountryFallbackConverter extends TypeConverterSupport {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            if (type != Country.class) {
+                return null;
+            }
+            if (!"en".equals(value)) {
+                // it cannot be converted so give up
+                return (T) MISS_VALUE;
+            }
+            Country answer = new Country();
+            answer.setIso("en");
+            answer.setName("England");
+            return (T) answer;
+        }
+    }
+}
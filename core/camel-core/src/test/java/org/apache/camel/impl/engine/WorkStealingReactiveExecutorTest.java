@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(2);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testContinuationHandedOverToPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the continuation after the async processor is routed by a thread of the pool
+        String thread = mock.getReceivedExchanges().get(0).getProperty("routingThread", String.class);
+        assertTrue(thread.contains("ReactiveExecutor"), "Should be thread of the pool: " + thread);
+
+        WorkStealingReactiveExecutor executor = assertInstanceOf(WorkStealingReactiveExecutor.class,
+                context.getCamelContextExtension().getReactiveExecutor());
+        assertEquals(2, executor.getParallelism());
+        assertTrue(executor.getHandedOverTasks() > 0);
+    }
+
+    @Test
+    public void testSynchronousRoutingStaysOnThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:sync");
+        mock.expectedBodiesReceived("Bye World");
+
+        template.sendBody("direct:sync", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        String thread = mock.getReceivedExchanges().get(0).getProperty("routingThread", String.class);
+        assertEquals(Thread.currentThread().getName(), thread);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .process(new MyIoProcessor())
+                        .process(e -> e.setProperty("routingThread", Thread.currentThread().getName()))
+                        .to("mock:result");
+
+                from("direct:sync")
+                        .setHeader("foo", constant("bar"))
+                        .process(e -> e.setProperty("routingThread", Thread.currentThread().getName()))
+                        .to("mock:sync");
+            }
+        };
+    }
+
+    /**
+     * Completes the exchange asynchronously from another thread, like an I/O thread of an asynchronous client
+     */
+    private static class MyIoProcessor extends AsyncProcessorSupport {
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            Thread thread = new Thread(() -> callback.done(false), "MyIoThread");
+            thread.start();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.Map;
+
+import org.apache.camel.Expression;
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleConstantOperandTest extends LanguageTestSupport {
+
+    private static final Object[] LEFT_VALUES = {
+            "5", "7", "-3", "5.0", "5.5", "6.25", "abc", "", "true", "99999999999999999999",
+            5, 7, 5L, 7L, 5000000000L, 5.5d, Boolean.TRUE };
+
+    private static final Map<String, Object> RIGHT_VALUES = Map.of(
+            "'5'", "5", "'5.5'", "5.5", "'abc'", "abc", "'true'", "true",
+            "5", 5, "5000000000", 5000000000L);
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+
+    @Test
+    public void testCompareWithConstant() {
+        // the constant right hand side is converted up front, which must give the same result as without
+        for (String operator : new String[] { "==", "!=", ">", ">=", "<", "<=" }) {
+            for (Map.Entry<String, Object> right : RIGHT_VALUES.entrySet()) {
+                for (Object left : LEFT_VALUES) {
+                    exchange.getIn().setHeader("left", left);
+
+                    String text = "${header.left} " + operator + " " + right.getKey();
+                    Predicate expected = createPredicate(operator, left, right.getValue());
+                    Predicate predicate = context.resolveLanguage("simple").createPredicate(text);
+
+                    Boolean expectedResult = matches(expected);
+                    Boolean result = matches(predicate);
+                    assertEquals(expectedResult, result, text + " with left value: " + left);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompareWithNull() {
+        exchange.getIn().setHeader("left", null);
+
+        assertPredicate("${header.left} == 'abc'", false);
+        assertPredicate("${header.left} != 'abc'", true);
+        assertPredicate("${header.left} > 5", false);
+        assertPredicate("${header.left} <= 5", false);
+    }
+
+    @Test
+    public void testConstantFolding() {
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("'abc' == 'abc'");
+        // the result is known so the exchange is not used
+        assertTrue(predicate.matches(null));
+
+        predicate = context.resolveLanguage("simple").createPredicate("'10' > 20");
+        assertFalse(predicate.matches(null));
+
+        predicate = context.resolveLanguage("simple").createPredicate("'1' == 2 && ${header.foo} == 'abc'");
+        assertFalse(predicate.matches(null));
+
+        predicate = context.resolveLanguage("simple").createPredicate("'1' == 1 || ${header.foo} == 'abc'");
+        assertTrue(predicate.matches(null));
+
+        assertPredicate("${header.foo} == 'abc' && '1' == 1", true);
+        assertPredicate("${header.foo} == 'abc' && '1' == 2", false);
+        assertPredicate("${header.foo} == 'def' || '1' == 1", true);
+    }
+
+    @Test
+    public void testConstantRightOperand() {
+        assertPredicate("${header.foo} regex '^a.*'", true);
+        assertPredicate("${header.foo} !regex '^a.*'", false);
+        assertPredicate("${header.foo} in 'xyz,abc'", true);
+        assertPredicate("${header.foo} !in 'xyz,def'", true);
+        assertPredicate("${header.bar} range '100..200'", true);
+        assertPredicate("${header.bar} !range '100..200'", false);
+        assertPredicate("${header.foo} is 'String'", true);
+        assertPredicate("${header.foo} !is 'Integer'", true);
+
+        // the predicate can be created, but fails when evaluated as before
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${header.foo} is 'com.foo.Unknown'");
+        assertThrows(SimpleIllegalSyntaxException.class, () -> predicate.matches(exchange));
+    }
+
+    private Boolean matches(Predicate predicate) {
+        try {
+            return predicate.matches(exchange);
+        } catch (RuntimeException e) {
+            // the same values must fail
+            return null;
+        }
+    }
+
+    private static Predicate createPredicate(String operator, Object left, Object right) {
+        Expression leftExp = ExpressionBuilder.constantExpression(left);
+        Expression rightExp = ExpressionBuilder.constantExpression(right);
+        return switch (operator) {
+            case "==" -> PredicateBuilder.isEqualTo(leftExp, rightExp);
+            case "!=" -> PredicateBuilder.isNotEqualTo(leftExp, rightExp);
+            case ">" -> PredicateBuilder.isGreaterThan(leftExp, rightExp);
+            case ">=" -> PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp);
+            case "<" -> PredicateBuilder.isLessThan(leftExp, rightExp);
+            default -> PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp);
+        };
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChoiceLookupTableTest extends ContextTestSupport {
+
+    @Test
+    public void testLookupText() throws Exception {
+        ChoiceProcessor choice = context.getProcessor("text", ChoiceProcessor.class);
+        assertNotNull(choice.getLookupTable());
+        assertEquals("simple:header.type", choice.getLookupTable().getExpressionKey());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("1", "5");
+        getMockEndpoint("mock:b").expectedBodiesReceived("2");
+        getMockEndpoint("mock:c").expectedBodiesReceived("3");
+        getMockEndpoint("mock:other").expectedBodiesReceived("4", "6");
+
+        template.sendBodyAndHeader("direct:text", "1", "type", "A");
+        template.sendBodyAndHeader("direct:text", "2", "type", "B");
+        template.sendBodyAndHeader("direct:text", "3", "type", "C");
+        template.sendBodyAndHeader("direct:text", "4", "type", "D");
+        // the first when clause wins for duplicate values
+        template.sendBodyAndHeader("direct:text", "5", "type", "A");
+        template.sendBody("direct:text", "6");
+
+        assertMockEndpointsSatisfied();
+
+        // the statistics of the when clauses are kept
+        assertEquals(2, choice.getFilters().get(0).getFilteredCount());
+        assertEquals(1, choice.getFilters().get(1).getFilteredCount());
+        assertEquals(1, choice.getFilters().get(2).getFilteredCount());
+        assertEquals(0, choice.getFilters().get(3).getFilteredCount());
+        assertEquals(2, choice.getNotFilteredCount());
+    }
+
+    @Test
+    public void testLookupNumber() throws Exception {
+        ChoiceProcessor choice = context.getProcessor("number", ChoiceProcessor.class);
+        assertNotNull(choice.getLookupTable());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("1", "2", "3");
+        getMockEndpoint("mock:b").expectedBodiesReceived("4", "5");
+        getMockEndpoint("mock:other").expectedBodiesReceived("6", "7");
+
+        template.sendBodyAndHeader("direct:number", "1", "code", 200);
+        template.sendBodyAndHeader("direct:number", "2", "code", "200");
+        template.sendBodyAndHeader("direct:number", "3", "code", "0200");
+        template.sendBodyAndHeader("direct:number", "4", "code", "404");
+        template.sendBodyAndHeader("direct:number", "5", "code", 404L);
+        template.sendBodyAndHeader("direct:number", "6", "code", 500);
+        template.sendBodyAndHeader("direct:number", "7", "code", "abc");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testNoLookupForOtherPredicates() throws Exception {
+        // the when clauses do not all test the same header
+        ChoiceProcessor choice = context.getProcessor("mixed", ChoiceProcessor.class);
+        assertNull(choice.getLookupTable());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("1");
+        getMockEndpoint("mock:b").expectedBodiesReceived("2");
+        getMockEndpoint("mock:other").expectedBodiesReceived("3");
+
+        template.sendBodyAndHeader("direct:mixed", "1", "type", "A");
+        template.sendBodyAndHeader("direct:mixed", "2", "kind", "B");
+        template.sendBodyAndHeader("direct:mixed", "3", "type", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:text")
+                        .choice().id("text")
+                        .when(simple("${header.type} == 'A'")).to("mock:a")
+                        .when(simple("${header.type} == 'B'")).to("mock:b")
+                        .when(simple("${header.type} == 'C'")).to("mock:c")
+                        .when(simple("${header.type} == 'A'")).to("mock:c")
+                        .otherwise().to("mock:other");
+
+                from("direct:number")
+                        .choice().id("number")
+                        .when(simple("${header.code} == 200")).to("mock:a")
+                        .when(simple("${header.code} == '404'")).to("mock:b")
+                        .otherwise().to("mock:other");
+
+                from("direct:mixed")
+                        .choice().id("mixed")
+                        .when(simple("${header.type} == 'A'")).to("mock:a")
+                        .when(simple("${header.kind} == 'B'")).to("mock:b")
+                        .otherwise().to("mock:other");
+            }
+        };
+    }
+}
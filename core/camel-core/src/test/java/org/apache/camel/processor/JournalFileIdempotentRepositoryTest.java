@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalFileIdempotentRepositoryTest extends ContextTestSupport {
+
+    private JournalFileIdempotentRepository repo;
+
+    @Test
+    public void testIdempotentConsumer() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("one", "two", "three");
+
+        // the key 4 is from the journal
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "four", "messageId", "4");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        // only the new keys are appended to the journal
+        List<String> lines = Files.readAllLines(repo.getFileStore().toPath());
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).startsWith("+") && lines.get(1).endsWith(" 1"));
+        assertTrue(lines.get(3).endsWith(" 3"));
+    }
+
+    @Test
+    public void testReplayJournal() throws Exception {
+        File store = testFile("replay.dat").toFile();
+        JournalFileIdempotentRepository journal = new JournalFileIdempotentRepository(store);
+        journal.start();
+        journal.add("a");
+        journal.add("b");
+        journal.add("c");
+        journal.remove("b");
+        journal.stop();
+
+        assertEquals(4, Files.readAllLines(store.toPath()).size());
+
+        journal = new JournalFileIdempotentRepository(store);
+        journal.start();
+        assertTrue(journal.contains("a"));
+        assertFalse(journal.contains("b"));
+        assertTrue(journal.contains("c"));
+        assertEquals(2, journal.getCacheSize());
+        journal.stop();
+    }
+
+    @Test
+    public void testExpiredKeysNotLoaded() throws Exception {
+        File store = testFile("expired.dat").toFile();
+        long now = System.currentTimeMillis();
+        Files.writeString(store.toPath(), "+" + (now - 60000) + " old\n+" + now + " new\n");
+
+        JournalFileIdempotentRepository journal = new JournalFileIdempotentRepository(store);
+        journal.setTimeToLive(30000);
+        journal.start();
+        assertFalse(journal.contains("old"));
+        assertTrue(journal.contains("new"));
+        journal.stop();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        File store = testFile("compact.dat").toFile();
+        JournalFileIdempotentRepository journal = new JournalFileIdempotentRepository(store);
+        journal.setCacheSize(10);
+        journal.setSegments(1);
+        journal.start();
+
+        for (int i = 0; i < 25; i++) {
+            journal.add("key" + i);
+        }
+        // the journal is compacted when it has more than 20 records
+        assertTrue(journal.getRecords() <= 20, "Journal should be compacted, was " + journal.getRecords());
+        assertEquals(journal.getRecords(), Files.readAllLines(store.toPath()).size());
+        journal.stop();
+
+        journal = new JournalFileIdempotentRepository(store);
+        journal.setCacheSize(10);
+        journal.setSegments(1);
+        journal.start();
+        assertEquals(10, journal.getCacheSize());
+        assertFalse(journal.contains("key14"));
+        assertTrue(journal.contains("key15"));
+        assertTrue(journal.contains("key24"));
+
+        journal.clear();
+        assertEquals(0, Files.readAllLines(store.toPath()).size());
+        journal.stop();
+    }
+
+    @Test
+    public void testAddAfterStop() throws Exception {
+        File store = testFile("stopped.dat").toFile();
+        JournalFileIdempotentRepository journal = new JournalFileIdempotentRepository(store);
+        journal.start();
+        assertTrue(journal.add("1"));
+        journal.stop();
+
+        assertThrows(IllegalStateException.class, () -> journal.add("2"));
+        assertThrows(IllegalStateException.class, () -> journal.remove("1"));
+        assertEquals(1, Files.readAllLines(store.toPath()).size());
+    }
+
+    @Test
+    public void testCompactionFailure() throws Exception {
+        File store = testFile("failed.dat").toFile();
+        AtomicBoolean fail = new AtomicBoolean();
+        JournalFileIdempotentRepository journal = new JournalFileIdempotentRepository(store) {
+            @Override
+            protected void forEach(BiConsumer<String, Long> action) {
+                super.forEach(action);
+                if (fail.get()) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(new IOException("Forced"));
+                }
+            }
+        };
+        journal.start();
+        journal.add("a");
+        journal.add("b");
+
+        fail.set(true);
+        assertThrows(RuntimeCamelException.class, journal::compact);
+        fail.set(false);
+
+        // the journal is still in use, and the temporary file is deleted
+        assertFalse(new File(store.getPath() + ".tmp").exists());
+        assertTrue(journal.add("c"));
+        assertEquals(3, Files.readAllLines(store.toPath()).size());
+        journal.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        File store = testFile("journal.dat").toFile();
+        Files.writeString(store.toPath(), "+" + System.currentTimeMillis() + " 4\n");
+        repo = (JournalFileIdempotentRepository) JournalFileIdempotentRepository.journalFileIdempotentRepository(store, 100);
+
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
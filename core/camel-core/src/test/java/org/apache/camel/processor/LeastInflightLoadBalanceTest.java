@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LeastInflightLoadBalanceTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testSlowEndpointGetsLessTraffic() throws Exception {
+        MockEndpoint slow = getMockEndpoint("mock:slow");
+        MockEndpoint fast = getMockEndpoint("mock:fast");
+        fast.expectedMinimumMessageCount(15);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(20, slow.getReceivedCounter() + fast.getReceivedCounter());
+    }
+
+    @Test
+    public void testBusyEndpointIsAvoided() throws Exception {
+        MockEndpoint a = getMockEndpoint("mock:a");
+        MockEndpoint b = getMockEndpoint("mock:b");
+
+        // block one of the endpoints
+        Future<Object> blocked = template.asyncRequestBody("direct:busy", "Block");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> a.getReceivedCounter() + b.getReceivedCounter() == 1);
+        MockEndpoint idle = a.getReceivedCounter() == 1 ? b : a;
+
+        // then all the messages should go to the other endpoint
+        idle.expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:busy", "Hello World");
+        }
+        idle.assertIsSatisfied();
+
+        latch.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(11, a.getReceivedCounter() + b.getReceivedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .loadBalance().leastInflight()
+                        .to("direct:slow", "direct:fast");
+
+                from("direct:slow").delay(100).to("mock:slow");
+                from("direct:fast").to("mock:fast");
+
+                from("direct:busy")
+                        .loadBalance().leastInflight()
+                        .to("direct:a", "direct:b");
+
+                from("direct:a").to("mock:a").process(e -> block(e.getMessage().getBody(String.class)));
+                from("direct:b").to("mock:b").process(e -> block(e.getMessage().getBody(String.class)));
+            }
+        };
+    }
+
+    private void block(String body) throws InterruptedException {
+        if ("Block".equals(body)) {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Arrays;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The sub exchanges of multicast, recipient list and split share the headers until changed, so a change must not be
+ * seen by the other sub exchanges or the original exchange.
+ */
+public class MulticastSharedHeadersTest extends ContextTestSupport {
+
+    @Test
+    public void testMulticast() throws Exception {
+        expectBranches();
+
+        template.sendBodyAndHeader("direct:multicast", "Hello", "foo", "123");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecipientList() throws Exception {
+        expectBranches();
+
+        template.sendBodyAndHeader("direct:recipientList", "Hello", "foo", "123");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        getMockEndpoint("mock:split").expectedBodiesReceived("A", "B", "C");
+        getMockEndpoint("mock:split").expectedHeaderValuesReceivedInAnyOrder("foo", "A", "123", "123");
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", "123");
+
+        template.sendBodyAndHeader("direct:split", Arrays.asList("A", "B", "C"), "foo", "123");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private void expectBranches() {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", null);
+        getMockEndpoint("mock:c").expectedHeaderReceived("foo", "123");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:multicast").multicast().to("direct:a", "direct:b", "direct:c").end();
+
+                from("direct:recipientList").recipientList(constant("direct:a,direct:b,direct:c"));
+
+                from("direct:split").split(body())
+                        .filter(body().isEqualTo("A")).setHeader("foo", body()).end()
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("foo", constant("a")).to("mock:a");
+                from("direct:b").removeHeader("foo").to("mock:b");
+                from("direct:c").to("mock:c");
+            }
+        };
+    }
+}
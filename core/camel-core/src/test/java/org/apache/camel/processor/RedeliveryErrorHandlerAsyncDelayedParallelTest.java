@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+public class RedeliveryErrorHandlerAsyncDelayedParallelTest extends ContextTestSupport {
+
+    private final CountDownLatch redeliveries = new CountDownLatch(2);
+
+    @Test
+    public void testRedeliveriesRunInParallel() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder("Hello World", "Hello Camel");
+
+        template.sendBody("seda:start", "World");
+        template.sendBody("seda:start", "Camel");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(1).redeliveryDelay(10).asyncDelayedRedelivery());
+
+                from("seda:start?concurrentConsumers=2").process(exchange -> {
+                    if (!exchange.getIn().getHeader(Exchange.REDELIVERED, false, Boolean.class)) {
+                        throw new IllegalArgumentException("Forced");
+                    }
+                    // the redeliveries are only done when they run at the same time on different threads
+                    redeliveries.countDown();
+                    if (!redeliveries.await(5, TimeUnit.SECONDS)) {
+                        exchange.setRouteStop(true);
+                    }
+                }).transform(simple("Hello ${body}")).to("mock:result");
+            }
+        };
+    }
+}
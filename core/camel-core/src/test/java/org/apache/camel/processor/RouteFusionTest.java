@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.FusedProcessor;
+import org.apache.camel.support.ExpressionAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteFusionTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteFusion(true);
+        context.setMessageHistory(true);
+        return context;
+    }
+
+    @Test
+    public void testFused() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World!");
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived("fused", true);
+        getMockEndpoint("mock:result").expectedHeaderReceived("matched", true);
+
+        Exchange out = template.request("direct:start", e -> e.getMessage().setBody("World"));
+
+        assertMockEndpointsSatisfied();
+
+        // the fused eips are still in the message history
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(history);
+        List<String> ids = history.stream().map(h -> h.getNode().getId()).toList();
+        assertEquals(List.of("setFoo", "setBody", "log", "setFused", "filter", "setMatched", "transform", "result"), ids);
+    }
+
+    @Test
+    public void testFilterNotMatched() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World!");
+        getMockEndpoint("mock:result").message(0).header("matched").isNull();
+
+        template.sendBodyAndHeader("direct:start", "World", "skip", true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testErrorHandler() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+        getMockEndpoint("mock:error").expectedBodiesReceived("Hello World");
+
+        Exchange out = template.request("direct:fail", e -> e.getMessage().setBody("World"));
+
+        assertMockEndpointsSatisfied();
+
+        assertFalse(out.isFailed());
+        assertTrue(out.getProperty(Exchange.EXCEPTION_CAUGHT) instanceof IllegalArgumentException);
+        // the fused processor breaks out after the failure
+        Exchange error = getMockEndpoint("mock:error").getReceivedExchanges().get(0);
+        assertEquals(123, error.getMessage().getHeader("foo"));
+        assertNull(error.getMessage().getHeader("after"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(IllegalArgumentException.class).handled(true).to("mock:error");
+
+                from("direct:start")
+                        .setHeader("foo", constant(123)).id("setFoo")
+                        .setBody(simple("Hello ${body}")).id("setBody")
+                        .log("${body}").id("log")
+                        .setHeader("fused", new ExpressionAdapter() {
+                            @Override
+                            public Object evaluate(Exchange exchange) {
+                                // the eip is processed by the fused processor
+                                for (StackTraceElement e : new Throwable().getStackTrace()) {
+                                    if (e.getClassName().startsWith(FusedProcessor.class.getName())) {
+                                        return true;
+                                    }
+                                }
+                                return false;
+                            }
+                        }).id("setFused")
+                        .filter(header("skip").isNull()).id("filter")
+                        .setHeader("matched", constant(true)).id("setMatched")
+                        .end()
+                        .transform(simple("${body}!")).id("transform")
+                        .to("mock:result").id("result");
+
+                from("direct:fail")
+                        .setHeader("foo", constant(123))
+                        .setBody(simple("Hello ${body}"))
+                        .setBody(method(RouteFusionTest.class, "fail"))
+                        .setHeader("after", constant(true))
+                        .to("mock:result");
+            }
+        };
+    }
+
+    public static String fail(String body) {
+        throw new IllegalArgumentException("Forced");
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedMemoryIdempotentRepositoryTest extends ContextTestSupport {
+
+    @Test
+    public void testAddContainsRemove() {
+        SegmentedMemoryIdempotentRepository repo = (SegmentedMemoryIdempotentRepository) SegmentedMemoryIdempotentRepository
+                .segmentedMemoryIdempotentRepository(100, 0, false);
+
+        assertTrue(repo.add("1"));
+        assertFalse(repo.add("1"));
+        assertTrue(repo.add("2"));
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertFalse(repo.contains("3"));
+        assertEquals(2, repo.getCacheSize());
+
+        assertTrue(repo.remove("1"));
+        assertFalse(repo.remove("1"));
+        assertFalse(repo.contains("1"));
+        assertTrue(repo.add("1"));
+
+        repo.clear();
+        assertEquals(0, repo.getCacheSize());
+        assertFalse(repo.contains("2"));
+    }
+
+    @Test
+    public void testEvictOldest() {
+        SegmentedMemoryIdempotentRepository repo = new SegmentedMemoryIdempotentRepository();
+        repo.setCacheSize(10);
+        repo.setSegments(1);
+        repo.start();
+
+        for (int i = 0; i < 15; i++) {
+            assertTrue(repo.add("" + i));
+        }
+        assertEquals(10, repo.getCacheSize());
+        // the oldest keys are evicted
+        for (int i = 0; i < 5; i++) {
+            assertFalse(repo.contains("" + i));
+        }
+        for (int i = 5; i < 15; i++) {
+            assertTrue(repo.contains("" + i));
+        }
+    }
+
+    @Test
+    public void testMaxCacheSize() {
+        SegmentedMemoryIdempotentRepository repo = new SegmentedMemoryIdempotentRepository();
+        repo.setCacheSize(100);
+        repo.setSegments(4);
+        repo.start();
+
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key" + i);
+            // some keys are removed so there are removed keys in the middle of the segments
+            if (i % 3 == 0) {
+                repo.remove("key" + (i / 2));
+            }
+        }
+        assertTrue(repo.getCacheSize() <= 100, "Should hold at most 100 keys, was " + repo.getCacheSize());
+        assertTrue(repo.contains("key999"));
+    }
+
+    @Test
+    public void testTimeToLive() {
+        SegmentedMemoryIdempotentRepository repo = (SegmentedMemoryIdempotentRepository) SegmentedMemoryIdempotentRepository
+                .segmentedMemoryIdempotentRepository(100, 200, false);
+
+        assertTrue(repo.add("1"));
+        assertFalse(repo.add("1"));
+        assertTrue(repo.contains("1"));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !repo.contains("1"));
+        // the key has expired so it can be added again
+        assertTrue(repo.add("1"));
+        assertTrue(repo.contains("1"));
+    }
+
+    @Test
+    public void testBloomFilter() {
+        SegmentedMemoryIdempotentRepository repo = (SegmentedMemoryIdempotentRepository) SegmentedMemoryIdempotentRepository
+                .segmentedMemoryIdempotentRepository(500, 0, true);
+
+        // add more keys than the repository can hold, so the bloom filters are rebuilt several times
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repo.add("key" + i));
+            assertTrue(repo.contains("key" + i));
+            if (i % 10 == 0) {
+                assertTrue(repo.remove("key" + i));
+                assertFalse(repo.contains("key" + i));
+            }
+        }
+
+        // there must be no false negatives for the keys in the repository
+        int found = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (repo.contains("key" + i)) {
+                found++;
+            }
+        }
+        assertEquals(repo.getCacheSize(), found);
+        assertTrue(repo.contains("key4999"));
+        assertFalse(repo.contains("unknown"));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        SegmentedMemoryIdempotentRepository repo = (SegmentedMemoryIdempotentRepository) SegmentedMemoryIdempotentRepository
+                .segmentedMemoryIdempotentRepository(100000, 0, true);
+
+        AtomicInteger added = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    // all threads adds the same keys, so each key must only be added once
+                    for (int i = 0; i < 10000; i++) {
+                        if (repo.add("key" + i)) {
+                            added.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+
+        assertEquals(10000, added.get());
+        assertEquals(10000, repo.getCacheSize());
+    }
+
+    @Test
+    public void testIdempotentConsumer() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"),
+                                SegmentedMemoryIdempotentRepository.segmentedMemoryIdempotentRepository(200, 60000, true))
+                        .to("mock:result");
+            }
+        };
+    }
+}
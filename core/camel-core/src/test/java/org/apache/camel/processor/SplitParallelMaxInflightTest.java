@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int MAX_INFLIGHT = 5;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        inflight.set(0);
+        maxInflight.set(0);
+    }
+
+    @Test
+    public void testMaxInflightStreaming() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedBodiesReceived(SIZE);
+
+        template.sendBody("direct:streaming", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxInflight.get() <= MAX_INFLIGHT, "Should not have more than 5 in-flight, was: " + maxInflight.get());
+    }
+
+    @Test
+    public void testMaxInflightOrdered() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedBodiesReceived(SIZE);
+
+        // in default mode the message is split up front, so count the in-flight messages when they are processed
+        template.sendBody("direct:ordered", IntStream.range(0, SIZE).boxed().toList());
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxInflight.get() <= MAX_INFLIGHT, "Should not have more than 5 in-flight, was: " + maxInflight.get());
+    }
+
+    @Test
+    public void testMaxInflightRequiresParallelProcessing() {
+        Exception e = assertThrows(FailedToCreateRouteException.class, () -> {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:invalid").split(body()).maxInflight(5).to("mock:split");
+                }
+            });
+        });
+        assertEquals("MaxInflight is used but ParallelProcessing has not been enabled.", e.getCause().getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AggregationStrategy counter = (oldExchange, newExchange) -> {
+                    inflight.decrementAndGet();
+                    int count = oldExchange != null ? oldExchange.getMessage().getBody(int.class) : 0;
+                    newExchange.getMessage().setBody(count + 1);
+                    return newExchange;
+                };
+
+                from("direct:streaming")
+                        .split(body(), counter).streaming().parallelProcessing().maxInflight(MAX_INFLIGHT)
+                            .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(5)))
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:ordered")
+                        .split(body(), counter).parallelProcessing().maxInflight(MAX_INFLIGHT)
+                            .process(e -> maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max))
+                            .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(5)))
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    /**
+     * Iterator that keeps track of the number of split messages which has not been aggregated yet.
+     */
+    private class CountingIterator implements Iterator<Integer> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            return index++;
+        }
+    }
+}
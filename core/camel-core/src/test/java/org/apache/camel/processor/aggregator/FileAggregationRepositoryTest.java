@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.processor.aggregate.FileAggregationRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileAggregationRepositoryTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testAddGetRemoveConfirm() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello");
+        exchange.getIn().setHeader("foo", 123);
+        repo.add(context, "a", exchange);
+
+        Exchange actual = repo.get(context, "a");
+        assertNotNull(actual);
+        assertEquals("Hello", actual.getIn().getBody());
+        assertEquals(123, actual.getIn().getHeader("foo"));
+        assertEquals(exchange.getExchangeId(), actual.getExchangeId());
+        assertTrue(repo.getKeys().contains("a"));
+
+        repo.remove(context, "a", actual);
+        assertNull(repo.get(context, "a"));
+        assertEquals(0, repo.getKeys().size());
+        assertTrue(repo.scan(context).contains(exchange.getExchangeId()));
+        assertEquals("Hello", repo.recover(context, exchange.getExchangeId()).getIn().getBody());
+
+        repo.confirm(context, exchange.getExchangeId());
+        assertEquals(0, repo.scan(context).size());
+        assertNull(repo.recover(context, exchange.getExchangeId()));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testRecoverAfterRestart() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.start();
+
+        Exchange a = new DefaultExchange(context);
+        a.getIn().setBody("A");
+        repo.add(context, "a", a);
+        a.getIn().setBody("A+A");
+        repo.add(context, "a", a);
+
+        Exchange b = new DefaultExchange(context);
+        b.getIn().setBody("B");
+        repo.add(context, "b", b);
+        repo.remove(context, "b", b);
+
+        repo.stop();
+
+        // start a new repository on the same file
+        repo = new FileAggregationRepository(store);
+        repo.start();
+
+        assertEquals(1, repo.getKeys().size());
+        assertEquals("A+A", repo.get(context, "a").getIn().getBody());
+        assertEquals(1, repo.scan(context).size());
+        assertEquals("B", repo.recover(context, b.getExchangeId()).getIn().getBody());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.setInitialFileStoreSize(16 * 1024);
+        repo.setMinCompactionSize(8 * 1024);
+        repo.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        for (int i = 0; i < 1000; i++) {
+            exchange.getIn().setBody("Message " + i);
+            repo.add(context, "key" + (i % 5), exchange);
+        }
+
+        // the superseded records are compacted so the journal does not keep growing
+        assertTrue(repo.getJournalSize() < 16 * 1024, "Journal should be compacted: " + repo.getJournalSize());
+        assertEquals(5, repo.getKeys().size());
+        assertEquals("Message 999", repo.get(context, "key4").getIn().getBody());
+        assertEquals("Message 995", repo.get(context, "key0").getIn().getBody());
+
+        repo.stop();
+
+        repo = new FileAggregationRepository(store);
+        repo.start();
+        assertEquals(5, repo.getKeys().size());
+        assertEquals("Message 997", repo.get(context, "key2").getIn().getBody());
+        repo.stop();
+    }
+
+    @Test
+    public void testAddReturnsPreviousExchange() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("A");
+        assertNull(repo.add(context, "a", exchange));
+
+        exchange.getIn().setBody("A+B");
+        Exchange old = repo.add(context, "a", exchange);
+        assertNotNull(old);
+        assertEquals("A", old.getIn().getBody());
+        assertEquals("A+B", repo.get(context, "a").getIn().getBody());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testGrowFromZeroInitialSize() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.setInitialFileStoreSize(0);
+        repo.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello");
+        repo.add(context, "a", exchange);
+        assertEquals("Hello", repo.get(context, "a").getIn().getBody());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testAddAfterStop() throws Exception {
+        File store = testFile("aggregate.dat").toFile();
+        FileAggregationRepository repo = new FileAggregationRepository(store);
+        repo.start();
+        repo.stop();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello");
+        assertThrows(IllegalStateException.class, () -> repo.add(context, "a", exchange));
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        FileAggregationRepository repo = new FileAggregationRepository(testFile("aggregate.dat").toFile());
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(3)
+                        .aggregationRepository(repo)
+                        .to("mock:result");
+            }
+        });
+        context.start();
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("A+B+C");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+}
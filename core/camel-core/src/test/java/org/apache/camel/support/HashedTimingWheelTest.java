@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedTimingWheelTest {
+
+    @Test
+    public void testExpire() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("A", 25);
+        wheel.schedule("B", 5);
+        // beyond one revolution of the wheel
+        wheel.schedule("C", 105);
+        wheel.schedule("D", 25);
+        assertEquals(4, wheel.size());
+
+        assertEquals(0, wheel.advance(4, expired::add));
+        assertEquals(1, wheel.advance(20, expired::add));
+        assertEquals(List.of("B"), expired);
+
+        // never expired before the deadline, also within the current tick
+        assertEquals(0, wheel.advance(24, expired::add));
+        assertEquals(2, wheel.advance(25, expired::add));
+        assertEquals(List.of("B", "A", "D"), expired);
+
+        // same bucket as C but one revolution earlier
+        assertEquals(0, wheel.advance(90, expired::add));
+        assertEquals(1, wheel.advance(200, expired::add));
+        assertEquals(List.of("B", "A", "D", "C"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCancel() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        HashedTimingWheel.Timeout<String> a = wheel.schedule("A", 15);
+        HashedTimingWheel.Timeout<String> b = wheel.schedule("B", 15);
+        HashedTimingWheel.Timeout<String> c = wheel.schedule("C", 15);
+        assertTrue(b.cancel());
+        assertFalse(b.cancel());
+        assertFalse(b.isScheduled());
+        assertEquals(2, wheel.size());
+
+        wheel.advance(100, expired::add);
+        assertEquals(List.of("A", "C"), expired);
+        assertFalse(a.cancel());
+        assertFalse(c.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testScheduleInThePast() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(1000, expired::add);
+        // the deadline has already passed so it expires on the next advance
+        wheel.schedule("A", 500);
+        wheel.advance(1000, expired::add);
+        assertEquals(List.of("A"), expired);
+    }
+
+    @Test
+    public void testClear() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, 0);
+        HashedTimingWheel.Timeout<String> a = wheel.schedule("A", 15);
+        wheel.schedule("B", 1500);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertFalse(a.isScheduled());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(2000, expired::add);
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentScheduleAndCancel() throws Exception {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(1, 64, System.currentTimeMillis());
+        AtomicInteger expired = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        HashedTimingWheel.Timeout<Integer> timeout
+                                = wheel.schedule(i, System.currentTimeMillis() + (i % 20));
+                        if (i % 3 == 0 && timeout.cancel()) {
+                            cancelled.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            while (done.getCount() > 0 || wheel.size() > 0) {
+                wheel.advance(System.currentTimeMillis(), i -> expired.incrementAndGet());
+                Thread.sleep(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // every timeout is either expired or cancelled exactly once
+        assertEquals(40000, expired.get() + cancelled.get());
+    }
+
+    @Test
+    public void testScheduler() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            HashedTimingWheelScheduler scheduler = new HashedTimingWheelScheduler(executor);
+            CountDownLatch latch = new CountDownLatch(3);
+            long start = System.currentTimeMillis();
+            List<Long> times = new ArrayList<>();
+            for (long delay : new long[] { 100, 50, 200 }) {
+                scheduler.schedule(() -> {
+                    synchronized (times) {
+                        times.add(System.currentTimeMillis() - start - delay);
+                    }
+                    latch.countDown();
+                }, delay);
+            }
+            HashedTimingWheel.Timeout<Runnable> cancelled = scheduler.schedule(latch::countDown, 100);
+            assertTrue(cancelled.cancel());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            // the tasks never run before their delay
+            for (long time : times) {
+                assertTrue(time >= 0, "Task ran " + time + " millis too early");
+            }
+            await().atMost(Duration.ofSeconds(1)).until(() -> scheduler.getPendingTasks() == 0);
+
+            // and the scheduler continues after being idle
+            CountDownLatch again = new CountDownLatch(1);
+            scheduler.schedule(again::countDown, 10);
+            assertTrue(again.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testResolveSharedScheduler() {
+        CamelContext context = new DefaultCamelContext();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        ScheduledExecutorService other = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // the scheduler is shared by the users of the same executor
+            HashedTimingWheelScheduler scheduler = HashedTimingWheelScheduler.resolve(context, executor);
+            assertSame(executor, scheduler.getExecutor());
+            assertSame(scheduler, HashedTimingWheelScheduler.resolve(context, executor));
+            assertNotSame(scheduler, HashedTimingWheelScheduler.resolve(context, other));
+            assertNotSame(scheduler, HashedTimingWheelScheduler.resolve(new DefaultCamelContext(), executor));
+        } finally {
+            executor.shutdownNow();
+            other.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InlineCachedTypeConverterTest extends ContextTestSupport {
+
+    @Test
+    public void testConvert() throws Exception {
+        TypeConverter converter = new InlineCachedTypeConverter(context);
+        Exchange exchange = new DefaultExchange(context);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(123, converter.convertTo(Integer.class, exchange, "123"));
+            assertEquals(456L, converter.mandatoryConvertTo(Long.class, exchange, "456"));
+            assertEquals(789, converter.convertTo(int.class, exchange, "789"));
+            assertEquals(LoggingLevel.WARN, converter.convertTo(LoggingLevel.class, exchange, "WARN"));
+            assertEquals("123", converter.convertTo(String.class, exchange, 123));
+        }
+
+        String body = "Hello";
+        assertSame(body, converter.convertTo(String.class, exchange, body));
+        assertNull(converter.convertTo(Integer.class, exchange, null));
+        assertThrows(NoTypeConversionAvailableException.class,
+                () -> converter.mandatoryConvertTo(AtomicInteger.class, exchange, new Object()));
+    }
+
+    @Test
+    public void testConvertCachedFailure() {
+        TypeConverter converter = new InlineCachedTypeConverter(context);
+        Exchange exchange = new DefaultExchange(context);
+
+        assertEquals(123, converter.convertTo(Integer.class, exchange, "123"));
+
+        // the cached type converter fails which should be reported the same as by the type converter registry
+        TypeConversionException e = assertThrows(TypeConversionException.class,
+                () -> converter.convertTo(Integer.class, exchange, "ABC"));
+        assertEquals(Integer.class, e.getToType());
+        assertInstanceOf(NumberFormatException.class, e.getCause());
+    }
+
+    @Test
+    public void testConvertCachedMiss() {
+        AtomicInteger counter = new AtomicInteger();
+        context.getTypeConverterRegistry().addTypeConverter(AtomicInteger.class, String.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                counter.incrementAndGet();
+                // can only convert numbers
+                return "one".equals(value) ? null : (T) new AtomicInteger(Integer.parseInt(value.toString()));
+            }
+        });
+
+        TypeConverter converter = new InlineCachedTypeConverter(context);
+        Exchange exchange = new DefaultExchange(context);
+
+        assertEquals(1, converter.convertTo(AtomicInteger.class, exchange, "1").get());
+        assertEquals(2, converter.convertTo(AtomicInteger.class, exchange, "2").get());
+        assertEquals(2, counter.get());
+
+        // the cached type converter cannot convert so the type converter registry should try
+        assertNull(converter.convertTo(AtomicInteger.class, exchange, "one"));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CaseInsensitiveArrayMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals(1, map.size());
+        assertEquals("bar", map.get("FOO"));
+        // the original key case is preserved
+        assertEquals("foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testRemoveAndReAdd() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        assertEquals("beer", map.remove("BAR"));
+        assertNull(map.get("bar"));
+        assertEquals(1, map.size());
+
+        map.put("Bar", "wine");
+        assertEquals("wine", map.get("bar"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testInsertionOrderAndGrow() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        for (int i = 0; i < 200; i++) {
+            map.put("Header" + i, i);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            map.remove("HEADER" + i);
+        }
+        for (int i = 200; i < 300; i++) {
+            map.put("Header" + i, i);
+        }
+
+        assertEquals(200, map.size());
+        assertEquals(199, map.get("header199"));
+        assertNull(map.get("header198"));
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals("Header1", keys.get(0));
+        assertEquals("Header3", keys.get(1));
+        assertEquals("Header299", keys.get(199));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().startsWith("ba")) {
+                it.remove();
+            } else {
+                entry.setValue(10);
+            }
+        }
+
+        assertEquals(1, map.size());
+        assertEquals(10, map.get("FOO"));
+
+        map.keySet().removeIf(k -> k.equals("foo"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testCopy() {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put("foo", "cheese");
+
+        Map<String, Object> copy = new CaseInsensitiveArrayMap(map);
+        copy.put("FOO", "beer");
+        copy.put("bar", 123);
+
+        assertEquals("cheese", map.get("foo"));
+        assertFalse(map.containsKey("bar"));
+        assertEquals("beer", copy.get("foo"));
+        assertEquals("hello.txt", copy.get("camelfilename"));
+
+        Map<String, Object> other = new CaseInsensitiveArrayMap();
+        other.putAll(copy);
+        assertEquals(copy, other);
+        assertEquals(new HashMap<>(copy), other);
+    }
+
+    @Test
+    public void testKnownKeys() {
+        CaseInsensitiveArrayMap.registerKnownKeys(Exchange.class);
+
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put("camelfilename", "hello.txt");
+        map.put(Exchange.HTTP_METHOD, "GET");
+
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("GET", map.get("camelhttpmethod"));
+        assertEquals("GET", map.get(Exchange.HTTP_METHOD));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> map = new CaseInsensitiveArrayMap();
+        map.put("foo", "cheese");
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objStream = new ObjectOutputStream(bStream)) {
+            objStream.writeObject(map);
+        }
+
+        try (ObjectInputStream inStream = new ObjectInputStream(new ByteArrayInputStream(bStream.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> actual = (Map<String, Object>) inStream.readObject();
+            assertEquals("cheese", actual.get("FOO"));
+        }
+    }
+}
@@ -39,6 +39,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("CamelEventsTimestampEnabled", boolean.class);
         map.put("CaseInsensitiveHeaders", boolean.class);
         map.put("CloudPropertiesLocation", java.lang.String.class);
+        map.put("CompactTemplatedRoutes", boolean.class);
         map.put("CompileWorkDir", java.lang.String.class);
         map.put("ConfigurationClasses", java.lang.String.class);
         map.put("Configurations", java.util.List.class);
@@ -91,10 +92,15 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("MessageHistory", boolean.class);
         map.put("Modeline", boolean.class);
         map.put("Name", java.lang.String.class);
+        map.put("ParallelRouteStartup", boolean.class);
+        map.put("ProcessingTimeHistogramEnabled", boolean.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorParallelism", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
+        map.put("RouteFusion", boolean.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
         map.put("RoutesCollectorEnabled", boolean.class);
@@ -107,6 +113,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("RoutesReloadPattern", java.lang.String.class);
         map.put("RoutesReloadRemoveAllRoutes", boolean.class);
         map.put("RoutesReloadRestartDuration", boolean.class);
+        map.put("RoutesSnapshotDirectory", java.lang.String.class);
+        map.put("SharedPollScheduler", boolean.class);
+        map.put("SharedPollSchedulerPoolSize", int.class);
         map.put("ShutdownLogInflightExchangesOnTimeout", boolean.class);
         map.put("ShutdownNowOnTimeout", boolean.class);
         map.put("ShutdownRoutesInReverseOrder", boolean.class);
@@ -185,6 +194,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "caseInsensitiveHeaders": target.setCaseInsensitiveHeaders(property(camelContext, boolean.class, value)); return true;
         case "cloudpropertieslocation":
         case "cloudPropertiesLocation": target.setCloudPropertiesLocation(property(camelContext, java.lang.String.class, value)); return true;
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": target.setCompactTemplatedRoutes(property(camelContext, boolean.class, value)); return true;
         case "compileworkdir":
         case "compileWorkDir": target.setCompileWorkDir(property(camelContext, java.lang.String.class, value)); return true;
         case "configurationclasses":
@@ -285,13 +296,23 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": target.setMessageHistory(property(camelContext, boolean.class, value)); return true;
         case "modeline": target.setModeline(property(camelContext, boolean.class, value)); return true;
         case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": target.setParallelRouteStartup(property(camelContext, boolean.class, value)); return true;
+        case "processingtimehistogramenabled":
+        case "processingTimeHistogramEnabled": target.setProcessingTimeHistogramEnabled(property(camelContext, boolean.class, value)); return true;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routefusion":
+        case "routeFusion": target.setRouteFusion(property(camelContext, boolean.class, value)); return true;
         case "routesbuilderclasses":
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -316,6 +337,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "routessnapshotdirectory":
+        case "routesSnapshotDirectory": target.setRoutesSnapshotDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "sharedpollscheduler":
+        case "sharedPollScheduler": target.setSharedPollScheduler(property(camelContext, boolean.class, value)); return true;
+        case "sharedpollschedulerpoolsize":
+        case "sharedPollSchedulerPoolSize": target.setSharedPollSchedulerPoolSize(property(camelContext, int.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -435,6 +462,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "caseInsensitiveHeaders": return boolean.class;
         case "cloudpropertieslocation":
         case "cloudPropertiesLocation": return java.lang.String.class;
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": return boolean.class;
         case "compileworkdir":
         case "compileWorkDir": return java.lang.String.class;
         case "configurationclasses":
@@ -535,13 +564,23 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return boolean.class;
         case "modeline": return boolean.class;
         case "name": return java.lang.String.class;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return boolean.class;
+        case "processingtimehistogramenabled":
+        case "processingTimeHistogramEnabled": return boolean.class;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return java.lang.String.class;
+        case "routefusion":
+        case "routeFusion": return boolean.class;
         case "routesbuilderclasses":
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -566,6 +605,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return boolean.class;
+        case "routessnapshotdirectory":
+        case "routesSnapshotDirectory": return java.lang.String.class;
+        case "sharedpollscheduler":
+        case "sharedPollScheduler": return boolean.class;
+        case "sharedpollschedulerpoolsize":
+        case "sharedPollSchedulerPoolSize": return int.class;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -681,6 +726,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "caseInsensitiveHeaders": return target.isCaseInsensitiveHeaders();
         case "cloudpropertieslocation":
         case "cloudPropertiesLocation": return target.getCloudPropertiesLocation();
+        case "compacttemplatedroutes":
+        case "compactTemplatedRoutes": return target.isCompactTemplatedRoutes();
         case "compileworkdir":
         case "compileWorkDir": return target.getCompileWorkDir();
         case "configurationclasses":
@@ -781,13 +828,23 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return target.isMessageHistory();
         case "modeline": return target.isModeline();
         case "name": return target.getName();
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return target.isParallelRouteStartup();
+        case "processingtimehistogramenabled":
+        case "processingTimeHistogramEnabled": return target.isProcessingTimeHistogramEnabled();
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routefusion":
+        case "routeFusion": return target.isRouteFusion();
         case "routesbuilderclasses":
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -812,6 +869,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "routessnapshotdirectory":
+        case "routesSnapshotDirectory": return target.getRoutesSnapshotDirectory();
+        case "sharedpollscheduler":
+        case "sharedPollScheduler": return target.isSharedPollScheduler();
+        case "sharedpollschedulerpoolsize":
+        case "sharedPollSchedulerPoolSize": return target.getSharedPollSchedulerPoolSize();
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -29,6 +29,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.security.KeyStore;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -80,6 +81,7 @@ import org.apache.camel.spi.PackageScanClassResolver;
 import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.spi.RouteTemplateParameterSource;
+import org.apache.camel.spi.RoutesBuilderLoader;
 import org.apache.camel.spi.RoutesLoader;
 import org.apache.camel.spi.StartupCondition;
 import org.apache.camel.spi.StartupConditionStrategy;
@@ -826,6 +828,32 @@ public abstract class BaseMainSupport extends BaseService {
         RoutesLoader loader = new DefaultRoutesLoader();
         loader.setIgnoreLoadingError(mainConfigurationProperties.isRoutesCollectorIgnoreLoadingError());
         ecc.addContextPlugin(RoutesLoader.class, loader);
+
+        String dir = mainConfigurationProperties.getRoutesSnapshotDirectory();
+        if (dir != null) {
+            // load the routes from snapshots via the DSL loaders, which are looked up in the registry first
+            Map<RoutesBuilderLoader, RoutesSnapshotLoader> snapshots = new IdentityHashMap<>();
+            for (String extension : RoutesSnapshotLoader.SUPPORTED_EXTENSIONS) {
+                RoutesBuilderLoader dsl;
+                try {
+                    dsl = loader.getRoutesLoader(extension);
+                } catch (Exception e) {
+                    throw RuntimeCamelException.wrapRuntimeException(e);
+                }
+                if (dsl != null) {
+                    RoutesSnapshotLoader snapshot = snapshots.computeIfAbsent(dsl, l -> {
+                        RoutesSnapshotLoader answer = RoutesSnapshotLoader.wrap(l, dir);
+                        answer.setCamelContext(camelContext);
+                        return answer;
+                    });
+                    // replace any custom DSL loader which is bound in the registry
+                    String key = DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + extension;
+                    camelContext.getRegistry().unbind(key);
+                    camelContext.getRegistry().bind(key, snapshot);
+                }
+            }
+            LOG.info("Using route snapshots from directory: {}", dir);
+        }
     }
 
     protected void modelineRoutes(CamelContext camelContext) throws Exception {
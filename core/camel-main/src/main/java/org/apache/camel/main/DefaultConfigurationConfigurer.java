@@ -41,6 +41,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -61,6 +62,7 @@ import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
+import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.LifecycleStrategy;
@@ -93,6 +95,7 @@ import org.apache.camel.support.DefaultUuidGenerator;
 import org.apache.camel.support.OffUuidGenerator;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.RouteWatcherReloadStrategy;
+import org.apache.camel.support.SharedPollScheduler;
 import org.apache.camel.support.ShortUuidGenerator;
 import org.apache.camel.support.SimpleUuidGenerator;
 import org.apache.camel.support.jsse.GlobalSSLContextParametersSupplier;
@@ -167,6 +170,16 @@ public final class DefaultConfigurationConfigurer {
         ecc.getProcessorExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor re = new WorkStealingReactiveExecutor();
+            re.setParallelism(config.getReactiveExecutorParallelism());
+            ecc.setReactiveExecutor(re);
+        }
+        if (config.isSharedPollScheduler()) {
+            SharedPollScheduler sps = SharedPollScheduler.resolve(camelContext);
+            sps.setDefaultScheduler(true);
+            sps.setPoolSize(config.getSharedPollSchedulerPoolSize());
+        }
 
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
@@ -293,6 +306,8 @@ public final class DefaultConfigurationConfigurer {
                     .setEndpointRuntimeStatisticsEnabled(config.isEndpointRuntimeStatisticsEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setLoadStatisticsEnabled(config.isLoadStatisticsEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setProcessingTimeHistogramEnabled(config.isProcessingTimeHistogramEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
             camelContext.getManagementStrategy().getManagementAgent()
@@ -331,6 +346,15 @@ public final class DefaultConfigurationConfigurer {
         if (config.isSourceLocationEnabled()) {
             camelContext.setSourceLocationEnabled(true);
         }
+        if (config.isRouteFusion()) {
+            camelContext.setRouteFusion(true);
+        }
+        if (config.isParallelRouteStartup()) {
+            camelContext.setParallelRouteStartup(true);
+        }
+        if (config.isCompactTemplatedRoutes()) {
+            camelContext.setCompactTemplatedRoutes(true);
+        }
 
         camelContext.setTracing(config.isTracing());
         camelContext.setTracingStandby(config.isTracingStandby());
@@ -484,6 +508,10 @@ public final class DefaultConfigurationConfigurer {
         if (exf != null) {
             camelContext.getCamelContextExtension().setExchangeFactory(exf);
         }
+        HeadersMapFactory hmf = getSingleBeanOfType(registry, HeadersMapFactory.class);
+        if (hmf != null) {
+            camelContext.getCamelContextExtension().setHeadersMapFactory(hmf);
+        }
         Set<TypeConverters> tcs = registry.findByType(TypeConverters.class);
         if (!tcs.isEmpty()) {
             tcs.forEach(t -> camelContext.getTypeConverterRegistry().addTypeConverters(t));
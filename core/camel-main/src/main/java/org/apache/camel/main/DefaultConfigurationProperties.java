@@ -80,6 +80,9 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "%-4.4s [%-12.12s] [%-33.33s]")
     private String tracingLoggingFormat;
     private boolean sourceLocationEnabled;
+    private boolean routeFusion;
+    private boolean parallelRouteStartup;
+    private boolean compactTemplatedRoutes;
     private boolean messageHistory;
     private boolean logMask;
     private boolean logExhaustedMessageBody;
@@ -92,6 +95,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
+    private boolean processingTimeHistogramEnabled;
     private boolean endpointLazyStartProducer;
     private boolean endpointBridgeErrorHandler;
     private boolean useDataType;
@@ -117,6 +121,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean routesCollectorEnabled = true;
     private boolean routesCollectorIgnoreLoadingError;
     @Metadata(label = "advanced")
+    private String routesSnapshotDirectory;
+    @Metadata(label = "advanced")
     private String compileWorkDir;
     private String javaRoutesIncludePattern;
     private String javaRoutesExcludePattern;
@@ -134,6 +140,14 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    @Metadata(label = "advanced")
+    private int reactiveExecutorParallelism;
+    @Metadata(label = "advanced")
+    private boolean sharedPollScheduler;
+    @Metadata(label = "advanced", defaultValue = "10")
+    private int sharedPollSchedulerPoolSize = 10;
     @Metadata(enums = "xml,yaml")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -720,6 +734,58 @@ public abstract class DefaultConfigurationProperties<T> {
         this.sourceLocationEnabled = sourceLocationEnabled;
     }
 
+    public boolean isRouteFusion() {
+        return routeFusion;
+    }
+
+    /**
+     * Whether route fusion is enabled.
+     *
+     * When enabled, then consecutive synchronous EIPs in a route such as setHeader, setBody, filter, transform and log
+     * are collapsed into a single processor when the route is started, which reduces the per step overhead of routing.
+     * Message history, tracing, JMX statistics and error handling are still applied to each fused EIP.
+     *
+     * This is experimental and is default disabled.
+     */
+    public void setRouteFusion(boolean routeFusion) {
+        this.routeFusion = routeFusion;
+    }
+
+    public boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    /**
+     * Whether routes are created in parallel when starting Camel.
+     *
+     * When enabled, then the route resources are loaded and parsed in parallel, and the routes are created from the
+     * route models in parallel using a fork-join pool when Camel is starting. The routes are still added and started in
+     * the same order as when created one by one. Routes created from route templates are created one by one.
+     *
+     * This is experimental and is default disabled.
+     */
+    public void setParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    public boolean isCompactTemplatedRoutes() {
+        return compactTemplatedRoutes;
+    }
+
+    /**
+     * Whether routes created from route templates are kept compact in memory.
+     *
+     * When enabled, then the route model of a route created from a route template is released after the route has been
+     * created. When the route is registered in JMX, then the route is registered without its processors, as the
+     * processors refer to the route model. This reduces the memory used by applications with many routes created from
+     * route templates. The route model is then no longer available for dumping the route.
+     *
+     * This is experimental and is default disabled.
+     */
+    public void setCompactTemplatedRoutes(boolean compactTemplatedRoutes) {
+        this.compactTemplatedRoutes = compactTemplatedRoutes;
+    }
+
     public boolean isLogMask() {
         return logMask;
     }
@@ -895,6 +961,23 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    public boolean isProcessingTimeHistogramEnabled() {
+        return processingTimeHistogramEnabled;
+    }
+
+    /**
+     * Sets whether the processing times of the routes and processors are recorded in a histogram, so the processing
+     * times at the 50th, 90th, 99th and 99.9th percentiles are available as JMX statistics and in the developer
+     * consoles. The statistics requires to have camel-management on the classpath as JMX is required.
+     *
+     * Each route and processor then uses up to 34 KB of memory for its histogram.
+     *
+     * The default value is false.
+     */
+    public void setProcessingTimeHistogramEnabled(boolean processingTimeHistogramEnabled) {
+        this.processingTimeHistogramEnabled = processingTimeHistogramEnabled;
+    }
+
     public boolean isEndpointLazyStartProducer() {
         return endpointLazyStartProducer;
     }
@@ -1211,6 +1294,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesCollectorIgnoreLoadingError = routesCollectorIgnoreLoadingError;
     }
 
+    public String getRoutesSnapshotDirectory() {
+        return routesSnapshotDirectory;
+    }
+
+    /**
+     * Directory where binary snapshots of the routes loaded from XML and YAML route resources are stored. On the next
+     * startup, then route resources which are unchanged are loaded from their snapshot instead of being parsed again.
+     *
+     * Only route resources which contains routes and route templates are stored as snapshots. This is experimental, and
+     * is default disabled.
+     */
+    public void setRoutesSnapshotDirectory(String routesSnapshotDirectory) {
+        this.routesSnapshotDirectory = routesSnapshotDirectory;
+    }
+
     public String getCompileWorkDir() {
         return compileWorkDir;
     }
@@ -1433,6 +1531,57 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * The reactive executor which schedules the routing tasks. The default executor runs the tasks on the current
+     * thread. The work-stealing executor hands over the tasks scheduled from threads that are not routing (such as I/O
+     * threads that complete asynchronous requests) to a work-stealing thread pool, to spread the routing across the CPU
+     * cores.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * The number of threads in the pool of the work-stealing reactive executor. The default is the number of CPU cores.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
+    public boolean isSharedPollScheduler() {
+        return sharedPollScheduler;
+    }
+
+    /**
+     * Whether the scheduled polling consumers (such as file, ftp and sql) use a poll scheduler which is shared by all
+     * the consumers, instead of a scheduled thread pool per consumer. The shared poll scheduler runs the polls on a
+     * timing wheel with a single timer thread, and the delay between polls is adaptive, where the delay is increased
+     * for idle consumers, and decreased for consumers that keep polling full batches. This only applies to consumers
+     * which do not have a scheduler configured.
+     */
+    public void setSharedPollScheduler(boolean sharedPollScheduler) {
+        this.sharedPollScheduler = sharedPollScheduler;
+    }
+
+    public int getSharedPollSchedulerPoolSize() {
+        return sharedPollSchedulerPoolSize;
+    }
+
+    /**
+     * The number of threads which runs the polls of the shared poll scheduler. The default is 10.
+     */
+    public void setSharedPollSchedulerPoolSize(int sharedPollSchedulerPoolSize) {
+        this.sharedPollSchedulerPoolSize = sharedPollSchedulerPoolSize;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -2033,6 +2182,49 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether route fusion is enabled.
+     *
+     * When enabled, then consecutive synchronous EIPs in a route such as setHeader, setBody, filter, transform and log
+     * are collapsed into a single processor when the route is started, which reduces the per step overhead of routing.
+     * Message history, tracing, JMX statistics and error handling are still applied to each fused EIP.
+     *
+     * This is experimental and is default disabled.
+     */
+    public T withRouteFusion(boolean routeFusion) {
+        this.routeFusion = routeFusion;
+        return (T) this;
+    }
+
+    /**
+     * Whether routes are created in parallel when starting Camel.
+     *
+     * When enabled, then the route resources are loaded and parsed in parallel, and the routes are created from the
+     * route models in parallel using a fork-join pool when Camel is starting. The routes are still added and started in
+     * the same order as when created one by one. Routes created from route templates are created one by one.
+     *
+     * This is experimental and is default disabled.
+     */
+    public T withParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+        return (T) this;
+    }
+
+    /**
+     * Whether routes created from route templates are kept compact in memory.
+     *
+     * When enabled, then the route model of a route created from a route template is released after the route has been
+     * created. When the route is registered in JMX, then the route is registered without its processors, as the
+     * processors refer to the route model. This reduces the memory used by applications with many routes created from
+     * route templates. The route model is then no longer available for dumping the route.
+     *
+     * This is experimental and is default disabled.
+     */
+    public T withCompactTemplatedRoutes(boolean compactTemplatedRoutes) {
+        this.compactTemplatedRoutes = compactTemplatedRoutes;
+        return (T) this;
+    }
+
     /**
      * Sets whether log mask is enabled or not.
      *
@@ -2161,6 +2353,20 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether the processing times of the routes and processors are recorded in a histogram, so the processing
+     * times at the 50th, 90th, 99th and 99.9th percentiles are available as JMX statistics and in the developer
+     * consoles. The statistics requires to have camel-management on the classpath as JMX is required.
+     *
+     * Each route and processor then uses up to 34 KB of memory for its histogram.
+     *
+     * The default value is false.
+     */
+    public T withProcessingTimeHistogramEnabled(boolean processingTimeHistogramEnabled) {
+        this.processingTimeHistogramEnabled = processingTimeHistogramEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether the producer should be started lazy (on the first message). By starting lazy you can use this to allow
      * CamelContext and routes to startup in situations where a producer may otherwise fail during starting and cause
@@ -2436,6 +2642,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Directory where binary snapshots of the routes loaded from XML and YAML route resources are stored. On the next
+     * startup, then route resources which are unchanged are loaded from their snapshot instead of being parsed again.
+     *
+     * Only route resources which contains routes and route templates are stored as snapshots. This is experimental, and
+     * is default disabled.
+     */
+    public T withRoutesSnapshotDirectory(String routesSnapshotDirectory) {
+        this.routesSnapshotDirectory = routesSnapshotDirectory;
+        return (T) this;
+    }
+
     /**
      * Work directory for compiler. Can be used to write compiled classes or other resources.
      */
@@ -2594,6 +2812,45 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The reactive executor which schedules the routing tasks. The default executor runs the tasks on the current
+     * thread. The work-stealing executor hands over the tasks scheduled from threads that are not routing (such as I/O
+     * threads that complete asynchronous requests) to a work-stealing thread pool, to spread the routing across the CPU
+     * cores.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * The number of threads in the pool of the work-stealing reactive executor. The default is the number of CPU cores.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
+    /**
+     * Whether the scheduled polling consumers (such as file, ftp and sql) use a poll scheduler which is shared by all
+     * the consumers, instead of a scheduled thread pool per consumer. The shared poll scheduler runs the polls on a
+     * timing wheel with a single timer thread, and the delay between polls is adaptive, where the delay is increased
+     * for idle consumers, and decreased for consumers that keep polling full batches. This only applies to consumers
+     * which do not have a scheduler configured.
+     */
+    public T withSharedPollScheduler(boolean sharedPollScheduler) {
+        this.sharedPollScheduler = sharedPollScheduler;
+        return (T) this;
+    }
+
+    /**
+     * The number of threads which runs the polls of the shared poll scheduler. The default is 10.
+     */
+    public T withSharedPollSchedulerPoolSize(int sharedPollSchedulerPoolSize) {
+        this.sharedPollSchedulerPoolSize = sharedPollSchedulerPoolSize;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML/YAML DSL into the log. This is intended for trouble shooting or to assist during development.
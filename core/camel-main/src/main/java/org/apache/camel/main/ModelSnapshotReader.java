@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.spi.ClassResolver;
+
+import static org.apache.camel.main.ModelSnapshotWriter.ATOMIC_BOOLEAN;
+import static org.apache.camel.main.ModelSnapshotWriter.BOOLEAN_FALSE;
+import static org.apache.camel.main.ModelSnapshotWriter.BOOLEAN_TRUE;
+import static org.apache.camel.main.ModelSnapshotWriter.DOUBLE;
+import static org.apache.camel.main.ModelSnapshotWriter.ENUM;
+import static org.apache.camel.main.ModelSnapshotWriter.INTEGER;
+import static org.apache.camel.main.ModelSnapshotWriter.LIST;
+import static org.apache.camel.main.ModelSnapshotWriter.LONG;
+import static org.apache.camel.main.ModelSnapshotWriter.MAP;
+import static org.apache.camel.main.ModelSnapshotWriter.MODEL_PACKAGE;
+import static org.apache.camel.main.ModelSnapshotWriter.NULL;
+import static org.apache.camel.main.ModelSnapshotWriter.OBJECT;
+import static org.apache.camel.main.ModelSnapshotWriter.OBJECT_REFERENCE;
+import static org.apache.camel.main.ModelSnapshotWriter.SET;
+import static org.apache.camel.main.ModelSnapshotWriter.TEXT;
+import static org.apache.camel.main.ModelSnapshotWriter.TEXT_ARRAY;
+import static org.apache.camel.main.ModelSnapshotWriter.TEXT_REFERENCE;
+
+/**
+ * Reads model definitions which has been written by {@link ModelSnapshotWriter}.
+ * <p/>
+ * Only classes from the model packages are created (by their default constructor), and the snapshot is rejected if the
+ * fields of a model class is not the same as when the snapshot was written.
+ */
+final class ModelSnapshotReader {
+
+    private final DataInput in;
+    private final ClassResolver classResolver;
+    private final List<Object> objects = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<List<Field>> classes = new ArrayList<>();
+    private final List<Class<?>> types = new ArrayList<>();
+
+    ModelSnapshotReader(DataInput in, ClassResolver classResolver) {
+        this.in = in;
+        this.classResolver = classResolver;
+    }
+
+    /**
+     * Reads the model definition, or a value of a field of a model definition
+     *
+     * @throws IOException is thrown if the snapshot is corrupt or does not match the model classes
+     */
+    Object readObject() throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case TEXT, TEXT_REFERENCE -> readText(tag);
+            case BOOLEAN_TRUE -> Boolean.TRUE;
+            case BOOLEAN_FALSE -> Boolean.FALSE;
+            case INTEGER -> in.readInt();
+            case LONG -> in.readLong();
+            case DOUBLE -> in.readDouble();
+            case ENUM -> readEnum();
+            case ATOMIC_BOOLEAN -> new AtomicBoolean(in.readBoolean());
+            case TEXT_ARRAY -> {
+                String[] array = new String[readSize()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = (String) readObject();
+                }
+                yield array;
+            }
+            case LIST -> readElements(new ArrayList<>());
+            case SET -> readElements(new LinkedHashSet<>());
+            case MAP -> {
+                int size = readSize();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readObject(), readObject());
+                }
+                yield map;
+            }
+            case OBJECT -> readDefinition();
+            case OBJECT_REFERENCE -> objects.get(readSize());
+            default -> throw new IOException("Invalid snapshot tag: " + tag);
+        };
+    }
+
+    private Object readDefinition() throws IOException {
+        int classIndex = readSize();
+        if (classIndex == classes.size()) {
+            readClass();
+        }
+        Class<?> type = types.get(classIndex);
+        List<Field> fields = classes.get(classIndex);
+
+        Object answer;
+        try {
+            answer = type.getConstructor().newInstance();
+        } catch (Exception e) {
+            throw new IOException("Cannot create " + type.getName() + " from snapshot", e);
+        }
+        objects.add(answer);
+
+        for (Field field : fields) {
+            Object value = readObject();
+            try {
+                setField(answer, field, value);
+            } catch (Exception e) {
+                throw new IOException("Cannot set " + type.getName() + "." + field.getName() + " from snapshot", e);
+            }
+        }
+        return answer;
+    }
+
+    private void readClass() throws IOException {
+        String name = readText(in.readByte());
+        if (!name.startsWith(MODEL_PACKAGE)) {
+            throw new IOException("Invalid class in snapshot: " + name);
+        }
+        Class<?> type = classResolver.resolveClass(name);
+        if (type == null || !Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            throw new IOException("Cannot load class from snapshot: " + name);
+        }
+        List<Field> fields = ModelSnapshotWriter.fields(type);
+        int size = readSize();
+        if (size != fields.size()) {
+            throw new IOException("The fields of class " + name + " has changed since the snapshot was written");
+        }
+        for (Field field : fields) {
+            String fieldName = readText(in.readByte());
+            if (!field.getName().equals(fieldName)) {
+                throw new IOException("The fields of class " + name + " has changed since the snapshot was written");
+            }
+        }
+        types.add(type);
+        classes.add(fields);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void setField(Object target, Field field, Object value) throws IllegalAccessException {
+        if (!Modifier.isFinal(field.getModifiers())) {
+            if (value != null || !field.getType().isPrimitive()) {
+                field.set(target, value);
+            }
+            return;
+        }
+        // final fields are initialized by the constructor, so restore the content only
+        Object existing = field.get(target);
+        if (existing instanceof AtomicBoolean bool) {
+            bool.set(value != null && ((AtomicBoolean) value).get());
+        } else if (existing instanceof Collection collection) {
+            collection.clear();
+            if (value != null) {
+                collection.addAll((Collection) value);
+            }
+        } else if (existing instanceof Map map) {
+            map.clear();
+            if (value != null) {
+                map.putAll((Map) value);
+            }
+        } else if (value != null) {
+            throw new IllegalAccessException("Cannot restore final field");
+        }
+    }
+
+    private Collection<Object> readElements(Collection<Object> collection) throws IOException {
+        int size = readSize();
+        for (int i = 0; i < size; i++) {
+            collection.add(readObject());
+        }
+        return collection;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object readEnum() throws IOException {
+        String name = readText(in.readByte());
+        String constant = readText(in.readByte());
+        Class<?> type = name.startsWith("org.apache.camel.") ? classResolver.resolveClass(name) : null;
+        if (type == null || !type.isEnum()) {
+            throw new IOException("Invalid enum in snapshot: " + name);
+        }
+        try {
+            return Enum.valueOf((Class) type, constant);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid enum in snapshot: " + name + "." + constant, e);
+        }
+    }
+
+    private String readText(byte tag) throws IOException {
+        if (tag == TEXT_REFERENCE) {
+            return texts.get(readSize());
+        } else if (tag != TEXT) {
+            throw new IOException("Invalid snapshot tag: " + tag);
+        }
+        byte[] data = new byte[readSize()];
+        in.readFully(data);
+        String text = new String(data, StandardCharsets.UTF_8);
+        texts.add(text);
+        return text;
+    }
+
+    private int readSize() throws IOException {
+        int size = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            size |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return size;
+            }
+        }
+        throw new IOException("Invalid size in snapshot");
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.Resource;
+
+/**
+ * Writes model definitions, such as {@link org.apache.camel.model.RouteDefinition}, in a compact binary format which
+ * can be read by {@link ModelSnapshotReader}.
+ * <p/>
+ * The fields of the model classes are written by reflection, where the class and field names, and the texts are only
+ * written the first time, and then referred to by their index. The fields which refers to the {@link CamelContext} or
+ * {@link Resource} are not written, as they are set when the model is added to Camel. A model which refers to any other
+ * kind of object, such as a processor or an expression created from Java code, cannot be written.
+ */
+final class ModelSnapshotWriter {
+
+    static final String MODEL_PACKAGE = "org.apache.camel.model.";
+
+    static final byte NULL = 0;
+    static final byte OBJECT = 1;
+    static final byte OBJECT_REFERENCE = 2;
+    static final byte TEXT = 3;
+    static final byte TEXT_REFERENCE = 4;
+    static final byte BOOLEAN_TRUE = 5;
+    static final byte BOOLEAN_FALSE = 6;
+    static final byte INTEGER = 7;
+    static final byte LONG = 8;
+    static final byte DOUBLE = 9;
+    static final byte ENUM = 10;
+    static final byte TEXT_ARRAY = 11;
+    static final byte LIST = 12;
+    static final byte SET = 13;
+    static final byte MAP = 14;
+    static final byte ATOMIC_BOOLEAN = 15;
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> answer = new ArrayList<>();
+            if (type.getSuperclass() != null && type.getSuperclass().getName().startsWith(MODEL_PACKAGE)) {
+                answer.addAll(get(type.getSuperclass()));
+            }
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || CamelContext.class.isAssignableFrom(field.getType())
+                        || Resource.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                // final fields are initialized by the constructor, so only the content of collections is restored
+                if (Modifier.isFinal(modifiers) && !Collection.class.isAssignableFrom(field.getType())
+                        && !Map.class.isAssignableFrom(field.getType()) && field.getType() != AtomicBoolean.class) {
+                    continue;
+                }
+                field.setAccessible(true);
+                answer.add(field);
+            }
+            return answer;
+        }
+    };
+
+    private final DataOutput out;
+    private final Map<Object, Integer> objects = new IdentityHashMap<>();
+    private final Map<Object, Boolean> ignored = new IdentityHashMap<>();
+    private final Map<String, Integer> texts = new HashMap<>();
+    private final Map<Class<?>, Integer> classes = new HashMap<>();
+
+    ModelSnapshotWriter(DataOutput out) {
+        this.out = out;
+    }
+
+    /**
+     * The fields of the model class which are written, in the order they are written
+     */
+    static List<Field> fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    /**
+     * Writes the given object as <tt>null</tt> wherever it is referred to, such as the error handler which is inherited
+     * from the route builder, and therefore not part of the model.
+     */
+    void ignore(Object value) {
+        if (value != null) {
+            ignored.put(value, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Writes the model definition, or a value of a field of a model definition
+     *
+     * @throws IOException is thrown if the value is not supported
+     */
+    void writeObject(Object value) throws IOException {
+        if (value == null || ignored.containsKey(value)) {
+            out.writeByte(NULL);
+        } else if (value instanceof String text) {
+            writeText(text);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+        } else if (value instanceof Integer num) {
+            out.writeByte(INTEGER);
+            out.writeInt(num);
+        } else if (value instanceof Long num) {
+            out.writeByte(LONG);
+            out.writeLong(num);
+        } else if (value instanceof Double num) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(num);
+        } else if (value instanceof Enum<?> constant) {
+            out.writeByte(ENUM);
+            writeText(constant.getDeclaringClass().getName());
+            writeText(constant.name());
+        } else if (value instanceof AtomicBoolean bool) {
+            out.writeByte(ATOMIC_BOOLEAN);
+            out.writeBoolean(bool.get());
+        } else if (value instanceof String[] array) {
+            out.writeByte(TEXT_ARRAY);
+            writeSize(array.length);
+            for (String text : array) {
+                writeObject(text);
+            }
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            writeElements(list);
+        } else if (value instanceof Set<?> set) {
+            out.writeByte(SET);
+            writeElements(set);
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            writeSize(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeObject(entry.getKey());
+                writeObject(entry.getValue());
+            }
+        } else {
+            writeDefinition(value);
+        }
+    }
+
+    private void writeDefinition(Object value) throws IOException {
+        Integer index = objects.get(value);
+        if (index != null) {
+            out.writeByte(OBJECT_REFERENCE);
+            writeSize(index);
+            return;
+        }
+
+        Class<?> type = value.getClass();
+        if (!type.getName().startsWith(MODEL_PACKAGE) || !Modifier.isPublic(type.getModifiers())
+                || type.isAnonymousClass()) {
+            throw new IOException("Cannot write snapshot of " + type.getName());
+        }
+        objects.put(value, objects.size());
+
+        out.writeByte(OBJECT);
+        List<Field> fields = fields(type);
+        Integer classIndex = classes.get(type);
+        if (classIndex != null) {
+            writeSize(classIndex);
+        } else {
+            // the first time the class is written then the names of its fields are written as well
+            writeSize(classes.size());
+            classes.put(type, classes.size());
+            writeText(type.getName());
+            writeSize(fields.size());
+            for (Field field : fields) {
+                writeText(field.getName());
+            }
+        }
+        for (Field field : fields) {
+            try {
+                writeObject(field.get(value));
+            } catch (IllegalAccessException e) {
+                throw new IOException("Cannot write snapshot of " + type.getName() + "." + field.getName(), e);
+            }
+        }
+    }
+
+    private void writeElements(Collection<?> collection) throws IOException {
+        writeSize(collection.size());
+        for (Object element : collection) {
+            writeObject(element);
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        Integer index = texts.get(text);
+        if (index != null) {
+            out.writeByte(TEXT_REFERENCE);
+            writeSize(index);
+        } else {
+            texts.put(text, texts.size());
+            out.writeByte(TEXT);
+            byte[] data = text.getBytes(StandardCharsets.UTF_8);
+            writeSize(data.length);
+            out.write(data);
+        }
+    }
+
+    /**
+     * Writes a size or an index using 7 bits per byte, so small numbers are written in a single byte
+     */
+    private void writeSize(int size) throws IOException {
+        while ((size & ~0x7F) != 0) {
+            out.writeByte((size & 0x7F) | 0x80);
+            size >>>= 7;
+        }
+        out.writeByte(size);
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.RouteBuilderLifecycleStrategy;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RoutesBuilderLoader} which stores a binary snapshot of the routes and route templates loaded from a route
+ * resource (such as XML and YAML files), and loads the routes from the snapshot instead of parsing the resource again,
+ * when the resource is unchanged since the snapshot was written.
+ * <p/>
+ * The snapshots are keyed by the checksum of the resource, and the Camel version. A snapshot is only written for
+ * resources where the top-level elements are only routes and route templates, and where the routes do not refer to
+ * objects created from code, such as beans, processors or expressions. Other resources are always loaded by the DSL
+ * loader.
+ */
+public class RoutesSnapshotLoader extends ServiceSupport implements RoutesBuilderLoader {
+
+    /**
+     * The extensions of the DSL loaders which provides the route models as-is, and where snapshots can be used
+     */
+    public static final String[] SUPPORTED_EXTENSIONS = { "xml", "yaml", "camel.yaml", "pipe.yaml" };
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutesSnapshotLoader.class);
+
+    // the top-level elements (or keys) of the resources where snapshots can be used
+    private static final Set<String> XML_ROOTS = Set.of("routes", "routeTemplates", "camel", "route", "routeTemplate");
+    private static final Set<String> YAML_KEYS = Set.of("route", "from", "routeTemplate", "route-template");
+
+    private static final int MAGIC = 0x43534e50;
+    private static final int FORMAT_VERSION = 1;
+
+    private final RoutesBuilderLoader delegate;
+    private final Path directory;
+    private CamelContext camelContext;
+
+    public RoutesSnapshotLoader(RoutesBuilderLoader delegate, String directory) {
+        this.delegate = delegate;
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Creates the snapshot loader for the given DSL loader
+     */
+    public static RoutesSnapshotLoader wrap(RoutesBuilderLoader delegate, String directory) {
+        if (delegate instanceof ExtendedRoutesBuilderLoader) {
+            return new ExtendedRoutesSnapshotLoader(delegate, directory);
+        }
+        return new RoutesSnapshotLoader(delegate, directory);
+    }
+
+    public RoutesBuilderLoader getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public String getSupportedExtension() {
+        return delegate.getSupportedExtension();
+    }
+
+    @Override
+    public boolean isSupportedExtension(String extension) {
+        return delegate.isSupportedExtension(extension);
+    }
+
+    @Override
+    public void preParseRoute(Resource resource) throws Exception {
+        // resources with a snapshot has no configurations to detect
+        if (!hasSnapshot(resource)) {
+            delegate.preParseRoute(resource);
+        }
+    }
+
+    @Override
+    public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+        RoutesBuilder answer = loadSnapshot(resource);
+        if (answer == null) {
+            answer = delegate.loadRoutesBuilder(resource);
+            record(resource, answer);
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(delegate);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
+    }
+
+    /**
+     * Whether there is a snapshot of the resource, which is up-to-date
+     */
+    protected boolean hasSnapshot(Resource resource) {
+        Path file = snapshotFile(resource);
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return readHeader(in, resource);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads the routes from the snapshot of the resource
+     *
+     * @return the routes, or <tt>null</tt> if there is no snapshot, or the resource has been changed
+     */
+    protected RoutesBuilder loadSnapshot(Resource resource) {
+        Path file = snapshotFile(resource);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!readHeader(in, resource)) {
+                LOG.debug("Snapshot: {} is outdated for resource: {}", file, resource.getLocation());
+                return null;
+            }
+            ModelSnapshotReader reader = new ModelSnapshotReader(in, camelContext.getClassResolver());
+            int routes = in.readInt();
+            int templates = in.readInt();
+            List<RouteDefinition> routeDefinitions = new ArrayList<>(routes);
+            for (int i = 0; i < routes; i++) {
+                routeDefinitions.add((RouteDefinition) reader.readObject());
+            }
+            List<RouteTemplateDefinition> templateDefinitions = new ArrayList<>(templates);
+            for (int i = 0; i < templates; i++) {
+                templateDefinitions.add((RouteTemplateDefinition) reader.readObject());
+            }
+            LOG.debug("Loaded {} routes and {} route templates from snapshot: {} for resource: {}", routes, templates, file,
+                    resource.getLocation());
+            return new SnapshotRouteBuilder(resource, routeDefinitions, templateDefinitions);
+        } catch (Exception e) {
+            LOG.debug("Cannot load snapshot: {} for resource: {} due to: {}. The resource is loaded instead.", file,
+                    resource.getLocation(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Records the routes, when the routes are configured from the resource, so a snapshot can be written afterwards
+     */
+    protected void record(Resource resource, RoutesBuilder builder) {
+        if (builder instanceof RouteBuilder rb) {
+            try {
+                rb.addLifecycleInterceptor(new SnapshotRecorder(resource, checksum(resource)));
+            } catch (IOException e) {
+                LOG.debug("Cannot read resource: {} due to: {}", resource.getLocation(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean readHeader(DataInputStream in, Resource resource) throws IOException {
+        return in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION
+                && camelContext.getVersion().equals(in.readUTF())
+                && checksum(resource).equals(in.readUTF());
+    }
+
+    private Path snapshotFile(Resource resource) {
+        String location = resource.getLocation();
+        String name = FileUtil.stripPath(location);
+        return directory.resolve(name + "." + digest(location.getBytes(StandardCharsets.UTF_8)).substring(0, 16)
+                                 + ".snapshot");
+    }
+
+    private static String checksum(Resource resource) throws IOException {
+        try (InputStream is = resource.getInputStream()) {
+            return digest(is.readAllBytes());
+        }
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the routes as they are added by the DSL loader (before the routes are prepared), and then writes the
+     * snapshot when the resource is fully configured, if the resource only has routes and route templates.
+     */
+    private final class SnapshotRecorder implements RouteBuilderLifecycleStrategy {
+
+        private final Resource resource;
+        private final String checksum;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final ModelSnapshotWriter writer = new ModelSnapshotWriter(new DataOutputStream(bytes));
+        private int routes;
+        private String failure;
+
+        private SnapshotRecorder(Resource resource, String checksum) {
+            this.resource = resource;
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void beforeConfigure(RouteBuilder builder) {
+            RoutesDefinition collection = builder.getRouteCollection();
+            // the error handler is inherited from the builder, and is set again when loading the snapshot
+            writer.ignore(collection.getErrorHandlerFactory());
+            collection.setRoutes(new ArrayList<>(collection.getRoutes()) {
+                @Override
+                public boolean add(RouteDefinition route) {
+                    writeRoute(route);
+                    return super.add(route);
+                }
+            });
+        }
+
+        @Override
+        public void afterConfigure(RouteBuilder builder) {
+            String reason = failure != null ? failure : notSupported(builder);
+            if (reason != null) {
+                LOG.debug("Cannot write snapshot for resource: {} due to: {}", resource.getLocation(), reason);
+                return;
+            }
+            Path file = snapshotFile(resource);
+            try {
+                List<RouteTemplateDefinition> templates = builder.getRouteTemplateCollection().getRouteTemplates();
+                for (RouteTemplateDefinition template : templates) {
+                    writer.writeObject(template);
+                }
+
+                Files.createDirectories(directory);
+                Path tmp = Files.createTempFile(directory, FileUtil.stripPath(resource.getLocation()), ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(camelContext.getVersion());
+                    out.writeUTF(checksum);
+                    out.writeInt(routes);
+                    out.writeInt(templates.size());
+                    bytes.writeTo(out);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                LOG.debug("Written snapshot: {} for resource: {}", file, resource.getLocation());
+            } catch (Exception e) {
+                LOG.debug("Cannot write snapshot: {} for resource: {} due to: {}", file, resource.getLocation(),
+                        e.getMessage(), e);
+            }
+        }
+
+        private void writeRoute(RouteDefinition route) {
+            if (failure == null) {
+                try {
+                    writer.writeObject(route);
+                    routes++;
+                } catch (IOException e) {
+                    failure = e.getMessage();
+                }
+            }
+        }
+
+        private String notSupported(RouteBuilder builder) {
+            if (routes != builder.getRouteCollection().getRoutes().size()) {
+                return "routes not added by the loader";
+            }
+            try {
+                if (!isRoutesOnly(resource)) {
+                    return "other top-level elements than routes and route templates";
+                }
+            } catch (Exception e) {
+                return e.getMessage();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Whether the top-level elements of the resource are only routes and route templates. Other elements (such as
+     * beans, data formats, rest configuration or a global error handler) are configured on Camel by the DSL loader, and
+     * are therefore not in the snapshot.
+     */
+    static boolean isRoutesOnly(Resource resource) throws Exception {
+        String location = resource.getLocation();
+        if (location.endsWith(".xml")) {
+            return isXmlRoutesOnly(resource);
+        } else if (location.endsWith(".yaml") || location.endsWith(".yml")) {
+            return isYamlRoutesOnly(resource);
+        }
+        return false;
+    }
+
+    private static boolean isXmlRoutesOnly(Resource resource) throws Exception {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream is = resource.getInputStream()) {
+            XMLStreamReader reader = factory.createXMLStreamReader(is);
+            try {
+                String root = null;
+                int depth = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        String name = reader.getLocalName();
+                        if (depth == 1) {
+                            root = name;
+                            if (!XML_ROOTS.contains(name)) {
+                                return false;
+                            }
+                        } else if (depth == 2 && !isXmlRouteElement(root, name)) {
+                            return false;
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+                return root != null;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static boolean isXmlRouteElement(String root, String name) {
+        return switch (root) {
+            case "routes" -> "route".equals(name);
+            case "routeTemplates" -> "routeTemplate".equals(name);
+            case "camel" -> "route".equals(name) || "routeTemplate".equals(name);
+            // the elements of a single route or route template
+            default -> true;
+        };
+    }
+
+    private static boolean isYamlRoutesOnly(Resource resource) throws IOException {
+        String text;
+        try (InputStream is = resource.getInputStream()) {
+            text = IOHelper.loadText(is);
+        }
+        // the top-level must be a sequence of routes and route templates
+        int indent = -1;
+        boolean found = false;
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || "---".equals(trimmed)) {
+                continue;
+            }
+            int pos = line.length() - line.stripLeading().length();
+            if (indent == -1) {
+                indent = pos;
+            }
+            if (pos < indent) {
+                return false;
+            } else if (pos == indent) {
+                if (!trimmed.startsWith("- ")) {
+                    return false;
+                }
+                String entry = trimmed.substring(2).trim();
+                int colon = entry.indexOf(':');
+                if (colon <= 0 || !YAML_KEYS.contains(entry.substring(0, colon).trim())) {
+                    return false;
+                }
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds the routes and route templates loaded from a snapshot
+     */
+    private static final class SnapshotRouteBuilder extends RouteBuilder {
+
+        private final List<RouteDefinition> routes;
+        private final List<RouteTemplateDefinition> templates;
+
+        private SnapshotRouteBuilder(Resource resource, List<RouteDefinition> routes,
+                                     List<RouteTemplateDefinition> templates) {
+            this.routes = routes;
+            this.templates = templates;
+            setResource(resource);
+        }
+
+        @Override
+        public void configure() throws Exception {
+            for (RouteTemplateDefinition template : templates) {
+                CamelContextAware.trySetCamelContext(template, getCamelContext());
+                getRouteTemplateCollection().routeTemplate(template);
+            }
+            for (RouteDefinition route : routes) {
+                CamelContextAware.trySetCamelContext(route, getCamelContext());
+                getRouteCollection().route(route);
+            }
+        }
+    }
+
+    /**
+     * The snapshot loader for DSL loaders which loads all their resources in one unit
+     */
+    private static final class ExtendedRoutesSnapshotLoader extends RoutesSnapshotLoader
+            implements ExtendedRoutesBuilderLoader {
+
+        private ExtendedRoutesSnapshotLoader(RoutesBuilderLoader delegate, String directory) {
+            super(delegate, directory);
+        }
+
+        @Override
+        public void preParseRoutes(Collection<Resource> resources) throws Exception {
+            List<Resource> parse = new ArrayList<>(resources.size());
+            for (Resource resource : resources) {
+                if (!hasSnapshot(resource)) {
+                    parse.add(resource);
+                }
+            }
+            if (!parse.isEmpty()) {
+                ((ExtendedRoutesBuilderLoader) getDelegate()).preParseRoutes(parse);
+            }
+        }
+
+        @Override
+        public Collection<RoutesBuilder> loadRoutesBuilders(Collection<Resource> resources) throws Exception {
+            List<RoutesBuilder> snapshots = new ArrayList<>(resources.size());
+            List<Resource> load = new ArrayList<>(resources.size());
+            for (Resource resource : resources) {
+                RoutesBuilder builder = loadSnapshot(resource);
+                snapshots.add(builder);
+                if (builder == null) {
+                    load.add(resource);
+                }
+            }
+            List<RoutesBuilder> loaded = new ArrayList<>();
+            if (!load.isEmpty()) {
+                loaded.addAll(((ExtendedRoutesBuilderLoader) getDelegate()).loadRoutesBuilders(load));
+            }
+            if (loaded.size() != load.size()) {
+                // the builders cannot be matched with their resources, so no snapshots can be recorded
+                List<RoutesBuilder> answer = new ArrayList<>(loaded);
+                snapshots.stream().filter(Objects::nonNull).forEach(answer::add);
+                return answer;
+            }
+
+            // keep the builders in the same order as the resources
+            List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+            int index = 0;
+            for (RoutesBuilder builder : snapshots) {
+                if (builder == null) {
+                    builder = loaded.get(index);
+                    record(load.get(index++), builder);
+                }
+                answer.add(builder);
+            }
+            return answer;
+        }
+    }
+}
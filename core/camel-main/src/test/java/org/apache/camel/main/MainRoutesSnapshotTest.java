@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.FromDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.SetHeaderDefinition;
+import org.apache.camel.model.ToDefinition;
+import org.apache.camel.model.language.SimpleExpression;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainRoutesSnapshotTest {
+
+    private static final String ROUTES = """
+            <routes>
+              <route id="foo"><from uri="direct:foo"/><to uri="mock:foo"/></route>
+              <route id="bar"><from uri="direct:bar"/><to uri="mock:bar"/></route>
+            </routes>
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testSnapshot() throws Exception {
+        Path routes = dir.resolve("routes.xml");
+        Files.writeString(routes, ROUTES);
+        Path snapshots = dir.resolve("snapshots");
+
+        MyLoader loader = new MyLoader();
+        assertRoutes(loader, routes, snapshots);
+        assertEquals(1, loader.counter.get());
+        try (Stream<Path> files = Files.list(snapshots)) {
+            assertEquals(1, files.count());
+        }
+
+        // the second time the routes are loaded from the snapshot
+        assertRoutes(loader, routes, snapshots);
+        assertEquals(1, loader.counter.get());
+
+        // and when the resource is changed then the routes are loaded again
+        Files.writeString(routes, ROUTES + "\n");
+        assertRoutes(loader, routes, snapshots);
+        assertEquals(2, loader.counter.get());
+    }
+
+    @Test
+    public void testNoSnapshotWithOtherElements() throws Exception {
+        Path routes = dir.resolve("routes.xml");
+        Files.writeString(routes, ROUTES.replace("<routes>", "<camel>")
+                .replace("</routes>", "<dataFormats><json/></dataFormats></camel>"));
+        Path snapshots = dir.resolve("snapshots");
+
+        // the data formats are configured by the loader, so the resource must always be loaded
+        MyLoader loader = new MyLoader();
+        assertRoutes(loader, routes, snapshots);
+        assertRoutes(loader, routes, snapshots);
+        assertEquals(2, loader.counter.get());
+        assertFalse(Files.exists(snapshots));
+    }
+
+    @Test
+    public void testRoutesOnly() throws Exception {
+        assertTrue(isRoutesOnly("routes.xml", ROUTES));
+        assertTrue(isRoutesOnly("route.xml", "<route id=\"foo\"><from uri=\"direct:foo\"/><to uri=\"mock:foo\"/></route>"));
+        assertTrue(isRoutesOnly("camel.xml", "<camel><route/><routeTemplate id=\"bar\"/></camel>"));
+        assertFalse(isRoutesOnly("camel.xml", "<camel><route/><beans/></camel>"));
+        assertFalse(isRoutesOnly("beans.xml", "<beans><bean id=\"foo\" class=\"com.foo.Foo\"/><camel/></beans>"));
+        assertFalse(isRoutesOnly("rests.xml", "<rests><rest path=\"/foo\"/></rests>"));
+
+        assertTrue(isRoutesOnly("routes.yaml", """
+                # the routes
+                - route:
+                    id: foo
+                    from:
+                      uri: direct:foo
+                      steps:
+                        - to: mock:foo
+                - from:
+                    uri: direct:bar
+                    steps:
+                      - to: mock:bar
+                """));
+        assertFalse(isRoutesOnly("routes.yaml", """
+                - errorHandler:
+                    deadLetterChannel:
+                      deadLetterUri: mock:dead
+                - from:
+                    uri: direct:bar
+                    steps:
+                      - to: mock:bar
+                """));
+        assertFalse(isRoutesOnly("routes.yaml", """
+                - from:
+                    uri: direct:bar
+                    steps:
+                      - to: mock:bar
+                - dataFormats:
+                    - json:
+                        id: json
+                """));
+        assertFalse(isRoutesOnly("pipe.yaml", """
+                apiVersion: camel.apache.org/v1
+                kind: Pipe
+                """));
+    }
+
+    private static boolean isRoutesOnly(String location, String content) throws Exception {
+        return RoutesSnapshotLoader.isRoutesOnly(ResourceHelper.fromString(location, content));
+    }
+
+    private static void assertRoutes(MyLoader loader, Path routes, Path snapshots) throws Exception {
+        Main main = new Main();
+        main.bind("routes-builder-loader-xml", loader);
+        main.configure().withRoutesIncludePattern("file:" + routes.toAbsolutePath())
+                .withRoutesSnapshotDirectory(snapshots.toString());
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            assertEquals(2, camelContext.getRoutes().size());
+            assertEquals("foo", camelContext.getRoutes().get(0).getId());
+            assertEquals("bar", camelContext.getRoutes().get(1).getId());
+
+            MockEndpoint mock = camelContext.getEndpoint("mock:bar", MockEndpoint.class);
+            mock.expectedBodiesReceived("Hello World");
+            mock.expectedHeaderReceived("route", "bar");
+            ProducerTemplate template = camelContext.createProducerTemplate();
+            template.sendBody("direct:bar", "Hello World");
+            mock.assertIsSatisfied();
+        } finally {
+            main.stop();
+        }
+    }
+
+    /**
+     * A loader which adds the route models, like the XML and YAML DSL loaders, from route elements with from and to
+     * uris.
+     */
+    private static class MyLoader extends ServiceSupport implements RoutesBuilderLoader {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private CamelContext camelContext;
+
+        @Override
+        public CamelContext getCamelContext() {
+            return camelContext;
+        }
+
+        @Override
+        public void setCamelContext(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        public String getSupportedExtension() {
+            return "xml";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            counter.incrementAndGet();
+            Document document;
+            try (InputStream is = resource.getInputStream()) {
+                document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(is);
+            }
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    NodeList list = document.getElementsByTagName("route");
+                    for (int i = 0; i < list.getLength(); i++) {
+                        Element element = (Element) list.item(i);
+                        String id = element.getAttribute("id");
+                        RouteDefinition route = new RouteDefinition();
+                        route.setId(id);
+                        route.setInput(new FromDefinition(uri(element, "from")));
+                        route.addOutput(new SetHeaderDefinition("route", new SimpleExpression(id)));
+                        route.addOutput(new ToDefinition(uri(element, "to")));
+                        getRouteCollection().route(route);
+                    }
+                }
+            };
+        }
+
+        private static String uri(Element element, String name) {
+            return ((Element) element.getElementsByTagName(name).item(0)).getAttribute("uri");
+        }
+    }
+}
@@ -21,12 +21,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.support.SharedPollScheduler;
 import org.junit.jupiter.api.Test;
 
 import static org.apache.camel.util.CollectionHelper.propertiesOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -56,6 +59,47 @@ public class MainTest {
         main.stop();
     }
 
+    @Test
+    public void testWorkStealingReactiveExecutor() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addInitialProperty("camel.main.reactiveExecutor", "work-stealing");
+        main.addInitialProperty("camel.main.reactiveExecutorParallelism", "2");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        WorkStealingReactiveExecutor executor = assertInstanceOf(WorkStealingReactiveExecutor.class,
+                camelContext.getCamelContextExtension().getReactiveExecutor());
+        assertEquals(2, executor.getParallelism());
+
+        MockEndpoint endpoint = camelContext.getEndpoint("mock:results", MockEndpoint.class);
+        endpoint.expectedMinimumMessageCount(1);
+
+        main.getCamelTemplate().sendBody("direct:start", "<message>1</message>");
+
+        endpoint.assertIsSatisfied();
+
+        main.stop();
+    }
+
+    @Test
+    public void testSharedPollScheduler() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addInitialProperty("camel.main.sharedPollScheduler", "true");
+        main.addInitialProperty("camel.main.sharedPollSchedulerPoolSize", "2");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        SharedPollScheduler scheduler = camelContext.getCamelContextExtension().getContextPlugin(SharedPollScheduler.class);
+        assertNotNull(scheduler);
+        assertTrue(scheduler.isDefaultScheduler());
+        assertEquals(2, scheduler.getPoolSize());
+        assertTrue(scheduler.isStarted());
+
+        main.stop();
+    }
+
     @Test
     public void testTraceStandby() throws Exception {
         // lets make a simple route
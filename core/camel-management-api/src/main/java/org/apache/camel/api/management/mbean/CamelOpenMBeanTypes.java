@@ -220,6 +220,20 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[] { SimpleType.STRING, SimpleType.LONG });
     }
 
+    public static TabularType loadbalancerProcessorsTabularType() throws OpenDataException {
+        CompositeType ct = loadbalancerProcessorsCompositeType();
+        return new TabularType("processors", "Processor statistics", ct, new String[] { "index" });
+    }
+
+    public static CompositeType loadbalancerProcessorsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "processors", "Processors",
+                new String[] { "index", "processorId", "inflight", "chosen", "averageResponseTime" },
+                new String[] { "Index", "Processor Id", "Inflight", "Chosen", "Average Response Time" },
+                new OpenType[] {
+                        SimpleType.INTEGER, SimpleType.STRING, SimpleType.INTEGER, SimpleType.LONG, SimpleType.DOUBLE });
+    }
+
     public static TabularType endpointsUtilizationTabularType() throws OpenDataException {
         CompositeType ct = endpointsUtilizationCompositeType();
         return new TabularType("endpointsUtilization", "Endpoint utilization statistics", ct, new String[] { "url" });
@@ -59,6 +59,18 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th Percentile Processing Time [milliseconds] (-1 if processing time histogram is disabled)")
+    long getProcessingTimeP50();
+
+    @ManagedAttribute(description = "90th Percentile Processing Time [milliseconds] (-1 if processing time histogram is disabled)")
+    long getProcessingTimeP90();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time [milliseconds] (-1 if processing time histogram is disabled)")
+    long getProcessingTimeP99();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time [milliseconds] (-1 if processing time histogram is disabled)")
+    long getProcessingTimeP999();
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
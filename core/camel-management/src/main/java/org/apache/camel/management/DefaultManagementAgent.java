@@ -66,6 +66,7 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean usePlatformMBeanServer = true;
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
+    private Boolean processingTimeHistogramEnabled = false;
     private Boolean endpointRuntimeStatisticsEnabled;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
@@ -135,6 +136,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             loadStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED, loadStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED) != null) {
+            processingTimeHistogramEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED);
+            values.put(JmxSystemPropertyKeys.PROCESSING_TIME_HISTOGRAM_ENABLED, processingTimeHistogramEnabled);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED) != null) {
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
@@ -298,6 +303,16 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getProcessingTimeHistogramEnabled() {
+        return processingTimeHistogramEnabled;
+    }
+
+    @Override
+    public void setProcessingTimeHistogramEnabled(Boolean processingTimeHistogramEnabled) {
+        this.processingTimeHistogramEnabled = processingTimeHistogramEnabled;
+    }
+
     @Override
     public Boolean getEndpointRuntimeStatisticsEnabled() {
         return endpointRuntimeStatisticsEnabled;
@@ -18,12 +18,14 @@ package org.apache.camel.management;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.management.JMException;
@@ -133,8 +135,11 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
     // the wrapped processors is for performance counters, which are in use for the created routes
     // when a route is removed, we should remove the associated processors from this map
-    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors = new HashMap<>();
-    private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices = new ArrayList<>();
+    // (concurrent as the routes can be created in parallel)
+    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors
+            = new ConcurrentHashMap<>();
+    private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices
+            = Collections.synchronizedList(new ArrayList<>());
     private final TimerListenerManager loadTimer = new ManagedLoadTimer();
     private final TimerListenerManagerStartupListener loadTimerStartupListener = new TimerListenerManagerStartupListener();
     private volatile CamelContext camelContext;
@@ -143,7 +148,7 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
     private final Set<String> knowRouteIds = new HashSet<>();
     private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
     private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new HashMap<>();
+    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new ConcurrentHashMap<>();
 
     public JmxManagementLifecycleStrategy() {
     }
@@ -772,9 +777,19 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         // and wrap the appropriate processor by InstrumentationInterceptStrategy.
         RouteDefinition routeDefinition = (RouteDefinition) route.getRoute();
 
-        // register performance counters for all processors and its children
-        for (ProcessorDefinition<?> processor : routeDefinition.getOutputs()) {
-            registerPerformanceCounters(route, processor, registeredCounters);
+        // in compact mode the performance counters are not created if the route is not registered (as they are not in use)
+        boolean compact = Boolean.TRUE.equals(camelContext.isCompactTemplatedRoutes());
+        if (compact && !shouldRegisterRouteDefinition(routeDefinition)) {
+            return;
+        }
+
+        // in compact mode the routes created from route templates have no processor mbeans, as they refer to the model
+        // of the route which is released, so only the route statistics are gathered
+        if (!compact || !isCompactRouteDefinition(routeDefinition)) {
+            // register performance counters for all processors and its children
+            for (ProcessorDefinition<?> processor : routeDefinition.getOutputs()) {
+                registerPerformanceCounters(route, processor, registeredCounters);
+            }
         }
 
         // set this managed intercept strategy that executes the JMX instrumentation for performance metrics
@@ -782,6 +797,29 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         route.setManagementInterceptStrategy(new InstrumentationInterceptStrategy(registeredCounters, wrappedProcessors));
     }
 
+    /**
+     * Whether the route created from the given route definition will be registered, which is used before the route has
+     * its properties (such as whether the route is created from a route template).
+     */
+    private boolean shouldRegisterRouteDefinition(RouteDefinition routeDefinition) {
+        ManagementAgent agent = getManagementStrategy().getManagementAgent();
+        if (agent == null || !agent.getMBeansLevel().isRoutes()) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(routeDefinition.isKamelet()) && !agent.getRegisterRoutesCreateByKamelet()) {
+            return false;
+        }
+        return !Boolean.TRUE.equals(routeDefinition.isTemplate()) || agent.getRegisterRoutesCreateByTemplate();
+    }
+
+    /**
+     * Whether the route created from the given route definition is created from a route template (and not a kamelet),
+     * so its model is released in compact mode.
+     */
+    private static boolean isCompactRouteDefinition(RouteDefinition routeDefinition) {
+        return Boolean.TRUE.equals(routeDefinition.isTemplate()) && !Boolean.TRUE.equals(routeDefinition.isKamelet());
+    }
+
     /**
      * Removes the wrapped processors for the given routes, as they are no longer in use.
      * <p/>
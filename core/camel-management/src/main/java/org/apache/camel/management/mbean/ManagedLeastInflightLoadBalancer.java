@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
+import org.apache.camel.api.management.mbean.ManagedLeastInflightLoadBalancerMBean;
+import org.apache.camel.model.LoadBalanceDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.loadbalancer.LeastInflightLoadBalancer;
+
+@ManagedResource(description = "Managed LeastInflight LoadBalancer")
+public class ManagedLeastInflightLoadBalancer extends ManagedProcessor implements ManagedLeastInflightLoadBalancerMBean {
+    private final LeastInflightLoadBalancer processor;
+
+    public ManagedLeastInflightLoadBalancer(CamelContext context, LeastInflightLoadBalancer processor,
+                                            LoadBalanceDefinition definition) {
+        super(context, processor, definition);
+        this.processor = processor;
+    }
+
+    @Override
+    public LoadBalanceDefinition getDefinition() {
+        return (LoadBalanceDefinition) super.getDefinition();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        processor.reset();
+    }
+
+    @Override
+    public Boolean getSupportExtendedInformation() {
+        return true;
+    }
+
+    @Override
+    public Integer getSize() {
+        return processor.getProcessors().size();
+    }
+
+    @Override
+    public Long getDecayTime() {
+        return processor.getDecayTime();
+    }
+
+    @Override
+    public String getLastChosenProcessorId() {
+        return processorId(processor.getLastChosenProcessorIndex());
+    }
+
+    @Override
+    public TabularData extendedInformation() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.loadbalancerProcessorsTabularType());
+            CompositeType ct = CamelOpenMBeanTypes.loadbalancerProcessorsCompositeType();
+
+            int size = processor.getProcessors().size();
+            for (int i = 0; i < size; i++) {
+                String id = processorId(i);
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] { "index", "processorId", "inflight", "chosen", "averageResponseTime" },
+                        new Object[] {
+                                i, id != null ? id : "", processor.getInflight(i), processor.getChosen(i),
+                                processor.getAverageResponseTime(i) });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private String processorId(int idx) {
+        if (idx != -1) {
+            LoadBalanceDefinition def = getDefinition();
+            if (idx < def.getOutputs().size()) {
+                ProcessorDefinition<?> output = def.getOutputs().get(idx);
+                if (output != null) {
+                    return output.getId();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -44,6 +44,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -72,6 +73,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        if (strategy != null && strategy.getManagementAgent() != null
+                && Boolean.TRUE.equals(strategy.getManagementAgent().getProcessingTimeHistogramEnabled())) {
+            this.processingTimeHistogram = new StatisticHistogram();
+        }
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -95,6 +100,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -166,6 +174,30 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getProcessingTimeP50() {
+        return processingTimeAtPercentile(50);
+    }
+
+    @Override
+    public long getProcessingTimeP90() {
+        return processingTimeAtPercentile(90);
+    }
+
+    @Override
+    public long getProcessingTimeP99() {
+        return processingTimeAtPercentile(99);
+    }
+
+    @Override
+    public long getProcessingTimeP999() {
+        return processingTimeAtPercentile(99.9);
+    }
+
+    private long processingTimeAtPercentile(double percentile) {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(percentile) : -1;
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -269,6 +301,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.updateValue(time);
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -331,6 +366,13 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
+        if (processingTimeHistogram != null) {
+            long[] values = processingTimeHistogram.getValuesAtPercentiles(50, 90, 99, 99.9);
+            sb.append(String.format(" processingTimeP50=\"%s\"", values[0]));
+            sb.append(String.format(" processingTimeP90=\"%s\"", values[1]));
+            sb.append(String.format(" processingTimeP99=\"%s\"", values[2]));
+            sb.append(String.format(" processingTimeP999=\"%s\"", values[3]));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A statistic which records the distribution of the updated values in a histogram, so the values at given percentiles
+ * (such as the 99th percentile) can be computed.
+ * <p/>
+ * The values are recorded in buckets with a logarithmic scale, where each power of two is divided into linear sub
+ * buckets (like HdrHistogram), so the values at the percentiles are accurate within 2% (values up to 127 are exact).
+ * Recording a value does not allocate any objects, and the counts are striped by thread, to avoid contention when the
+ * same processor is used by many threads concurrently. The stripes are created on first use.
+ * <p/>
+ * Each stripe has 1070 buckets (values up to 1 hour), which takes about 8.5 KB, so a histogram takes up to 34 KB with 4
+ * stripes.
+ */
+public class StatisticHistogram extends Statistic {
+
+    // 7 bits for the sub buckets means the relative error is at most 1/64
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    // values larger than 1 hour in millis are recorded as the highest value
+    private static final long HIGHEST_VALUE = TimeUnit.HOURS.toMillis(1);
+    private static final int BUCKETS = index(HIGHEST_VALUE) + 1;
+    private static final int STRIPES = Math.min(4, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    @Override
+    public void updateValue(long newValue) {
+        int stripe = STRIPES == 1 ? 0 : (int) (Thread.currentThread().getId() & (STRIPES - 1));
+        AtomicLongArray counts = stripes.get(stripe);
+        if (counts == null) {
+            stripes.compareAndSet(stripe, null, new AtomicLongArray(BUCKETS));
+            counts = stripes.get(stripe);
+        }
+        counts.incrementAndGet(index(Math.min(Math.max(newValue, 0), HIGHEST_VALUE)));
+    }
+
+    /**
+     * The number of recorded values
+     */
+    @Override
+    public long getValue() {
+        long answer = 0;
+        for (long count : counts()) {
+            answer += count;
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the value at the given percentile, such as 99.9 for the 99.9th percentile
+     *
+     * @param  percentile the percentile (between 0 and 100)
+     * @return            the value, or <tt>0</tt> if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        return getValuesAtPercentiles(percentile)[0];
+    }
+
+    /**
+     * Gets the values at the given percentiles, such as 50, 90 and 99 for the 50th, 90th and 99th percentiles, which
+     * are computed from the same snapshot of the histogram.
+     *
+     * @param  percentiles the percentiles (between 0 and 100) in increasing order
+     * @return             the values, which are <tt>0</tt> if no values has been recorded
+     */
+    public long[] getValuesAtPercentiles(double... percentiles) {
+        long[] counts = counts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        long[] answer = new long[percentiles.length];
+        if (total == 0) {
+            return answer;
+        }
+        int index = 0;
+        long sum = counts[0];
+        for (int i = 0; i < percentiles.length; i++) {
+            double percentile = Math.min(Math.max(percentiles[i], 0), 100);
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            while (sum < target && index < counts.length - 1) {
+                sum += counts[++index];
+            }
+            answer[i] = highestValue(index);
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray counts = stripes.get(i);
+            if (counts != null) {
+                for (int j = 0; j < BUCKETS; j++) {
+                    counts.set(j, 0);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        long[] values = getValuesAtPercentiles(50, 90, 99, 99.9);
+        return "p50=" + values[0] + ", p90=" + values[1] + ", p99=" + values[2] + ", p999=" + values[3];
+    }
+
+    private long[] counts() {
+        long[] answer = new long[BUCKETS];
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray counts = stripes.get(i);
+            if (counts != null) {
+                for (int j = 0; j < BUCKETS; j++) {
+                    answer[j] += counts.get(j);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The index of the bucket for the value, where values below {@link #SUB_BUCKET_COUNT} have their own bucket, and
+     * larger values are bucketed by their highest {@link #SUB_BUCKET_BITS} bits
+     */
+    static int index(long value) {
+        int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) (value >>> magnitude);
+        return magnitude * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    /**
+     * The highest value which is recorded in the bucket with the given index
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int magnitude = (index - SUB_BUCKET_HALF_COUNT) / SUB_BUCKET_HALF_COUNT;
+        long subBucket = index - (long) magnitude * SUB_BUCKET_HALF_COUNT;
+        return Math.min(((subBucket + 1) << magnitude) - 1, HIGHEST_VALUE);
+    }
+}
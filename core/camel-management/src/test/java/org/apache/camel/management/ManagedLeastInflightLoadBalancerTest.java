@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedLeastInflightLoadBalancerTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageLeastInflightLoadBalancer() throws Exception {
+        MockEndpoint foo = getMockEndpoint("mock:foo");
+        MockEndpoint bar = getMockEndpoint("mock:bar");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertEquals(2, foo.getReceivedCounter() + bar.getReceivedCounter());
+
+        // get the stats for the route
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // get the object name for the load balancer
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "mysend");
+
+        // should be on route1
+        String routeId = (String) mbeanServer.getAttribute(on, "RouteId");
+        assertEquals("route1", routeId);
+
+        String camelId = (String) mbeanServer.getAttribute(on, "CamelId");
+        assertEquals(context.getManagementName(), camelId);
+
+        String state = (String) mbeanServer.getAttribute(on, "State");
+        assertEquals(ServiceStatus.Started.name(), state);
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(2, size.intValue());
+
+        Long decayTime = (Long) mbeanServer.getAttribute(on, "DecayTime");
+        assertEquals(5000, decayTime.longValue());
+
+        String last = (String) mbeanServer.getAttribute(on, "LastChosenProcessorId");
+        assertNotNull(last);
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "extendedInformation", null, null);
+        assertEquals(2, data.size());
+        long chosen = 0;
+        for (Object row : data.values()) {
+            CompositeData cd = (CompositeData) row;
+            assertEquals(0, cd.get("inflight"));
+            chosen += (Long) cd.get("chosen");
+        }
+        assertEquals(2, chosen);
+
+        mbeanServer.invoke(on, "reset", null, null);
+        data = (TabularData) mbeanServer.invoke(on, "extendedInformation", null, null);
+        for (Object row : data.values()) {
+            assertEquals(0L, ((CompositeData) row).get("chosen"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .loadBalance().leastInflight(5000).id("mysend")
+                        .to("mock:foo").id("foo").to("mock:bar").id("bar");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProcessingTimeHistogramTest extends ManagementTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testHistogramDisabledByDefault() throws Exception {
+        addRoute();
+        context.start();
+
+        assertFalse(context.getManagementStrategy().getManagementAgent().getProcessingTimeHistogramEnabled());
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "myRoute");
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        assertMockEndpointsSatisfied();
+
+        assertEquals(-1L, mbeanServer.getAttribute(on, "ProcessingTimeP50"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "ProcessingTimeP999"));
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false }, new String[] { "boolean" });
+        assertFalse(xml.contains("processingTimeP50"));
+    }
+
+    @Test
+    public void testHistogram() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setProcessingTimeHistogramEnabled(true);
+        addRoute();
+        context.start();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, "myRoute");
+        ObjectName processor = getCamelObjectName(TYPE_PROCESSOR, "myDelay");
+
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        }
+        template.sendBodyAndHeader("direct:start", "Bye World", "delay", 300);
+        assertMockEndpointsSatisfied();
+
+        for (ObjectName on : new ObjectName[] { route, processor }) {
+            long p50 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP50");
+            long p90 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP90");
+            long p999 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP999");
+            long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+            assertTrue(p50 >= 0 && p50 < 300, "Should be below the delay: " + p50);
+            assertTrue(p90 >= p50, "Should be above p50: " + p90);
+            assertTrue(p999 >= 300 && p999 >= max, "Should be above the max: " + p999);
+        }
+
+        String xml = (String) mbeanServer.invoke(route, "dumpStatsAsXml", new Object[] { false }, new String[] { "boolean" });
+        assertTrue(xml.contains("processingTimeP99="));
+
+        // reset the statistics also resets the histogram
+        mbeanServer.invoke(route, "reset", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(route, "ProcessingTimeP99"));
+    }
+
+    private void addRoute() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("myRoute")
+                        .delay(header("delay")).id("myDelay")
+                        .to("mock:result");
+            }
+        });
+    }
+}
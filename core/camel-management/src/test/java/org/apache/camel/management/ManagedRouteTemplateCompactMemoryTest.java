@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.TemplatedRouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the heap used by routes created from a route template with JMX enabled (the default), with and without
+ * compact templated routes.
+ */
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteTemplateCompactMemoryTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ManagedRouteTemplateCompactMemoryTest.class);
+
+    private static final int ROUTES = 200;
+
+    @Test
+    public void testCompactUsesLessMemory() throws Exception {
+        // warm up so the classes and caches are loaded before measuring
+        usedMemoryByRoutes(false, 10);
+        usedMemoryByRoutes(true, 10);
+
+        long normal = usedMemoryByRoutes(false, ROUTES);
+        long compact = usedMemoryByRoutes(true, ROUTES);
+
+        LOG.info("Memory used by {} templated routes: {} bytes and {} bytes when compact (saving {} bytes per route)",
+                ROUTES, normal, compact, (normal - compact) / ROUTES);
+        assertTrue(compact < normal, "Compact routes should use less memory: " + compact + " >= " + normal);
+    }
+
+    private static long usedMemoryByRoutes(boolean compact, int routes) throws Exception {
+        long before = usedMemory();
+
+        CamelContext context = new DefaultCamelContext();
+        try {
+            assertNotNull(context.getManagementStrategy().getManagementAgent(), "JMX should be enabled");
+            context.setCompactTemplatedRoutes(compact);
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    routeTemplate("myTemplate").templateParameter("foo")
+                            .from("direct:{{foo}}")
+                            .setHeader("foo", constant("{{foo}}"))
+                            .choice().when(header("foo").isEqualTo("x")).to("log:x").otherwise().to("log:y").end()
+                            .split(body().tokenize(",")).to("log:split").end()
+                            .filter(simple("${body} contains 'Hello'"))
+                            .to("mock:result");
+                }
+            });
+            context.start();
+
+            for (int i = 0; i < routes; i++) {
+                TemplatedRouteBuilder.builder(context, "myTemplate").routeId("route" + i)
+                        .parameter("foo", "route" + i).add();
+            }
+
+            return usedMemory() - before;
+        } finally {
+            context.stop();
+        }
+    }
+
+    private static long usedMemory() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.TemplatedRouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteTemplateCompactTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setCompactTemplatedRoutes(true);
+        return context;
+    }
+
+    @Test
+    public void testCompactNotRegistered() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setRegisterRoutesCreateByTemplate(false);
+
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("first")
+                .parameter("foo", "one").parameter("bar", "cheese").add();
+
+        // the route is not registered in JMX so the model is released
+        assertNull(context.getRouteDefinition("first"));
+        MBeanServer mbeanServer = getMBeanServer();
+        assertFalse(mbeanServer.isRegistered(getCamelObjectName(TYPE_ROUTE, "first")));
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("org.apache.camel:type=processors,*"), null);
+        for (ObjectName on : set) {
+            assertEquals("plain", mbeanServer.getAttribute(on, "RouteId"));
+        }
+
+        getMockEndpoint("mock:cheese").expectedBodiesReceived("Hello Cheese");
+        template.sendBody("direct:one", "Hello Cheese");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCompactRegistered() throws Exception {
+        TemplatedRouteBuilder.builder(context, "myTemplate").routeId("first")
+                .parameter("foo", "one").parameter("bar", "cheese").add();
+
+        // the route is registered in JMX without its processors, so the model is released
+        assertNull(context.getRouteDefinition("first"));
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "first");
+        assertTrue(mbeanServer.isRegistered(on));
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("org.apache.camel:type=processors,*"), null);
+        assertFalse(set.isEmpty());
+        for (ObjectName pon : set) {
+            assertEquals("plain", mbeanServer.getAttribute(pon, "RouteId"));
+        }
+
+        getMockEndpoint("mock:cheese").expectedBodiesReceived("Hello Cheese");
+        template.sendBody("direct:one", "Hello Cheese");
+        assertMockEndpointsSatisfied();
+
+        // the route statistics are still available
+        assertEquals(1L, mbeanServer.getAttribute(on, "ExchangesCompleted"));
+        assertEquals("Started", mbeanServer.getAttribute(on, "State"));
+        // but the route can no longer be dumped
+        assertNull(mbeanServer.invoke(on, "dumpRouteAsXml", null, null));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                routeTemplate("myTemplate").templateParameter("foo").templateParameter("bar")
+                        .from("direct:{{foo}}")
+                        .log("Got ${body}")
+                        .to("mock:{{bar}}");
+
+                from("direct:plain").routeId("plain").to("mock:plain");
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        for (long value = 0; value < 1_000_000; value++) {
+            int index = StatisticHistogram.index(value);
+            long highest = StatisticHistogram.highestValue(index);
+            assertTrue(highest >= value, "Value " + value + " is above its bucket");
+            assertTrue(highest - value <= value / 64, "Value " + value + " is not accurate");
+            assertEquals(index, StatisticHistogram.index(highest));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        assertFalse(histogram.isUpdated());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.updateValue(i);
+        }
+        assertTrue(histogram.isUpdated());
+        assertEquals(1000, histogram.getValue());
+
+        long[] values = histogram.getValuesAtPercentiles(0, 50, 90, 99, 99.9, 100);
+        assertEquals(1, values[0]);
+        assertEquals(503, values[1]);
+        assertEquals(903, values[2]);
+        assertEquals(991, values[3]);
+        assertEquals(1007, values[4]);
+        assertEquals(1007, values[5]);
+
+        histogram.reset();
+        assertFalse(histogram.isUpdated());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        histogram.updateValue(-5);
+        histogram.updateValue(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        // values above 1 hour are recorded as 1 hour
+        assertEquals(3_600_000, histogram.getValueAtPercentile(100));
+    }
+}
@@ -0,0 +1,78 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.support.processor.idempotent;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class JournalFileIdempotentRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": target.setBloomFilter(property(camelContext, boolean.class, value)); return true;
+        case "cachesize":
+        case "cacheSize": target.setCacheSize(property(camelContext, int.class, value)); return true;
+        case "compactionfactor":
+        case "compactionFactor": target.setCompactionFactor(property(camelContext, int.class, value)); return true;
+        case "filestore":
+        case "fileStore": target.setFileStore(property(camelContext, java.io.File.class, value)); return true;
+        case "segments": target.setSegments(property(camelContext, int.class, value)); return true;
+        case "timetolive":
+        case "timeToLive": target.setTimeToLive(property(camelContext, long.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": return boolean.class;
+        case "cachesize":
+        case "cacheSize": return int.class;
+        case "compactionfactor":
+        case "compactionFactor": return int.class;
+        case "filestore":
+        case "fileStore": return java.io.File.class;
+        case "segments": return int.class;
+        case "timetolive":
+        case "timeToLive": return long.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.JournalFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": return target.isBloomFilter();
+        case "cachesize":
+        case "cacheSize": return target.getCacheSize();
+        case "compactionfactor":
+        case "compactionFactor": return target.getCompactionFactor();
+        case "filestore":
+        case "fileStore": return target.getFileStore();
+        case "segments": return target.getSegments();
+        case "timetolive":
+        case "timeToLive": return target.getTimeToLive();
+        default: return null;
+        }
+    }
+}
+
@@ -0,0 +1,66 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.support.processor.idempotent;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class SegmentedMemoryIdempotentRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository target = (org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": target.setBloomFilter(property(camelContext, boolean.class, value)); return true;
+        case "cachesize":
+        case "cacheSize": target.setCacheSize(property(camelContext, int.class, value)); return true;
+        case "segments": target.setSegments(property(camelContext, int.class, value)); return true;
+        case "timetolive":
+        case "timeToLive": target.setTimeToLive(property(camelContext, long.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": return boolean.class;
+        case "cachesize":
+        case "cacheSize": return int.class;
+        case "segments": return int.class;
+        case "timetolive":
+        case "timeToLive": return long.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository target = (org.apache.camel.support.processor.idempotent.SegmentedMemoryIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "bloomfilter":
+        case "bloomFilter": return target.isBloomFilter();
+        case "cachesize":
+        case "cacheSize": return target.getCacheSize();
+        case "segments": return target.getSegments();
+        case "timetolive":
+        case "timeToLive": return target.getTimeToLive();
+        default: return null;
+        }
+    }
+}
+
@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.trait.message.MessageTrait;
 
@@ -34,9 +35,14 @@ import org.apache.camel.trait.message.MessageTrait;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * The headers can be shared (read-only) with the copies of this message, by calling {@link #shareHeaders()}, where a
+ * copy only copies the shared headers into its own map, when the headers of the copy are changed.
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // read-only headers shared with other messages, which are only copied into the headers when changed
+    private Map<String, Object> sharedHeaders;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -56,18 +62,16 @@ public class DefaultMessage extends MessageSupport {
         if (headers != null) {
             headers.clear();
         }
+        // the shared headers are in use by other messages, so they must not be cleared
+        sharedHeaders = null;
         removeTrait(MessageTrait.ATTACHMENTS);
     }
 
     @Override
     public Object getHeader(String name) {
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-
-        if (!headers.isEmpty()) {
-            return headers.get(name);
+        Map<String, Object> map = readHeaders();
+        if (!map.isEmpty()) {
+            return map.get(name);
         } else {
             return null;
         }
@@ -77,13 +81,9 @@ public class DefaultMessage extends MessageSupport {
     public Object getHeader(String name, Object defaultValue) {
         Object answer = null;
 
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-
-        if (!headers.isEmpty()) {
-            answer = headers.get(name);
+        Map<String, Object> map = readHeaders();
+        if (!map.isEmpty()) {
+            answer = map.get(name);
         }
         return answer != null ? answer : defaultValue;
     }
@@ -92,13 +92,9 @@ public class DefaultMessage extends MessageSupport {
     public Object getHeader(String name, Supplier<Object> defaultValueSupplier) {
         Object answer = null;
 
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-
-        if (!headers.isEmpty()) {
-            answer = headers.get(name);
+        Map<String, Object> map = readHeaders();
+        if (!map.isEmpty()) {
+            answer = map.get(name);
         }
         return answer != null ? answer : defaultValueSupplier.get();
     }
@@ -108,13 +104,9 @@ public class DefaultMessage extends MessageSupport {
     public <T> T getHeader(String name, Class<T> type) {
         Object value = null;
 
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-
-        if (!headers.isEmpty()) {
-            value = headers.get(name);
+        Map<String, Object> map = readHeaders();
+        if (!map.isEmpty()) {
+            value = map.get(name);
         }
         if (value == null) {
             // lets avoid NullPointerException when converting to boolean for null values
@@ -143,13 +135,9 @@ public class DefaultMessage extends MessageSupport {
     public <T> T getHeader(String name, Object defaultValue, Class<T> type) {
         Object value = null;
 
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-
-        if (!headers.isEmpty()) {
-            value = headers.get(name);
+        Map<String, Object> map = readHeaders();
+        if (!map.isEmpty()) {
+            value = map.get(name);
         }
         if (value == null) {
             value = defaultValue;
@@ -204,22 +192,16 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writeHeaders().put(name, value);
     }
 
     @Override
     public Object removeHeader(String name) {
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-        if (headers.isEmpty()) {
+        Map<String, Object> map = readHeaders();
+        if (map.isEmpty() || (map == sharedHeaders && !map.containsKey(name))) {
             return null;
         }
-        return headers.remove(name);
+        return writeHeaders().remove(name);
     }
 
     @Override
@@ -229,29 +211,31 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public boolean removeHeaders(String pattern, String... excludePatterns) {
-        if (headers == null) {
-            // force creating headers
-            headers = createHeaders();
-        }
-        if (headers.isEmpty()) {
+        Map<String, Object> map = readHeaders();
+        if (map.isEmpty()) {
             return false;
         }
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            if (map == sharedHeaders) {
+                // no need to copy the shared headers to remove them all
+                sharedHeaders = null;
+            }
+            writeHeaders().clear();
             return true;
         }
 
-        final Set<String> toBeRemoved = PatternHelper.matchingSet(headers, pattern, excludePatterns);
+        final Set<String> toBeRemoved = PatternHelper.matchingSet(map, pattern, excludePatterns);
 
         if (toBeRemoved != null) {
-            if (toBeRemoved.size() == headers.size()) {
+            map = writeHeaders();
+            if (toBeRemoved.size() == map.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                map.clear();
             } else {
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
 
@@ -263,14 +247,13 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        return headers;
+        // the caller may change the headers
+        return writeHeaders();
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.sharedHeaders = null;
         HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
@@ -287,11 +270,70 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public boolean hasHeaders() {
+        return !readHeaders().isEmpty();
+    }
+
+    /**
+     * Shares the headers (read-only) with the copies of this message, so the headers are not copied when copying this
+     * message, but only when the headers of a copy are changed. This message copies the headers back into its own map
+     * as well, if its headers are changed afterwards.
+     * <p/>
+     * This must only be used on a private copy of a message, such as the copy an EIP creates its sub exchanges from, as
+     * the headers must not be changed by anyone that has previously got the map of the headers from this message.
+     */
+    public void shareHeaders() {
+        if (headers != null) {
+            sharedHeaders = headers;
+            headers = null;
+        }
+    }
+
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage message && message.headers == null && message.sharedHeaders != null) {
+            if (headers == null) {
+                // the headers are read-only so they can be shared until changed
+                sharedHeaders = message.sharedHeaders;
+            } else {
+                // keep our own headers (as they may be in use) and copy the shared headers into them
+                headers.clear();
+                headers.putAll(message.sharedHeaders);
+                sharedHeaders = null;
+            }
+        } else {
+            super.copyHeadersFrom(that);
+        }
+    }
+
+    /**
+     * The headers to look up headers in, which may be the shared headers
+     */
+    private Map<String, Object> readHeaders() {
         if (headers == null) {
+            if (sharedHeaders != null) {
+                return sharedHeaders;
+            }
             // force creating headers
             headers = createHeaders();
         }
-        return !headers.isEmpty();
+        return headers;
+    }
+
+    /**
+     * The headers of this message which can be changed, which copies the shared headers (if any) on first use
+     */
+    private Map<String, Object> writeHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+            if (sharedHeaders != null) {
+                if (!headers.isEmpty()) {
+                    headers.clear();
+                }
+                headers.putAll(sharedHeaders);
+                sharedHeaders = null;
+            }
+        }
+        return headers;
     }
 
     @Override
@@ -332,6 +374,6 @@ public class DefaultMessage extends MessageSupport {
      * Returns true if the headers have been mutated in some way
      */
     protected boolean hasPopulatedHeaders() {
-        return headers != null;
+        return headers != null || sharedHeaders != null;
     }
 }
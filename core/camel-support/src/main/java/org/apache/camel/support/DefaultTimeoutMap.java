@@ -18,7 +18,6 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -48,12 +47,19 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are kept in a {@link HashedTimingWheel} with the purge poll time as the tick, so the background task only
+ * looks at the entries which are about to expire, instead of all the entries in the map, and adding, refreshing and
+ * removing an entry are O(1) operations.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
+    private static final int TICKS_PER_WHEEL = 512;
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<TimeoutMapEntry<K, V>> wheel;
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
@@ -78,6 +84,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
         this.lock = lock;
+        this.wheel = new HashedTimingWheel<>(Math.max(1, requestMapPollTimeMillis), TICKS_PER_WHEEL, 0);
     }
 
     @Override
@@ -94,6 +101,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            cancelTimeout(entry);
+            scheduleTimeout(entry);
         } finally {
             lock.unlock();
         }
@@ -107,6 +116,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            cancelTimeout(result);
+            scheduleTimeout(entry);
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -123,6 +134,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                scheduleTimeout(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -142,7 +156,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            cancelTimeout(entry);
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -184,18 +200,23 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
+            // need to find the expired entries (from the timing wheel) and add to the expired list
+            wheel.advance(now, entry -> {
+                if (map.get(entry.getKey()) != entry) {
+                    // the entry has been replaced or removed in the meantime
+                    return;
                 }
-            }
+                if (isValidForEviction(entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
+                } else {
+                    // check the entry again on the next purge
+                    entry.setTimeoutTask(wheel.schedule(entry, now + 1));
+                }
+            });
 
             // if we found any expired then we need to sort, onEviction and remove
             if (!expired.isEmpty()) {
@@ -262,6 +283,18 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return true;
     }
 
+    private void scheduleTimeout(TimeoutMapEntry<K, V> entry) {
+        // the entry expires when the expire time has passed
+        entry.setTimeoutTask(wheel.schedule(entry, entry.getExpireTime() + 1));
+    }
+
+    private void cancelTimeout(TimeoutMapEntry<K, V> entry) {
+        if (entry != null && entry.getTimeoutTask() != null) {
+            entry.getTimeoutTask().cancel();
+            entry.setTimeoutTask(null);
+        }
+    }
+
     protected void updateExpireTime(TimeoutMapEntry<K, V> entry) {
         long now = currentTime();
         entry.setExpireTime(entry.getTimeout() + now);
@@ -287,6 +320,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        wheel.clear();
     }
 
 }
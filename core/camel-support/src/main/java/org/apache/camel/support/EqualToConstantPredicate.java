@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+
+/**
+ * A {@link Predicate} which tests whether the value of an expression is equal to a constant value, the same way as
+ * {@link ObjectHelper#typeCoerceEquals(TypeConverter, Object, Object)}.
+ * <p/>
+ * This allows the Choice EIP to find the matching when clause by looking up the value of the expression, instead of
+ * evaluating the predicates one by one, when all the when clauses test the same expression.
+ */
+public interface EqualToConstantPredicate extends Predicate {
+
+    /**
+     * A key which identifies the expression, such as the language and the text of the expression. Predicates with the
+     * same key evaluates the same value, and the expression must not have side effects, as the value is only evaluated
+     * once for all the predicates.
+     */
+    String getExpressionKey();
+
+    /**
+     * Evaluates the value of the expression which is compared with the constant value
+     */
+    Object evaluateExpression(Exchange exchange);
+
+    /**
+     * The constant value
+     */
+    Object getConstantValue();
+}
@@ -32,7 +32,7 @@ public abstract class ExpressionAdapter extends ExpressionSupport {
     @Override
     public void init(CamelContext context) {
         super.init(context);
-        this.converter = context.getTypeConverter();
+        this.converter = new InlineCachedTypeConverter(context);
     }
 
     @Override
@@ -48,7 +48,7 @@ public abstract class ExpressionAdapter extends ExpressionSupport {
             return (T) value;
         }
         if (converter != null) {
-            // optimized to use converter from init
+            // optimized to use converter from init which caches the type converter for this expression
             return converter.convertTo(type, exchange, value);
         } else {
             return exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
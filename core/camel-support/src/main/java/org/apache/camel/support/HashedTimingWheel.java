@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel which keeps track of a large number of timeouts, where scheduling and cancelling a timeout are
+ * O(1) operations.
+ * <p/>
+ * The time is divided into ticks of the given tick duration, and a timeout is kept in the bucket of the tick of its
+ * deadline (the buckets are reused for every revolution of the wheel). The wheel does not have its own thread, instead
+ * {@link #advance(long, Consumer)} must be called periodically (such as every tick) which expires the timeouts in the
+ * buckets of the ticks that has passed since the last call. A timeout is never expired before its deadline, but can be
+ * expired up to one tick (or the period between calling advance) after its deadline.
+ * <p/>
+ * This implementation is thread safe, where each bucket is guarded by its own lock, so scheduling and cancelling
+ * timeouts from many threads does not contend on a single lock.
+ *
+ * @param <T> the type of the task of the timeouts
+ */
+public final class HashedTimingWheel<T> {
+
+    private final long tickDuration;
+    private final long startTime;
+    private final int mask;
+    private final Bucket<T>[] buckets;
+    private final AtomicInteger size = new AtomicInteger();
+    // only one thread at a time can advance the wheel
+    private final Lock advanceLock = new ReentrantLock();
+    // the last tick where all the timeouts in its bucket has been expired (guarded by the lock of the bucket)
+    private volatile long processedTick;
+
+    /**
+     * Creates a new timing wheel
+     *
+     * @param tickDuration  the duration of a tick in millis
+     * @param ticksPerWheel the number of ticks (buckets) in the wheel, which is rounded up to a power of two
+     * @param startTime     the current time in millis
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickDuration, int ticksPerWheel, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive, was: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30, was: " + ticksPerWheel);
+        }
+        int n = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.tickDuration = tickDuration;
+        this.startTime = startTime;
+        this.mask = n - 1;
+        this.buckets = new Bucket[n];
+        for (int i = 0; i < n; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.processedTick = -1;
+    }
+
+    /**
+     * Schedules the task to expire at the given deadline
+     *
+     * @param  task     the task
+     * @param  deadline the time in millis when the task expires
+     * @return          the timeout which can be used to cancel the task
+     */
+    public Timeout<T> schedule(T task, long deadline) {
+        Timeout<T> timeout = new Timeout<>(this, task, deadline);
+        size.incrementAndGet();
+        while (true) {
+            // a deadline which has already passed is added to the next tick to be processed
+            long tick = Math.max(tickOf(deadline), processedTick + 1);
+            Bucket<T> bucket = bucketOf(tick);
+            bucket.lock.lock();
+            try {
+                if (processedTick < tick) {
+                    bucket.add(timeout);
+                    return timeout;
+                }
+            } finally {
+                bucket.lock.unlock();
+            }
+            // the bucket was processed while selecting the bucket, so try again with the next tick
+        }
+    }
+
+    /**
+     * Cancels the timeout
+     *
+     * @param  timeout the timeout
+     * @return         <tt>true</tt> if cancelled, or <tt>false</tt> if the timeout has already expired or been
+     *                 cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        Bucket<T> bucket = timeout.bucket;
+        if (bucket == null) {
+            return false;
+        }
+        bucket.lock.lock();
+        try {
+            if (timeout.bucket != bucket) {
+                return false;
+            }
+            bucket.remove(timeout);
+        } finally {
+            bucket.lock.unlock();
+        }
+        size.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time, and expires the timeouts which has a deadline before or at the given time.
+     *
+     * @param  now     the current time in millis
+     * @param  expired callback for the tasks of the expired timeouts, which is called outside the locks of the wheel
+     * @return         the number of expired timeouts
+     */
+    public int advance(long now, Consumer<T> expired) {
+        int count = 0;
+        List<T> tasks = new ArrayList<>();
+        advanceLock.lock();
+        try {
+            long current = tickOf(now);
+            long from = processedTick + 1;
+            // all the buckets are processed once, no matter how many revolutions has passed
+            from = Math.max(from, current - buckets.length);
+            for (long tick = from; tick < current; tick++) {
+                Bucket<T> bucket = bucketOf(tick);
+                bucket.lock.lock();
+                try {
+                    bucket.expire(now, tasks);
+                    processedTick = tick;
+                } finally {
+                    bucket.lock.unlock();
+                }
+                count += drain(tasks, expired);
+            }
+            // the current tick has only partly passed so its bucket must be processed again
+            Bucket<T> bucket = bucketOf(current);
+            bucket.lock.lock();
+            try {
+                bucket.expire(now, tasks);
+            } finally {
+                bucket.lock.unlock();
+            }
+            count += drain(tasks, expired);
+        } finally {
+            advanceLock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * Number of timeouts which has not expired or been cancelled
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Removes all the timeouts
+     */
+    public void clear() {
+        for (Bucket<T> bucket : buckets) {
+            int removed;
+            bucket.lock.lock();
+            try {
+                removed = bucket.clear();
+            } finally {
+                bucket.lock.unlock();
+            }
+            size.addAndGet(-removed);
+        }
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public int getTicksPerWheel() {
+        return buckets.length;
+    }
+
+    private int drain(List<T> tasks, Consumer<T> expired) {
+        int count = tasks.size();
+        if (count > 0) {
+            size.addAndGet(-count);
+            for (T task : tasks) {
+                expired.accept(task);
+            }
+            tasks.clear();
+        }
+        return count;
+    }
+
+    private long tickOf(long time) {
+        return Math.floorDiv(time - startTime, tickDuration);
+    }
+
+    private Bucket<T> bucketOf(long tick) {
+        return buckets[(int) (tick & mask)];
+    }
+
+    /**
+     * A scheduled task in the wheel
+     */
+    public static final class Timeout<T> {
+        private final HashedTimingWheel<T> wheel;
+        private final T task;
+        private final long deadline;
+        // the bucket while the timeout is scheduled (guarded by the lock of the bucket)
+        private volatile Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> wheel, T task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Whether the timeout is still scheduled (not expired or cancelled)
+         */
+        public boolean isScheduled() {
+            return bucket != null;
+        }
+
+        /**
+         * Cancels the timeout
+         *
+         * @return <tt>true</tt> if cancelled, or <tt>false</tt> if the timeout has already expired or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        @Override
+        public String toString() {
+            return "Timeout[" + task + " at " + deadline + "]";
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts in a bucket
+     */
+    private static final class Bucket<T> {
+        private final Lock lock = new ReentrantLock();
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (tail == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            Timeout<T> next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long now, List<T> tasks) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadline <= now) {
+                    remove(timeout);
+                    tasks.add(timeout.task);
+                }
+                timeout = next;
+            }
+        }
+
+        int clear() {
+            int count = 0;
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                count++;
+                timeout = next;
+            }
+            head = tail = null;
+            return count;
+        }
+    }
+}
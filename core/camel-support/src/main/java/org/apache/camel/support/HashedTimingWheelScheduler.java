@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules delayed tasks in a {@link HashedTimingWheel}, which is advanced every tick by a single task on the given
+ * {@link ScheduledExecutorService}, instead of scheduling a task on the executor for every delayed task.
+ * <p/>
+ * This is used for scheduling a large number of short-lived delayed tasks, such as asynchronous delayed redeliveries,
+ * where scheduling and cancelling a task is O(1). The tick task only runs while there are pending tasks. The tasks are
+ * run by the thread which advances the wheel, and should therefore be quick, such as handing over the work to another
+ * thread. The pending tasks are kept until they have run, also when the executor is shared and the user of this
+ * scheduler is stopped, the same way as tasks scheduled directly on the executor.
+ * <p/>
+ * Use {@link #resolve(CamelContext, ScheduledExecutorService)} to share a single scheduler (and its tick task) between
+ * the users of the same executor.
+ */
+public class HashedTimingWheelScheduler {
+
+    public static final long DEFAULT_TICK_DURATION = 10;
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedTimingWheelScheduler.class);
+
+    private final ScheduledExecutorService executor;
+    private final HashedTimingWheel<Runnable> wheel;
+    private final AtomicBoolean ticking = new AtomicBoolean();
+
+    public HashedTimingWheelScheduler(ScheduledExecutorService executor) {
+        this(executor, DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    public HashedTimingWheelScheduler(ScheduledExecutorService executor, long tickDuration, int ticksPerWheel) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.wheel = new HashedTimingWheel<>(tickDuration, ticksPerWheel, System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the scheduler which is shared by the users of the given executor in the {@link CamelContext}, which is
+     * created if it does not already exist.
+     */
+    public static HashedTimingWheelScheduler resolve(CamelContext camelContext, ScheduledExecutorService executor) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+        synchronized (ecc) {
+            SharedSchedulers shared = ecc.getContextPlugin(SharedSchedulers.class);
+            if (shared == null) {
+                shared = new SharedSchedulers();
+                ecc.addContextPlugin(SharedSchedulers.class, shared);
+            }
+            // the schedulers of executors which have been shut down are no longer in use
+            shared.schedulers.keySet().removeIf(ScheduledExecutorService::isShutdown);
+            return shared.schedulers.computeIfAbsent(executor, HashedTimingWheelScheduler::new);
+        }
+    }
+
+    /**
+     * Schedules the task to run after the given delay
+     *
+     * @param  task                       the task
+     * @param  delay                      the delay in millis
+     * @return                            the timeout which can be used to cancel the task
+     * @throws RejectedExecutionException if the executor is shutdown
+     */
+    public HashedTimingWheel.Timeout<Runnable> schedule(Runnable task, long delay) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The ScheduledExecutorService is shutdown");
+        }
+        HashedTimingWheel.Timeout<Runnable> timeout = wheel.schedule(task, System.currentTimeMillis() + delay);
+        startTicking();
+        return timeout;
+    }
+
+    /**
+     * Number of tasks waiting to run
+     */
+    public int getPendingTasks() {
+        return wheel.size();
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    public long getTickDuration() {
+        return wheel.getTickDuration();
+    }
+
+    private void startTicking() {
+        if (ticking.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::tick, wheel.getTickDuration(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                ticking.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void tick() {
+        try {
+            wheel.advance(System.currentTimeMillis(), HashedTimingWheelScheduler::runTask);
+        } finally {
+            ticking.set(false);
+            // keep ticking while there are pending tasks (also if a task was scheduled while we stopped ticking)
+            if (wheel.size() > 0 && !executor.isShutdown()) {
+                try {
+                    startTicking();
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Cannot schedule {} pending delayed tasks as the executor rejected the task", wheel.size());
+                }
+            }
+        }
+    }
+
+    /**
+     * The schedulers shared per executor, which is stored as a context plugin on the {@link CamelContext}.
+     */
+    private static final class SharedSchedulers {
+        private final Map<ScheduledExecutorService, HashedTimingWheelScheduler> schedulers = new IdentityHashMap<>();
+    }
+
+    private static void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // must catch and log exception otherwise the remainder tasks will not run
+            LOG.warn("Exception occurred during delayed task. This exception will be ignored.", e);
+        }
+    }
+}
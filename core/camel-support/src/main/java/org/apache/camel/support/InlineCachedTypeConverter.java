@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ExecutionException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A {@link TypeConverter} to be used by a single call site, such as an expression or a processor, which remembers the
+ * type converter that was used by the last conversion (an inline cache).
+ * <p/>
+ * A call site is often converting between the same types, such as a header from {@link String} to {@link Integer}, and
+ * when this is the case then the remembered type converter is invoked directly, which avoids looking up the type
+ * converter in the {@link TypeConverterRegistry} on every conversion. Otherwise the conversion is delegated to the type
+ * converter of the {@link CamelContext}, and the type converter it used is remembered.
+ * <p/>
+ * The inline cache is not in use when type converter statistics is enabled, as the conversions are then counted by the
+ * {@link TypeConverterRegistry}.
+ */
+public final class InlineCachedTypeConverter implements TypeConverter {
+
+    private static final Object NOT_CACHED = new Object();
+
+    private final TypeConverter delegate;
+    private final TypeConverterRegistry registry;
+    private volatile Entry entry;
+
+    public InlineCachedTypeConverter(CamelContext camelContext) {
+        this.delegate = camelContext.getTypeConverter();
+        if (Boolean.TRUE.equals(camelContext.isTypeConverterStatisticsEnabled())) {
+            this.registry = null;
+        } else {
+            this.registry = camelContext.getTypeConverterRegistry();
+        }
+    }
+
+    @Override
+    public boolean allowNull() {
+        return delegate.allowNull();
+    }
+
+    @Override
+    public <T> T convertTo(Class<T> type, Object value) throws TypeConversionException {
+        return convertTo(type, null, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+        Object answer = tryCachedConverter(type, exchange, value);
+        if (answer != NOT_CACHED) {
+            return (T) answer;
+        }
+
+        T result = delegate.convertTo(type, exchange, value);
+        if (result != null) {
+            updateCachedConverter(type, value);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T mandatoryConvertTo(Class<T> type, Object value)
+            throws TypeConversionException, NoTypeConversionAvailableException {
+        return mandatoryConvertTo(type, null, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T mandatoryConvertTo(Class<T> type, Exchange exchange, Object value)
+            throws TypeConversionException, NoTypeConversionAvailableException {
+        Object answer = tryCachedConverter(type, exchange, value);
+        if (answer != NOT_CACHED) {
+            return (T) answer;
+        }
+
+        T result = delegate.mandatoryConvertTo(type, exchange, value);
+        if (result != null) {
+            updateCachedConverter(type, value);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T tryConvertTo(Class<T> type, Object value) {
+        return delegate.tryConvertTo(type, value);
+    }
+
+    @Override
+    public <T> T tryConvertTo(Class<T> type, Exchange exchange, Object value) {
+        return delegate.tryConvertTo(type, exchange, value);
+    }
+
+    /**
+     * Converts the value using the cached type converter, or returns {@link #NOT_CACHED} if there is no cached type
+     * converter for the conversion, or if the cached type converter could not convert the value.
+     */
+    private Object tryCachedConverter(Class<?> type, Exchange exchange, Object value) {
+        if (registry == null || value == null) {
+            return NOT_CACHED;
+        }
+
+        Entry e = entry;
+        if (e == null || e.converter == null || e.toType != type || e.fromType != value.getClass()) {
+            return NOT_CACHED;
+        }
+
+        Object answer;
+        try {
+            answer = e.converter.convertTo(type, exchange, value);
+        } catch (Exception cause) {
+            throw wrapConversionException(type, exchange, value, cause);
+        }
+        // let the type converter registry deal with the conversion if the cached converter could not convert the value
+        // (such as by its fallback type converters)
+        return answer != null && answer != MISS_VALUE ? answer : NOT_CACHED;
+    }
+
+    private void updateCachedConverter(Class<?> type, Object value) {
+        if (registry == null || value == null || type.isInstance(value)) {
+            return;
+        }
+
+        Entry e = entry;
+        if (e != null && e.toType == type && e.fromType == value.getClass()) {
+            // already cached
+            return;
+        }
+
+        TypeConverter converter = null;
+        // the type converter registry has special handling of conversions to primitive and enum types
+        if (!type.isPrimitive() && !type.isEnum()) {
+            converter = registry.getTypeConverter(type, value.getClass());
+        }
+        // also remember when there is no type converter, so we do not keep looking it up
+        entry = new Entry(type, value.getClass(), converter);
+    }
+
+    private static RuntimeException wrapConversionException(
+            Class<?> type, Exchange exchange, Object value, Exception cause) {
+        // if its a ExecutionException then we have rethrow it as its not due to failed conversion
+        boolean execution = ObjectHelper.getException(ExecutionException.class, cause) != null
+                || ObjectHelper.getException(CamelExecutionException.class, cause) != null;
+        if (execution) {
+            return CamelExecutionException.wrapCamelExecutionException(exchange, cause);
+        }
+        if (cause instanceof TypeConversionException tce && tce.getToType() == type) {
+            return tce;
+        }
+        // extract the body for logging which allows to limit the message body in the exception/stacktrace
+        Object body = exchange != null ? MessageHelper.extractValueForLogging(value, exchange.getIn()) : value;
+        return new TypeConversionException(body, type, cause);
+    }
+
+    private record Entry(Class<?> toType, Class<?> fromType, TypeConverter converter) {
+    }
+
+}
@@ -80,6 +80,7 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
     private volatile Throwable lastError;
     private volatile Map<String, Object> lastErrorDetails;
     private final AtomicLong counter = new AtomicLong();
+    private volatile int lastPolledMessages;
     private volatile boolean firstPollDone;
     private volatile boolean forceReady;
 
@@ -186,6 +187,7 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
         boolean done = false;
         Throwable cause = null;
         int polledMessages = 0;
+        int totalPolledMessages = 0;
 
         while (!done) {
             try {
@@ -206,6 +208,7 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
                         if (begin) {
                             retryCounter++;
                             polledMessages = poll();
+                            totalPolledMessages += polledMessages;
                             LOG.trace("Polled {} messages", polledMessages);
 
                             if (polledMessages == 0 && isSendEmptyMessageWhenIdle()) {
@@ -267,6 +270,7 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
             }
         }
 
+        lastPolledMessages = cause != null ? 0 : totalPolledMessages;
         if (cause != null) {
             idleCounter.set(0);
             successCounter.set(0);
@@ -488,6 +492,13 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
         return counter.get();
     }
 
+    /**
+     * Gets the number of messages polled by the last run of this consumer (including the greedy polls).
+     */
+    public int getLastPolledMessages() {
+        return lastPolledMessages;
+    }
+
     /**
      * Whether a first pool attempt has been done (also if the consumer has been restarted).
      */
@@ -640,6 +651,15 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer
         super.doStart();
 
         boolean newScheduler = false;
+        if (scheduler == null && scheduledExecutorService == null) {
+            SharedPollScheduler shared = getEndpoint().getCamelContext().getCamelContextExtension()
+                    .getContextPlugin(SharedPollScheduler.class);
+            if (shared != null && shared.isDefaultScheduler()) {
+                // use the shared poll scheduler instead of a thread pool per consumer
+                this.scheduler = new SharedScheduledPollConsumerScheduler();
+                newScheduler = true;
+            }
+        }
         if (scheduler == null) {
             DefaultScheduledPollConsumerScheduler scheduler
                     = new DefaultScheduledPollConsumerScheduler(scheduledExecutorService);
@@ -152,6 +152,9 @@ public abstract class ScheduledPollEndpoint extends DefaultEndpoint {
                                                        + " from classpath. Make sure camel-quartz.jar is on the classpath.",
                             e);
                 }
+            } else if ("shared".equals(schedulerKey)) {
+                // special for scheduler if its "shared"
+                consumerScheduler = new SharedScheduledPollConsumerScheduler();
             } else if (!"none".equals(schedulerKey)) {
                 if (schedulerKey instanceof String str) {
                     // must refer to a custom scheduler by the given name
@@ -329,7 +332,8 @@ public abstract class ScheduledPollEndpoint extends DefaultEndpoint {
     /**
      * Allow to plugin a custom org.apache.camel.spi.ScheduledPollConsumerScheduler to use as the scheduler for firing
      * when the polling consumer runs. This option is used for referring to one of the built-in schedulers either
-     * <tt>spring</tt>, or <tt>quartz</tt>. Using <tt>none</tt> refers to no scheduler to be used.
+     * <tt>spring</tt>, <tt>quartz</tt>, or <tt>shared</tt>. Using <tt>none</tt> refers to no scheduler to be used.
+     * Using <tt>shared</tt> schedules the polls on the {@link SharedPollScheduler} which is shared by the consumers.
      *
      * Notice: If using a custom scheduler then the options for initialDelay, useFixedDelay, timeUnit, and
      * scheduledExecutorService may not be in use. Use the text quartz to refer to use the Quartz scheduler; and use the
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A poll scheduler which is shared by the scheduled polling consumers of the {@link CamelContext} that uses the
+ * {@link SharedScheduledPollConsumerScheduler}, so each consumer does not need its own scheduled thread pool.
+ * <p/>
+ * The polls are scheduled in a {@link HashedTimingWheel}, which is advanced by a single thread every tick, so the polls
+ * which are due in the same tick are woken up together. The polls are run by a thread pool of the given pool size.
+ */
+public class SharedPollScheduler extends ServiceSupport implements CamelContextAware {
+
+    public static final long DEFAULT_TICK_DURATION = 50;
+    public static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedPollScheduler.class);
+
+    private final Set<SharedScheduledPollConsumerScheduler> schedulers = ConcurrentHashMap.newKeySet();
+    private CamelContext camelContext;
+    private long tickDuration = DEFAULT_TICK_DURATION;
+    private int poolSize = DEFAULT_POOL_SIZE;
+    private boolean defaultScheduler;
+    private volatile ScheduledExecutorService timer;
+    private volatile ExecutorService executorService;
+    private volatile HashedTimingWheelScheduler wheel;
+
+    /**
+     * Gets the shared poll scheduler of the {@link CamelContext}, which is created if it does not already exist.
+     */
+    public static SharedPollScheduler resolve(CamelContext camelContext) {
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+        synchronized (ecc) {
+            SharedPollScheduler answer = ecc.getContextPlugin(SharedPollScheduler.class);
+            if (answer == null) {
+                answer = new SharedPollScheduler();
+                answer.setCamelContext(camelContext);
+                try {
+                    // the scheduler is stopped when camel is stopped
+                    camelContext.addService(answer, true, false);
+                } catch (Exception e) {
+                    throw RuntimeCamelException.wrapRuntimeException(e);
+                }
+                ecc.addContextPlugin(SharedPollScheduler.class, answer);
+            }
+            return answer;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * The duration in millis of a tick of the timing wheel. The polls are run up to one tick after they are due.
+     */
+    public void setTickDuration(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * The number of threads which runs the polls.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public boolean isDefaultScheduler() {
+        return defaultScheduler;
+    }
+
+    /**
+     * Whether the scheduled polling consumers that have no scheduler configured should use this shared scheduler,
+     * instead of a scheduled thread pool per consumer.
+     */
+    public void setDefaultScheduler(boolean defaultScheduler) {
+        this.defaultScheduler = defaultScheduler;
+    }
+
+    /**
+     * The schedulers of the consumers which are using this shared scheduler
+     */
+    public Collection<SharedScheduledPollConsumerScheduler> getSchedulers() {
+        return Collections.unmodifiableSet(schedulers);
+    }
+
+    /**
+     * Number of polls waiting to run
+     */
+    public int getPendingPolls() {
+        HashedTimingWheelScheduler current = wheel;
+        return current != null ? current.getPendingTasks() : 0;
+    }
+
+    void register(SharedScheduledPollConsumerScheduler scheduler) {
+        schedulers.add(scheduler);
+    }
+
+    void unregister(SharedScheduledPollConsumerScheduler scheduler) {
+        schedulers.remove(scheduler);
+    }
+
+    /**
+     * Schedules the poll to run after the given delay
+     *
+     * @param  poll                       the poll
+     * @param  delay                      the delay in millis
+     * @return                            the timeout which can be used to cancel the poll
+     * @throws RejectedExecutionException if this scheduler is stopped
+     */
+    HashedTimingWheel.Timeout<Runnable> schedule(Runnable poll, long delay) {
+        HashedTimingWheelScheduler current = wheel;
+        ExecutorService pool = executorService;
+        if (current == null || pool == null) {
+            throw new RejectedExecutionException("SharedPollScheduler is not started");
+        }
+        // the wheel only wakes up the poll which is run by the thread pool
+        return current.schedule(() -> executePoll(pool, poll), delay);
+    }
+
+    private static void executePoll(ExecutorService pool, Runnable poll) {
+        try {
+            pool.execute(poll);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Cannot run poll as the thread pool is shutdown: {}", poll);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (wheel == null) {
+            timer = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SharedPollScheduler");
+            executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "SharedPoll", poolSize);
+            wheel = new HashedTimingWheelScheduler(
+                    timer, tickDuration, HashedTimingWheelScheduler.DEFAULT_TICKS_PER_WHEEL);
+            LOG.debug("Started SharedPollScheduler with tick duration: {} millis and pool size: {}", tickDuration, poolSize);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        wheel = null;
+        if (timer != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(timer);
+            timer = null;
+        }
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedPollScheduler";
+    }
+}
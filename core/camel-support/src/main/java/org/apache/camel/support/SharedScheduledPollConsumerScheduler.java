@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.spi.ScheduledPollConsumerScheduler;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduledPollConsumerScheduler} which schedules the polls on the {@link SharedPollScheduler} of the
+ * {@link CamelContext}, instead of using a scheduled thread pool per consumer.
+ * <p/>
+ * The delay between the polls is adaptive (unless disabled). When a poll is idle (no messages was polled), then the
+ * delay is doubled for each idle poll, up to the delay multiplied by the max idle multiplier. When a batch consumer
+ * polls a full batch (the max messages per poll), then the delay is halved for each full batch, until the next poll is
+ * run at the next tick. Otherwise, the delay is reset to the configured delay.
+ * <p/>
+ * The delay is always a fixed delay between the polls, and only one poll runs at the same time.
+ */
+public class SharedScheduledPollConsumerScheduler extends ServiceSupport implements ScheduledPollConsumerScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedScheduledPollConsumerScheduler.class);
+
+    private static final int DEFAULT_INITIAL_DELAY = 1000;
+    private static final int DEFAULT_DELAY = 500;
+    // the delay of a consumer which keeps polling full batches is at most halved this many times
+    private static final int MAX_SPEEDUP_LEVEL = 16;
+
+    private CamelContext camelContext;
+    private Consumer consumer;
+    private Runnable task;
+    private SharedPollScheduler sharedPollScheduler;
+    private long initialDelay = -1;
+    private long delay = -1;
+    private TimeUnit timeUnit;
+    private boolean adaptive = true;
+    private int maxIdleMultiplier = 8;
+
+    // state during running
+    private volatile boolean started;
+    // each time the scheduler is started, then a new chain of polls is scheduled
+    private volatile int generation;
+    private volatile HashedTimingWheel.Timeout<Runnable> timeout;
+    private volatile long currentDelay;
+    private volatile long pollCounter;
+    private volatile long idlePollCounter;
+    private volatile long fullPollCounter;
+    private int level;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public Consumer getConsumer() {
+        return consumer;
+    }
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Milliseconds (or time unit) before the first poll starts. The default is the initial delay of the consumer.
+     */
+    public void setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Milliseconds (or time unit) before the next poll. The default is the delay of the consumer.
+     */
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    public TimeUnit getTimeUnit() {
+        return timeUnit;
+    }
+
+    /**
+     * Time unit for the initial delay and delay options. The default is the time unit of the consumer.
+     */
+    public void setTimeUnit(TimeUnit timeUnit) {
+        this.timeUnit = timeUnit;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Whether the delay is adaptive, where the delay is increased for idle polls, and decreased for polls of full
+     * batches.
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public int getMaxIdleMultiplier() {
+        return maxIdleMultiplier;
+    }
+
+    /**
+     * The maximum multiplier of the delay, when the delay is increased for idle polls. The default is 8.
+     */
+    public void setMaxIdleMultiplier(int maxIdleMultiplier) {
+        this.maxIdleMultiplier = maxIdleMultiplier;
+    }
+
+    public SharedPollScheduler getSharedPollScheduler() {
+        return sharedPollScheduler;
+    }
+
+    /**
+     * To use a custom shared poll scheduler. The default is the shared poll scheduler of the {@link CamelContext}.
+     */
+    public void setSharedPollScheduler(SharedPollScheduler sharedPollScheduler) {
+        this.sharedPollScheduler = sharedPollScheduler;
+    }
+
+    /**
+     * The current delay in millis before the next poll
+     */
+    public long getCurrentDelay() {
+        return currentDelay;
+    }
+
+    /**
+     * Number of polls run by this scheduler
+     */
+    public long getPollCounter() {
+        return pollCounter;
+    }
+
+    /**
+     * Number of polls where no messages was polled
+     */
+    public long getIdlePollCounter() {
+        return idlePollCounter;
+    }
+
+    /**
+     * Number of polls where a full batch of messages was polled
+     */
+    public long getFullPollCounter() {
+        return fullPollCounter;
+    }
+
+    @Override
+    public void onInit(Consumer consumer) {
+        this.consumer = consumer;
+        // use the options from the consumer unless configured on this scheduler
+        if (consumer instanceof ScheduledPollConsumer spc) {
+            if (initialDelay < 0) {
+                initialDelay = spc.getInitialDelay();
+            }
+            if (delay < 0) {
+                delay = spc.getDelay();
+            }
+            if (timeUnit == null) {
+                timeUnit = spc.getTimeUnit();
+            }
+        }
+    }
+
+    @Override
+    public void scheduleTask(Runnable task) {
+        this.task = task;
+    }
+
+    @Override
+    public void unscheduleTask() {
+        started = false;
+        HashedTimingWheel.Timeout<Runnable> current = timeout;
+        if (current != null) {
+            current.cancel();
+            timeout = null;
+        }
+    }
+
+    @Override
+    public void startScheduler() {
+        // only schedule task if we have not already done that
+        if (!started) {
+            TimeUnit unit = timeUnit != null ? timeUnit : TimeUnit.MILLISECONDS;
+            long millis = unit.toMillis(initialDelay >= 0
+                    ? initialDelay : unit.convert(DEFAULT_INITIAL_DELAY,
+                            TimeUnit.MILLISECONDS));
+            level = 0;
+            currentDelay = baseDelay();
+            started = true;
+            int current = ++generation;
+            LOG.debug("Scheduling poll (shared) with initialDelay: {}, delay: {} (millis) for: {}", millis, currentDelay,
+                    consumer.getEndpoint());
+            timeout = sharedPollScheduler.schedule(() -> poll(current), millis);
+        }
+    }
+
+    @Override
+    public boolean isSchedulerStarted() {
+        return started;
+    }
+
+    private void poll(int current) {
+        if (!started || current != generation) {
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            pollCounter++;
+            currentDelay = nextDelay();
+            if (started && current == generation) {
+                try {
+                    timeout = sharedPollScheduler.schedule(() -> poll(current), currentDelay);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Cannot schedule next poll as the shared poll scheduler is stopped for: {}",
+                            consumer.getEndpoint());
+                }
+            }
+        }
+    }
+
+    private long baseDelay() {
+        TimeUnit unit = timeUnit != null ? timeUnit : TimeUnit.MILLISECONDS;
+        long answer = delay > 0 ? unit.toMillis(delay) : DEFAULT_DELAY;
+        // delay must be at least 1
+        return Math.max(1, answer);
+    }
+
+    private long nextDelay() {
+        long base = baseDelay();
+        if (!adaptive || !(consumer instanceof ScheduledPollConsumer spc)) {
+            return base;
+        }
+        int polled = spc.getLastPolledMessages();
+        if (spc.getErrorCounter() > 0) {
+            // errors are handled by the backoff of the consumer
+            level = 0;
+        } else if (polled == 0) {
+            idlePollCounter++;
+            if (maxIdleMultiplier > 1 && level < 30 && (base << Math.max(level, 0)) < base * maxIdleMultiplier) {
+                level = Math.max(level, 0) + 1;
+            }
+        } else if (isFullBatch(polled)) {
+            fullPollCounter++;
+            level = Math.max(Math.min(level, 0) - 1, -MAX_SPEEDUP_LEVEL);
+        } else {
+            level = 0;
+        }
+        if (level > 0) {
+            return Math.min(base << level, base * maxIdleMultiplier);
+        } else if (level < 0) {
+            // zero means the next tick
+            return base >> -level;
+        }
+        return base;
+    }
+
+    private boolean isFullBatch(int polled) {
+        if (consumer instanceof ScheduledBatchPollingConsumer batch) {
+            int max = batch.getMaxMessagesPerPoll();
+            return max > 0 && polled >= max;
+        }
+        return false;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(consumer, "Consumer", this);
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        ObjectHelper.notNull(task, "Task", this);
+
+        if (sharedPollScheduler == null) {
+            sharedPollScheduler = SharedPollScheduler.resolve(camelContext);
+        }
+        ServiceHelper.startService(sharedPollScheduler);
+        sharedPollScheduler.register(this);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        unscheduleTask();
+        if (sharedPollScheduler != null) {
+            sharedPollScheduler.unregister(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedScheduledPollConsumerScheduler[" + (consumer != null ? consumer.getEndpoint() : "") + "]";
+    }
+}
@@ -28,6 +28,8 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // the timeout in the timing wheel of the timeout map
+    private HashedTimingWheel.Timeout<TimeoutMapEntry<K, V>> timeoutTask;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
@@ -68,6 +70,14 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
         this.timeout = timeout;
     }
 
+    HashedTimingWheel.Timeout<TimeoutMapEntry<K, V>> getTimeoutTask() {
+        return timeoutTask;
+    }
+
+    void setTimeoutTask(HashedTimingWheel.Timeout<TimeoutMapEntry<K, V>> timeoutTask) {
+        this.timeoutTask = timeoutTask;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public int compareTo(Object that) {
@@ -53,7 +53,11 @@ public abstract class BinaryPredicateSupport implements BinaryPredicate {
 
     @Override
     public boolean matches(Exchange exchange) {
-        return matchesReturningFailureMessage(exchange) == null;
+        // must be thread safe and store result in local objects
+        // (no failure message is needed so avoid building it)
+        Object leftValue = left.evaluate(exchange, Object.class);
+        Object rightValue = right.evaluate(exchange, Object.class);
+        return matches(exchange, leftValue, rightValue);
     }
 
     @Override
@@ -54,6 +54,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.GroupIterator;
 import org.apache.camel.support.GroupTokenIterator;
+import org.apache.camel.support.InlineCachedTypeConverter;
 import org.apache.camel.support.LanguageHelper;
 import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.PropertyBindingSupport;
@@ -184,6 +185,7 @@ public class ExpressionBuilder {
     public static Expression headerExpression(final Expression headerName, final Expression typeName) {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
+            private TypeConverter converter;
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -195,7 +197,13 @@ public class ExpressionBuilder {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
                 String text = headerName.evaluate(exchange, String.class);
-                Object header = exchange.getIn().getHeader(text, type);
+                Object header = exchange.getIn().getHeader(text);
+                if (header == null && boolean.class == type) {
+                    // lets avoid NullPointerException when converting to boolean for null values
+                    header = Boolean.FALSE;
+                } else if (header != null && !type.isInstance(header)) {
+                    header = converter.convertTo(type, exchange, header);
+                }
                 if (header == null) {
                     // fall back on a property
                     header = exchange.getProperty(text, type);
@@ -209,6 +217,7 @@ public class ExpressionBuilder {
                 headerName.init(context);
                 typeName.init(context);
                 classResolver = context.getClassResolver();
+                converter = new InlineCachedTypeConverter(context);
             }
 
             @Override
@@ -338,7 +347,7 @@ public class ExpressionBuilder {
                 variableName.init(context);
                 typeName.init(context);
                 classResolver = context.getClassResolver();
-                converter = context.getTypeConverter();
+                converter = new InlineCachedTypeConverter(context);
             }
 
             @Override
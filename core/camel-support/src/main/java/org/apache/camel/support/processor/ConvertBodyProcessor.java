@@ -22,12 +22,15 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.InlineCachedTypeConverter;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -43,6 +46,7 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    private volatile TypeConverter converter;
 
     public ConvertBodyProcessor(Class<?> type) {
         ObjectHelper.notNull(type, "type", this);
@@ -112,18 +116,20 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
             // have explicit configured and expects to be used
             exchange.setProperty(ExchangePropertyKey.CHARSET_NAME, charset);
         }
+        // create a new message container so we do not drag specialized message objects along
+        // but that is only needed if the old message is a specialized message
+        boolean copyNeeded = !(old.getClass().equals(DefaultMessage.class));
+
         // use mandatory conversion
         Object value;
-        if (mandatory) {
+        if (mandatory && !copyNeeded) {
+            value = convertMandatoryBody(exchange, old);
+        } else if (mandatory) {
             value = old.getMandatoryBody(type);
         } else {
             value = old.getBody(type);
         }
 
-        // create a new message container so we do not drag specialized message objects along
-        // but that is only needed if the old message is a specialized message
-        boolean copyNeeded = !(old.getClass().equals(DefaultMessage.class));
-
         if (copyNeeded) {
             Message msg = new DefaultMessage(exchange.getContext());
             msg.copyFromWithNewBody(old, value);
@@ -146,6 +152,26 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
         }
     }
 
+    private Object convertMandatoryBody(Exchange exchange, Message message) throws InvalidPayloadException {
+        Object body = message.getBody();
+        if (type.isInstance(body)) {
+            return body;
+        }
+
+        // use a type converter that caches the type converter for this processor, as it is often converting
+        // between the same types
+        TypeConverter tc = converter;
+        if (tc == null) {
+            tc = new InlineCachedTypeConverter(exchange.getContext());
+            converter = tc;
+        }
+        try {
+            return tc.mandatoryConvertTo(type, exchange, body);
+        } catch (Exception cause) {
+            throw new InvalidPayloadException(exchange, type, message, cause);
+        }
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
@@ -0,0 +1,919 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.RecoverableAggregationRepository}.
+ * <p/>
+ * The exchanges are marshalled using {@link DefaultExchangeHolder} and appended to a journal file which is memory
+ * mapped, so adding an exchange does not require a system call. An in-memory index keeps track of the position of the
+ * latest record of each correlation key, and of the completed exchanges which have not been confirmed yet. Superseded
+ * records are compacted away by rewriting the live records into a new journal file once the ratio of superseded bytes
+ * exceeds the {@link #getCompactionThreshold()}. The journal is forced to disk before adding or removing an exchange
+ * returns, where the writes of concurrent callers are forced together in a single fsync. Confirmations are forced to
+ * disk at most once per {@link #getSyncInterval()}.
+ * <p/>
+ * On startup the journal is scanned once to rebuild the index, which recovers both the aggregated exchanges which are
+ * in progress and the completed exchanges which were not confirmed before the JVM was stopped.
+ * <p/>
+ * This repository is intended for a single Camel instance, the journal file must not be shared.
+ */
+@Metadata(label = "bean",
+          description = "A file based aggregation repository which appends the exchanges to a memory mapped journal file.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "File based aggregation repository")
+public class FileAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileAggregationRepository.class);
+
+    // the journal starts with a magic number and a version
+    private static final int MAGIC = 0x43414752;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    // each record starts with the record length and a crc32 checksum of the record
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_MAPPED_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final byte TYPE_ADD = 1;
+    private static final byte TYPE_COMPLETED = 2;
+    private static final byte TYPE_CONFIRM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock syncLock = new ReentrantLock();
+    private final Map<String, Record> groups = new ConcurrentHashMap<>();
+    private final Map<String, Record> completed = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private long garbage;
+    private long lastSync;
+    // sequence numbers of the records written and the records forced to disk
+    private long writeSequence;
+    private volatile long syncedSequence;
+
+    @Metadata(description = "File name of the repository (incl directory)", required = true)
+    private File fileStore;
+    @Metadata(label = "advanced", description = "The initial size in bytes of the memory mapped journal file."
+                                                + " The journal grows by doubling its size when it is full.",
+              defaultValue = "" + 16 * 1024 * 1024)
+    private int initialFileStoreSize = 16 * 1024 * 1024;
+    @Metadata(description = "The interval in millis to force the written confirmations to disk. Setting this to 0 will force the"
+                            + " confirmations to disk on every write. Adding and removing exchanges are always forced to disk.",
+              defaultValue = "1000")
+    private long syncInterval = 1000;
+    @Metadata(label = "advanced",
+              description = "The ratio of superseded records in the journal file which triggers compaction of the journal file.",
+              defaultValue = "0.5")
+    private double compactionThreshold = 0.5;
+    @Metadata(label = "advanced",
+              description = "The minimum size in bytes of the journal before compaction is considered.",
+              defaultValue = "" + 1024 * 1024)
+    private int minCompactionSize = 1024 * 1024;
+    @Metadata(label = "advanced",
+              description = "Whether headers on the Exchange that are Java objects and Serializable should be included and saved to the repository")
+    private boolean allowSerializedHeaders;
+    @Metadata(label = "advanced",
+              description = "Sets a deserialization filter while reading Object from Aggregation Repository. By default the filter will allow"
+                            + " all java packages and subpackages and all org.apache.camel packages and subpackages, while the remaining will be"
+                            + " blacklisted and not deserialized. This parameter should be customized if you're using classes you trust to be"
+                            + " deserialized.",
+              defaultValue = "java.**;org.apache.camel.**;!*")
+    private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+    @Metadata(description = "Whether or not recovery is enabled", defaultValue = "true")
+    private boolean useRecovery = true;
+    @Metadata(description = "Sets the interval between recovery scans", defaultValue = "5000")
+    private long recoveryInterval = 5000;
+    @Metadata(description = "Sets an optional limit of the number of redelivery attempt of recovered Exchange should be attempted, before its exhausted."
+                            + " When this limit is hit, then the Exchange is moved to the dead letter channel.")
+    private int maximumRedeliveries;
+    @Metadata(description = "Sets an optional dead letter channel which exhausted recovered Exchange should be send to.")
+    private String deadLetterUri;
+
+    public FileAggregationRepository() {
+    }
+
+    public FileAggregationRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new file based aggregation repository using the given file as journal.
+     *
+     * @param fileStore the journal file
+     */
+    public static FileAggregationRepository fileAggregationRepository(File fileStore) {
+        return new FileAggregationRepository(fileStore);
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Adding key [{}] -> {}", key, exchange);
+        byte[] data = marshallExchange(exchange);
+        byte[] oldData = null;
+        long sequence;
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Record old = groups.get(key);
+            if (old != null) {
+                // read the previous exchange before compaction could move it
+                oldData = readData(old);
+            }
+            Record record = append(TYPE_ADD, key, null, data);
+            old = groups.put(key, record);
+            if (old != null) {
+                garbage += old.size;
+            }
+            sequence = writeSequence;
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+        syncTo(sequence);
+
+        return oldData != null ? unmarshallExchange(camelContext, oldData) : null;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        Exchange answer = null;
+
+        byte[] data = read(groups, key);
+        if (data != null) {
+            answer = unmarshallExchange(camelContext, data);
+        }
+
+        LOG.debug("Getting key [{}] -> {}", key, answer);
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        LOG.debug("Removing key [{}]", key);
+        byte[] data = marshallExchange(exchange);
+        String exchangeId = exchange.getExchangeId();
+        long sequence;
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            // the completed record removes the group and adds the exchange to be confirmed in one write
+            Record record = append(TYPE_COMPLETED, key, exchangeId, data);
+            Record old = groups.remove(key);
+            if (old != null) {
+                garbage += old.size;
+            }
+            old = completed.put(exchangeId, record);
+            if (old != null) {
+                garbage += old.size;
+            }
+            sequence = writeSequence;
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+        syncTo(sequence);
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        LOG.debug("Confirming exchangeId [{}]", exchangeId);
+
+        // if no contains, then nothing to confirm
+        if (!completed.containsKey(exchangeId)) {
+            return;
+        }
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Record old = completed.remove(exchangeId);
+            if (old != null) {
+                Record record = append(TYPE_CONFIRM, exchangeId, null, null);
+                // the confirm record itself is only needed until next compaction
+                garbage += old.size + record.size;
+                if (syncInterval <= 0 || System.currentTimeMillis() - lastSync >= syncInterval) {
+                    doSync();
+                }
+                compactIfNeeded();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // interval task could potentially be running while we are shutting down so check for that
+        if (!isRunAllowed()) {
+            return null;
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(groups.keySet()));
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        if (!isRunAllowed()) {
+            return null;
+        }
+
+        Set<String> answer = new LinkedHashSet<>(completed.keySet());
+        if (answer.isEmpty()) {
+            LOG.trace("Scanned and found no exchange to recover.");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Scanned and found {} exchange(s) to recover (note some of them may already be in progress).",
+                        answer.size());
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        Exchange answer = null;
+
+        byte[] data = read(completed, exchangeId);
+        if (data != null) {
+            answer = unmarshallExchange(camelContext, data);
+        }
+
+        LOG.debug("Recovering exchangeId [{}] -> {}", exchangeId, answer);
+        return answer;
+    }
+
+    /**
+     * Forces the written records to disk
+     */
+    @ManagedOperation(description = "Forces the written records to disk")
+    public void sync() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            doSync();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the journal file by rewriting only the live records to a new journal file
+     */
+    @ManagedOperation(description = "Compacts the journal file")
+    public void compact() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            doCompact();
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error compacting file store: " + fileStore, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of aggregated exchanges in progress")
+    public int getSize() {
+        return groups.size();
+    }
+
+    @ManagedAttribute(description = "Number of completed exchanges which are not yet confirmed")
+    public int getCompletedSize() {
+        return completed.size();
+    }
+
+    @ManagedAttribute(description = "The number of bytes written to the journal file")
+    public long getJournalSize() {
+        return position;
+    }
+
+    @ManagedAttribute(description = "The number of bytes of superseded records in the journal file")
+    public long getGarbageSize() {
+        return garbage;
+    }
+
+    @ManagedAttribute(description = "The file path for the journal file")
+    public String getFilePath() {
+        return fileStore != null ? fileStore.getPath() : null;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    public int getInitialFileStoreSize() {
+        return initialFileStoreSize;
+    }
+
+    /**
+     * The initial size in bytes of the memory mapped journal file. The journal grows by doubling its size when it is
+     * full.
+     */
+    public void setInitialFileStoreSize(int initialFileStoreSize) {
+        this.initialFileStoreSize = initialFileStoreSize;
+    }
+
+    @ManagedAttribute(description = "The interval in millis to force the written records to disk")
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * The interval in millis to force the written confirmations to disk. The confirmations are forced to disk by the
+     * first write after the interval has elapsed, and when this repository is stopped. Setting this to 0 will force the
+     * confirmations to disk on every write. A confirmation which is lost (when the JVM crashes) causes the completed
+     * exchange to be recovered again.
+     * <p/>
+     * Adding and removing exchanges are always forced to disk before returning.
+     */
+    @ManagedAttribute(description = "The interval in millis to force the written records to disk")
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * The ratio (between 0 and 1) of superseded records in the journal file which triggers compaction of the journal
+     * file.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public int getMinCompactionSize() {
+        return minCompactionSize;
+    }
+
+    /**
+     * The minimum size in bytes of the journal before compaction is considered.
+     */
+    public void setMinCompactionSize(int minCompactionSize) {
+        this.minCompactionSize = minCompactionSize;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryInterval() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    /**
+     * Appends a record to the journal, must be called while holding the write lock.
+     */
+    private Record append(byte type, String key, String exchangeId, byte[] data) {
+        if (buffer == null) {
+            throw new IllegalStateException(
+                    "Cannot write to file store: " + fileStore + " as FileAggregationRepository is not started");
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] idBytes = exchangeId != null ? exchangeId.getBytes(StandardCharsets.UTF_8) : null;
+        int dataLength = data != null ? data.length : 0;
+        int length = 1 + 4 + keyBytes.length + (idBytes != null ? 4 + idBytes.length : 0) + dataLength;
+        int size = RECORD_HEADER_SIZE + length;
+
+        try {
+            ensureCapacity(size);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error growing file store: " + fileStore, e);
+        }
+
+        int start = position;
+        buffer.position(start + RECORD_HEADER_SIZE);
+        buffer.put(type);
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        if (idBytes != null) {
+            buffer.putInt(idBytes.length);
+            buffer.put(idBytes);
+        }
+        int dataPosition = buffer.position();
+        if (data != null) {
+            buffer.put(data);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start + RECORD_HEADER_SIZE, length));
+        // write the record length last so a partial record is never recovered
+        buffer.putInt(start + 4, (int) crc.getValue());
+        buffer.putInt(start, length);
+
+        position = start + size;
+        writeSequence++;
+        return new Record(start, size, dataPosition, dataLength);
+    }
+
+    /**
+     * Reads the data of the record for the given key, or <tt>null</tt> if there is no record.
+     */
+    private byte[] read(Map<String, Record> index, String key) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            // lookup while holding the lock as compaction moves the records
+            Record record = index.get(key);
+            if (record == null || buffer == null) {
+                return null;
+            }
+            return readData(record);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the data of the record, must be called while holding the lock.
+     */
+    private byte[] readData(Record record) {
+        byte[] data = new byte[record.dataLength];
+        buffer.get(record.dataPosition, data);
+        return data;
+    }
+
+    /**
+     * Forces the journal to disk up to the given write, unless another caller has already done so. The journal is
+     * forced while holding the read lock, so the writes which are appended meanwhile are forced together by the next
+     * caller.
+     */
+    private void syncTo(long sequence) {
+        syncLock.lock();
+        try {
+            if (syncedSequence >= sequence) {
+                return;
+            }
+            Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                long upTo = writeSequence;
+                if (buffer != null) {
+                    buffer.force();
+                }
+                syncedSequence = upTo;
+                lastSync = System.currentTimeMillis();
+            } finally {
+                readLock.unlock();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (position >= minCompactionSize && garbage > position * compactionThreshold) {
+            try {
+                doCompact();
+            } catch (IOException e) {
+                // the existing journal is still valid so we can continue using it
+                LOG.warn("Error compacting file store: {}. This exception is ignored.", fileStore, e);
+            }
+        }
+    }
+
+    private void doSync() {
+        if (syncedSequence < writeSequence && buffer != null) {
+            buffer.force();
+        }
+        syncedSequence = writeSequence;
+        lastSync = System.currentTimeMillis();
+    }
+
+    private void ensureCapacity(int size) throws IOException {
+        long needed = (long) position + size;
+        if (needed <= buffer.capacity()) {
+            return;
+        }
+        if (garbage > 0) {
+            // try to make room by dropping the superseded records first
+            doCompact();
+            needed = (long) position + size;
+            if (needed <= buffer.capacity()) {
+                return;
+            }
+        }
+        long capacity = Math.max(buffer.capacity(), FILE_HEADER_SIZE);
+        while (capacity < needed) {
+            capacity = capacity * 2;
+        }
+        if (needed > MAX_MAPPED_SIZE) {
+            throw new IOException("File store cannot grow beyond " + MAX_MAPPED_SIZE + " bytes");
+        }
+        capacity = Math.min(capacity, MAX_MAPPED_SIZE);
+        LOG.debug("Growing file store: {} to {} bytes", fileStore, capacity);
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void doCompact() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int before = position;
+
+        // calculate the size of the live records
+        long live = FILE_HEADER_SIZE;
+        for (Record record : groups.values()) {
+            live += record.size;
+        }
+        for (Record record : completed.values()) {
+            live += record.size;
+        }
+        long capacity = Math.max(initialFileStoreSize, live);
+        while (capacity < live * 2 && capacity * 2 <= MAX_MAPPED_SIZE) {
+            capacity = capacity * 2;
+        }
+
+        File compactFile = new File(fileStore.getPath() + ".compact");
+        FileUtil.deleteFile(compactFile);
+        FileChannel newChannel = FileChannel.open(compactFile.toPath(), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newBuffer;
+        try {
+            newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            newBuffer.putInt(MAGIC);
+            newBuffer.putInt(VERSION);
+            // copy the raw records as-is, there is no need to marshal the exchanges again
+            Map<String, Record> newGroups = copyRecords(groups, newBuffer);
+            Map<String, Record> newCompleted = copyRecords(completed, newBuffer);
+            newBuffer.force();
+
+            Files.move(compactFile.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            IOHelper.close(channel);
+            channel = newChannel;
+            buffer = newBuffer;
+            position = newBuffer.position();
+            garbage = 0;
+            // the live records have been forced to disk in the new journal
+            syncedSequence = writeSequence;
+            groups.putAll(newGroups);
+            completed.putAll(newCompleted);
+        } catch (IOException | RuntimeException e) {
+            IOHelper.close(newChannel);
+            FileUtil.deleteFile(compactFile);
+            throw e;
+        }
+
+        LOG.debug("Compacted file store: {} from {} to {} bytes in {} millis", fileStore, before, position,
+                System.currentTimeMillis() - start);
+    }
+
+    private Map<String, Record> copyRecords(Map<String, Record> index, MappedByteBuffer target) {
+        Map<String, Record> answer = new ConcurrentHashMap<>(index.size());
+        for (Map.Entry<String, Record> entry : index.entrySet()) {
+            Record record = entry.getValue();
+            int newPosition = target.position();
+            target.put(buffer.slice(record.position, record.size));
+            answer.put(entry.getKey(), record.moveTo(newPosition));
+        }
+        return answer;
+    }
+
+    /**
+     * Scans the journal and rebuilds the index of the correlation keys and completed exchanges.
+     */
+    private void load() throws IOException {
+        if (buffer.getInt(0) == 0) {
+            // new journal
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            position = FILE_HEADER_SIZE;
+            return;
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("File store: " + fileStore + " is not an aggregation repository journal");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("File store: " + fileStore + " has unsupported version: " + version);
+        }
+
+        int pos = FILE_HEADER_SIZE;
+        int limit = buffer.capacity();
+        CRC32 crc = new CRC32();
+        while (pos + RECORD_HEADER_SIZE <= limit) {
+            int length = buffer.getInt(pos);
+            if (length <= 0 || (long) pos + RECORD_HEADER_SIZE + length > limit) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(pos + RECORD_HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(pos + 4)) {
+                LOG.warn("File store: {} has a corrupted record at position: {}. Ignoring the remainder of the file store.",
+                        fileStore, pos);
+                break;
+            }
+
+            int size = RECORD_HEADER_SIZE + length;
+            int p = pos + RECORD_HEADER_SIZE;
+            byte type = buffer.get(p++);
+            int keyLength = buffer.getInt(p);
+            p += 4;
+            String key = readString(p, keyLength);
+            p += keyLength;
+            Record old;
+            if (type == TYPE_ADD) {
+                old = groups.put(key, new Record(pos, size, p, pos + size - p));
+                if (old != null) {
+                    garbage += old.size;
+                }
+            } else if (type == TYPE_COMPLETED) {
+                int idLength = buffer.getInt(p);
+                p += 4;
+                String exchangeId = readString(p, idLength);
+                p += idLength;
+                old = groups.remove(key);
+                if (old != null) {
+                    garbage += old.size;
+                }
+                old = completed.put(exchangeId, new Record(pos, size, p, pos + size - p));
+                if (old != null) {
+                    garbage += old.size;
+                }
+            } else if (type == TYPE_CONFIRM) {
+                old = completed.remove(key);
+                garbage += size + (old != null ? old.size : 0);
+            }
+            pos += size;
+        }
+        position = pos;
+        // clear any partial record which would otherwise be in the way when appending
+        if (pos + RECORD_HEADER_SIZE <= limit) {
+            buffer.putInt(pos, 0);
+        }
+    }
+
+    private String readString(int pos, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(pos, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte[] marshallExchange(Exchange exchange) {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
+        // add the aggregated size and timeout property as the only properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, Long.class));
+        // add the aggregated completed by property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class));
+        // add the aggregated correlation key property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class));
+        // and a guard property if using the flexible toolbox aggregator
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD,
+                exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
+        }
+
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+            objectOut.writeObject(pe);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error marshalling exchange " + exchange.getExchangeId(), e);
+        }
+        return bytesOut.toByteArray();
+    }
+
+    private Exchange unmarshallExchange(CamelContext camelContext, byte[] data) {
+        DefaultExchangeHolder pe;
+        ObjectInputStream objectIn = null;
+        try {
+            objectIn = new ClassLoadingAwareObjectInputStream(
+                    camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(data));
+            objectIn.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+            pe = (DefaultExchangeHolder) objectIn.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error unmarshalling exchange from file store: " + fileStore, e);
+        } finally {
+            IOHelper.close(objectIn);
+        }
+
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty("CamelAggregatedFromEndpoint");
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        // create store parent directory if missing
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            boolean mkdirsResult = parent.mkdirs();
+            if (!mkdirsResult) {
+                LOG.warn("Cannot create directory: {}. Check permissions or if directory already exists.", parent);
+            }
+        }
+
+        groups.clear();
+        completed.clear();
+        garbage = 0;
+
+        channel = FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        // the journal must at least hold the file header
+        long capacity = Math.max(Math.max(initialFileStoreSize, FILE_HEADER_SIZE), channel.size());
+        if (capacity > MAX_MAPPED_SIZE) {
+            throw new IOException("File store: " + fileStore + " is larger than " + MAX_MAPPED_SIZE + " bytes");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        long start = System.currentTimeMillis();
+        load();
+        LOG.debug("Loaded file store: {} in {} millis", fileStore, System.currentTimeMillis() - start);
+
+        if (groups.isEmpty()) {
+            LOG.info("On startup there are no existing aggregate exchanges (not completed) in file store: {}", fileStore);
+        } else {
+            LOG.info("On startup there are {} aggregate exchanges (not completed) in file store: {}", groups.size(),
+                    fileStore);
+        }
+        if (completed.isEmpty()) {
+            LOG.info("On startup there are no completed exchanges to be recovered in file store: {}", fileStore);
+        } else {
+            LOG.warn("On startup there are {} completed exchanges to be recovered in file store: {}", completed.size(),
+                    fileStore);
+        }
+
+        if (garbage > 0 && garbage > position * compactionThreshold) {
+            doCompact();
+        }
+        doSync();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            doSync();
+            IOHelper.close(channel);
+            channel = null;
+            buffer = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Location of a record in the journal.
+     */
+    private static final class Record {
+
+        private final int position;
+        private final int size;
+        private final int dataPosition;
+        private final int dataLength;
+
+        private Record(int position, int size, int dataPosition, int dataLength) {
+            this.position = position;
+            this.size = size;
+            this.dataPosition = dataPosition;
+            this.dataLength = dataLength;
+        }
+
+        private Record moveTo(int newPosition) {
+            return new Record(newPosition, size, newPosition + (dataPosition - position), dataLength);
+        }
+    }
+}
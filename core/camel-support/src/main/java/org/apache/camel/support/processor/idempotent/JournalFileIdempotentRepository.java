@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.Scanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository}, which holds all the keys in memory
+ * as the {@link SegmentedMemoryIdempotentRepository}, and stores the changes in an append-only journal file.
+ * <p/>
+ * Adding and removing a key appends a single record to the journal, which is loaded when the repository is started. The
+ * journal is compacted (rewritten with only the current keys) when the journal has grown to
+ * {@link #getCompactionFactor()} times the maximum cache size, instead of rewriting the file on every removal or when
+ * the file is full, as the {@link FileIdempotentRepository} does.
+ * <p/>
+ * The time the keys was added is stored in the journal, so the keys still expire after the time to live, when the
+ * repository is restarted.
+ */
+@Metadata(label = "bean",
+          description = "A file based IdempotentRepository which holds the keys in memory spread over lock-free segments,"
+                        + " and stores the changes in an append-only journal file.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Journal file based idempotent repository")
+public class JournalFileIdempotentRepository extends SegmentedMemoryIdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournalFileIdempotentRepository.class);
+    private static final char ADD = '+';
+    private static final char REMOVE = '-';
+    private static final String STORE_DELIMITER = "\n";
+
+    private final Lock lock = new ReentrantLock();
+    private Writer writer;
+    private long records;
+
+    @Metadata(description = "File name of the journal (incl directory)", required = true)
+    private File fileStore;
+    @Metadata(description = "The journal is compacted when the number of records in the journal exceeds this factor"
+                            + " times the maximum cache size",
+              defaultValue = "2")
+    private int compactionFactor = 2;
+
+    public JournalFileIdempotentRepository() {
+    }
+
+    public JournalFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new journal file based repository.
+     *
+     * @param fileStore the journal file
+     * @param cacheSize the maximum number of elements
+     */
+    public static IdempotentRepository journalFileIdempotentRepository(File fileStore, int cacheSize) {
+        JournalFileIdempotentRepository answer = new JournalFileIdempotentRepository(fileStore);
+        answer.setCacheSize(cacheSize);
+        return answer;
+    }
+
+    @Override
+    protected boolean add(String key, long timestamp) {
+        // the key is added and journaled together, so the journal has the same order of changes as in memory
+        lock.lock();
+        try {
+            checkJournalOpen();
+            if (super.add(key, timestamp)) {
+                appendToJournal(ADD + Long.toString(timestamp) + " " + key);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        lock.lock();
+        try {
+            checkJournalOpen();
+            boolean answer = super.remove(key);
+            if (answer) {
+                appendToJournal(REMOVE + key);
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            super.clear();
+            if (writer != null) {
+                compact();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    /**
+     * File name of the journal (incl directory)
+     */
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the journal")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The number of records in the journal")
+    public long getRecords() {
+        return records;
+    }
+
+    @ManagedAttribute(description = "The factor of the maximum cache size the journal can grow to before compacted")
+    public int getCompactionFactor() {
+        return compactionFactor;
+    }
+
+    /**
+     * The journal is compacted when the number of records in the journal exceeds this factor times the maximum cache
+     * size. The default is 2.
+     */
+    public void setCompactionFactor(int compactionFactor) {
+        this.compactionFactor = compactionFactor;
+    }
+
+    /**
+     * Compacts the journal so it only contains the current keys
+     */
+    @ManagedOperation(description = "Compacts the journal so it only contains the current keys")
+    public void compact() {
+        lock.lock();
+        try {
+            LOG.debug("Compacting idempotent journal: {}", fileStore);
+            IOHelper.close(writer, "Closing idempotent journal", LOG);
+            writer = null;
+
+            File tmp = new File(fileStore.getPath() + ".tmp");
+            boolean compacted = false;
+            try {
+                long count = writeKeys(tmp);
+                Files.move(tmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                records = count;
+                compacted = true;
+                LOG.debug("Compacted idempotent journal: {} with {} records", fileStore, count);
+            } finally {
+                if (!compacted) {
+                    FileUtil.deleteFile(tmp);
+                }
+                // the journal is still in use when the compaction failed
+                openJournal();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long writeKeys(File file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            long[] counter = new long[1];
+            forEach((key, timestamp) -> {
+                try {
+                    out.write(ADD + Long.toString(timestamp) + " " + key + STORE_DELIMITER);
+                    counter[0]++;
+                } catch (IOException e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            });
+            return counter[0];
+        }
+    }
+
+    /**
+     * Appends the record to the journal, and compacts the journal when it has grown too large
+     */
+    protected void appendToJournal(String record) {
+        lock.lock();
+        try {
+            checkJournalOpen();
+            writer.write(record);
+            writer.write(STORE_DELIMITER);
+            writer.flush();
+            records++;
+            if (compactionFactor > 0 && records > (long) compactionFactor * Math.max(1, getMaxCacheSize())) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkJournalOpen() {
+        if (writer == null) {
+            throw new IllegalStateException(
+                    "Cannot write to idempotent journal: " + fileStore + " as JournalFileIdempotentRepository is not started");
+        }
+    }
+
+    /**
+     * Loads the journal into memory
+     */
+    protected void loadJournal() throws IOException {
+        if (!fileStore.exists()) {
+            return;
+        }
+
+        LOG.trace("Loading idempotent journal: {}", fileStore);
+        records = 0;
+        try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+            while (scanner.hasNext()) {
+                String line = scanner.next();
+                records++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.charAt(0) == ADD) {
+                    int pos = line.indexOf(' ');
+                    if (pos > 0) {
+                        super.add(line.substring(pos + 1), Long.parseLong(line.substring(1, pos)));
+                    }
+                } else if (line.charAt(0) == REMOVE) {
+                    super.remove(line.substring(1));
+                } else {
+                    // a key without a timestamp such as from the file idempotent repository
+                    super.add(line, System.currentTimeMillis());
+                }
+            }
+        }
+        LOG.debug("Loaded {} keys from {} records in idempotent journal: {}", getCacheSize(), records, fileStore);
+    }
+
+    private void openJournal() throws IOException {
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOG.warn("Cannot create the journal directory at: {}", parent);
+        }
+        writer = new BufferedWriter(
+                Files.newBufferedWriter(fileStore.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        super.doStart();
+
+        lock.lock();
+        try {
+            loadJournal();
+            if (compactionFactor > 0 && records > (long) compactionFactor * Math.max(1, getMaxCacheSize())) {
+                compact();
+            } else {
+                openJournal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.lock();
+        try {
+            IOHelper.close(writer, "Closing idempotent journal", LOG);
+            writer = null;
+            // clear the keys in memory but keep the journal
+            super.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which is designed for a high
+ * throughput of message ids from many concurrent threads.
+ * <p/>
+ * The keys are spread over a number of segments, which are lock-free. Each segment holds at most its share of the
+ * maximum cache size, and when a segment is full then its oldest keys are evicted (first in, first out). The keys can
+ * also expire after a time to live.
+ * <p/>
+ * Optionally each segment can use a Bloom filter, which allows {@link #contains(String)} to answer that a key is
+ * definitely new without looking up the key in the segment. The Bloom filter is rebuilt with the keys in the segment
+ * when as many keys as the segment can hold has been added, so its false positive rate does not grow over time, as keys
+ * are evicted, expired or removed.
+ */
+@Metadata(label = "bean",
+          description = "A memory based IdempotentRepository with the keys spread over lock-free segments,"
+                        + " which supports expiry of the keys and a Bloom filter for fast check of new keys.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Segmented memory based idempotent repository")
+public class SegmentedMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final int MAX_CACHE_SIZE = 1000;
+    private static final int SEGMENTS = 16;
+
+    @Metadata(description = "Maximum elements that can be stored in-memory", defaultValue = "" + MAX_CACHE_SIZE)
+    private int cacheSize = MAX_CACHE_SIZE;
+    @Metadata(description = "Number of segments the elements are spread over (rounded up to a power of two)",
+              defaultValue = "" + SEGMENTS)
+    private int segments = SEGMENTS;
+    @Metadata(description = "Time to live in millis of the elements. Use 0 or negative value for no expiry.",
+              defaultValue = "0")
+    private long timeToLive;
+    @Metadata(description = "Whether to use a Bloom filter for fast check of elements that has not been stored")
+    private boolean bloomFilter;
+
+    private Segment[] table;
+    private int mask;
+
+    public SegmentedMemoryIdempotentRepository() {
+    }
+
+    /**
+     * Creates a new segmented memory based repository.
+     *
+     * @param cacheSize   the maximum number of elements
+     * @param timeToLive  the time to live in millis of the elements, or 0 for no expiry
+     * @param bloomFilter whether to use a Bloom filter
+     */
+    public static IdempotentRepository segmentedMemoryIdempotentRepository(
+            int cacheSize, long timeToLive, boolean bloomFilter) {
+        SegmentedMemoryIdempotentRepository answer = new SegmentedMemoryIdempotentRepository();
+        answer.setCacheSize(cacheSize);
+        answer.setTimeToLive(timeToLive);
+        answer.setBloomFilter(bloomFilter);
+        ServiceHelper.startService(answer);
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        return add(key, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds the key to the store
+     *
+     * @param  key       the key
+     * @param  timestamp the time the key was added
+     * @return           <tt>true</tt> if this repository did <b>not</b> already contain the specified element
+     */
+    protected boolean add(String key, long timestamp) {
+        int hash = hash(key);
+        return segmentFor(hash).add(key, hash, timestamp, System.currentTimeMillis());
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        int hash = hash(key);
+        return segmentFor(hash).contains(key, hash, System.currentTimeMillis());
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(key, System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        if (table != null) {
+            for (Segment segment : table) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Iterates the keys which has not expired, and the time they were added, with the oldest keys first in each segment
+     */
+    protected void forEach(BiConsumer<String, Long> action) {
+        long now = System.currentTimeMillis();
+        for (Segment segment : table) {
+            segment.forEach(action, now);
+        }
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        int size = 0;
+        if (table != null) {
+            for (Segment segment : table) {
+                size += segment.size.get();
+            }
+        }
+        return size;
+    }
+
+    @ManagedAttribute(description = "The maximum cache size")
+    public int getMaxCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Maximum elements that can be stored in-memory. The elements are spread over the segments, which each holds at
+     * most their share of the elements.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @ManagedAttribute(description = "The number of segments")
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * Number of segments the elements are spread over (rounded up to a power of two).
+     */
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    @ManagedAttribute(description = "Time to live in millis of the elements")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Time to live in millis of the elements. Use 0 or negative value for no expiry.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @ManagedAttribute(description = "Whether to use a Bloom filter")
+    public boolean isBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Whether to use a Bloom filter for fast check of elements that has not been stored.
+     */
+    public void setBloomFilter(boolean bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (table == null) {
+            int size = cacheSize <= 0 ? MAX_CACHE_SIZE : cacheSize;
+            int n = Math.max(1, Math.min(segments, size));
+            // round up to power of two so the segment can be selected by a bit mask
+            n = n == 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+            int capacity = (size + n - 1) / n;
+            table = new Segment[n];
+            for (int i = 0; i < n; i++) {
+                table[i] = new Segment(capacity, timeToLive, bloomFilter);
+            }
+            mask = n - 1;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (table != null) {
+            clear();
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return table[(hash >>> 16) & mask];
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A key stored in a segment, which is compared by identity, so an entry which is evicted or expired is only removed
+     * if the key has not been added again in the meantime.
+     */
+    private static final class Entry {
+        private final String key;
+        private final long timestamp;
+        private final long expires;
+
+        Entry(String key, long timestamp, long timeToLive) {
+            this.key = key;
+            this.timestamp = timestamp;
+            this.expires = timeToLive > 0 ? timestamp + timeToLive : Long.MAX_VALUE;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expires;
+        }
+    }
+
+    private static final class Segment {
+        private final Map<String, Entry> map = new ConcurrentHashMap<>();
+        // the entries in the order they were added, which is used for evicting the oldest entries
+        private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger size = new AtomicInteger();
+        // only one thread at a time evicts the entries, and the other threads do not wait for this
+        private final Lock evictLock = new ReentrantLock();
+        private final int capacity;
+        private final long timeToLive;
+        private final boolean bloomFilter;
+        private final AtomicInteger bloomFilterAdded = new AtomicInteger();
+        private final Lock bloomFilterLock = new ReentrantLock();
+        private volatile BloomFilters filters;
+
+        Segment(int capacity, long timeToLive, boolean bloomFilter) {
+            this.capacity = capacity;
+            this.timeToLive = timeToLive;
+            this.bloomFilter = bloomFilter;
+            if (bloomFilter) {
+                this.filters = new BloomFilters(newBloomFilter(), null);
+            }
+        }
+
+        boolean add(String key, int hash, long timestamp, long now) {
+            Entry entry = new Entry(key, timestamp, timeToLive);
+            if (entry.isExpired(now)) {
+                // such as when loading an old entry from a file store
+                return false;
+            }
+            Entry existing = map.putIfAbsent(key, entry);
+            if (existing != null) {
+                if (!existing.isExpired(now) || !map.replace(key, existing, entry)) {
+                    return false;
+                }
+            } else {
+                size.incrementAndGet();
+            }
+            queue.offer(entry);
+            queued.incrementAndGet();
+            if (bloomFilter) {
+                addToBloomFilter(hash, now);
+            }
+            if (size.get() > capacity || queued.get() > capacity || timeToLive > 0) {
+                evict(now);
+            }
+            return true;
+        }
+
+        boolean contains(String key, int hash, long now) {
+            if (bloomFilter && !filters.mightContain(hash)) {
+                // definitely a new key
+                return false;
+            }
+            Entry entry = map.get(key);
+            if (entry == null) {
+                return false;
+            }
+            if (entry.isExpired(now)) {
+                removeEntry(entry);
+                return false;
+            }
+            return true;
+        }
+
+        boolean remove(String key, long now) {
+            Entry entry = map.remove(key);
+            if (entry != null) {
+                size.decrementAndGet();
+                return !entry.isExpired(now);
+            }
+            return false;
+        }
+
+        void clear() {
+            evictLock.lock();
+            try {
+                map.clear();
+                queue.clear();
+                queued.set(0);
+                size.set(0);
+                if (bloomFilter) {
+                    filters = new BloomFilters(newBloomFilter(), null);
+                }
+            } finally {
+                evictLock.unlock();
+            }
+        }
+
+        void forEach(BiConsumer<String, Long> action, long now) {
+            for (Entry entry : queue) {
+                if (isLive(entry, now)) {
+                    action.accept(entry.key, entry.timestamp);
+                }
+            }
+        }
+
+        private boolean isLive(Entry entry, long now) {
+            return !entry.isExpired(now) && map.get(entry.key) == entry;
+        }
+
+        private void evict(long now) {
+            if (!evictLock.tryLock()) {
+                return;
+            }
+            try {
+                // the oldest entries are first in the queue, so we only need to look at the head of the queue
+                Entry entry;
+                while ((entry = queue.peek()) != null) {
+                    boolean live = isLive(entry, now);
+                    if (live && size.get() <= capacity) {
+                        break;
+                    }
+                    queue.poll();
+                    queued.decrementAndGet();
+                    removeEntry(entry);
+                }
+                if (queued.get() > capacity * 2) {
+                    // there are many removed entries which are not in the head of the queue
+                    for (Iterator<Entry> it = queue.iterator(); it.hasNext();) {
+                        entry = it.next();
+                        if (!isLive(entry, now)) {
+                            it.remove();
+                            queued.decrementAndGet();
+                            removeEntry(entry);
+                        }
+                    }
+                }
+            } finally {
+                evictLock.unlock();
+            }
+        }
+
+        private void removeEntry(Entry entry) {
+            if (map.remove(entry.key, entry)) {
+                size.decrementAndGet();
+            }
+        }
+
+        private BloomFilter newBloomFilter() {
+            // the filter holds the keys in the segment, and the keys added until the filter is rebuilt
+            return new BloomFilter(capacity * 2);
+        }
+
+        private void addToBloomFilter(int hash, long now) {
+            BloomFilters current;
+            BloomFilter filter;
+            do {
+                current = filters;
+                filter = current.current;
+                filter.put(hash);
+                // the filter must not have been replaced while adding the key (unlikely but possible)
+                current = filters;
+            } while (current.current != filter && current.previous != filter);
+
+            if (bloomFilterAdded.incrementAndGet() % capacity == 0 && bloomFilterLock.tryLock()) {
+                try {
+                    rebuildBloomFilter(now);
+                } finally {
+                    bloomFilterLock.unlock();
+                }
+            }
+        }
+
+        private void rebuildBloomFilter(long now) {
+            // a Bloom filter cannot remove keys, so the filter is rebuilt with the keys in the segment,
+            // and the current filter is kept for the keys which are added while rebuilding the filter
+            BloomFilter filter = newBloomFilter();
+            for (Entry entry : map.values()) {
+                if (!entry.isExpired(now)) {
+                    filter.put(hash(entry.key));
+                }
+            }
+            filters = new BloomFilters(filter, filters.current);
+        }
+    }
+
+    /**
+     * The current and previous Bloom filters of a segment, which together contains all the keys in the segment.
+     */
+    private record BloomFilters(BloomFilter current, BloomFilter previous) {
+
+        boolean mightContain(int hash) {
+            return current.mightContain(hash) || previous != null && previous.mightContain(hash);
+        }
+    }
+
+    /**
+     * A Bloom filter for the given number of keys, with a false positive probability of about 1%.
+     */
+    private static final class BloomFilter {
+        private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+        private static final int HASHES = 7;
+
+        private final long[] bits;
+        private final int numberOfBits;
+
+        BloomFilter(int keys) {
+            // about 10 bits per key for 1% false positive probability
+            this.numberOfBits = Math.max(64, keys * 10);
+            this.bits = new long[(numberOfBits + 63) >>> 6];
+        }
+
+        void put(int hash) {
+            long h = spread(hash);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 1; i <= HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                BITS.getAndBitwiseOr(bits, bit >>> 6, 1L << bit);
+            }
+        }
+
+        boolean mightContain(int hash) {
+            long h = spread(hash);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 1; i <= HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                if (((long) BITS.getVolatile(bits, bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int combined) {
+            return (combined & Integer.MAX_VALUE) % numberOfBits;
+        }
+
+        private static long spread(int hash) {
+            long h = hash * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 29);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.apache.camel.support.startup;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.StartupStep;
@@ -78,7 +79,10 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    private final Deque<Integer> currentSteps = new ConcurrentLinkedDeque<>();
+    // the steps of other threads than the thread which began recording, such as when routes are created in parallel
+    private final ThreadLocal<Deque<Integer>> forkedSteps = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile Thread owner;
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -161,16 +165,25 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
+            Deque<Integer> steps = threadSteps();
+            int level;
+            Integer parent;
+            if (steps == currentSteps) {
+                level = steps.size() - 1;
+                parent = steps.peekFirst();
+            } else {
+                // a step from another thread is a sub step of the current step of the thread which began recording
+                level = currentSteps.size() - 1 + steps.size();
+                parent = steps.isEmpty() ? currentSteps.peekFirst() : steps.peekFirst();
+            }
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
             int pid = parent != null ? parent : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
             onBeginStep(step);
-            currentSteps.offerFirst(id);
+            steps.offerFirst(id);
             return step;
         } else {
             return DISABLED_STEP;
@@ -179,12 +192,24 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            threadSteps().pollFirst();
             step.endStep();
             onEndStep(step);
         }
     }
 
+    private Deque<Integer> threadSteps() {
+        Thread thread = Thread.currentThread();
+        if (owner == null) {
+            synchronized (this) {
+                if (owner == null) {
+                    owner = thread;
+                }
+            }
+        }
+        return owner == thread ? currentSteps : forkedSteps.get();
+    }
+
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
         return new DefaultStartupStep(type, name, description, id, parentId, level, System.currentTimeMillis());
     }
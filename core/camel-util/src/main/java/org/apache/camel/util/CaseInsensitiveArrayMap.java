@@ -0,0 +1,547 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases.
+ * <p/>
+ * As opposed to {@link CaseInsensitiveMap} this map is an open addressing hash map, which uses O(1) for lookup. The
+ * entries are stored in insertion order in arrays, so iterating the map returns the entries in the order they were
+ * added, and copying a map of this type is done by cloning the arrays.
+ * <p/>
+ * Computing the case insensitive hash of a key requires folding the case of every character of the key. The folded hash
+ * of well known keys, such as the constants of {@link #registerKnownKeys(Class)}, is computed once and cached, so
+ * looking up a header using a constant name does not need to fold the key again.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveArrayMap extends AbstractMap<String, Object> implements Cloneable, Serializable {
+
+    private static final @Serial long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int KNOWN_KEYS_CAPACITY = 2048;
+    private static final int KNOWN_KEYS_PROBES = 4;
+
+    // slots in the index table which are empty or have been removed
+    private static final int FREE = 0;
+    private static final int REMOVED = -1;
+
+    private static volatile KnownKey[] knownKeys = new KnownKey[KNOWN_KEYS_CAPACITY];
+
+    // the entries in insertion order (removed entries have a null key)
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // open addressing table with the position + 1 of the entries in the arrays above
+    private int[] index;
+    private int size;
+    private int used;
+    private int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveArrayMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveArrayMap(int initialCapacity) {
+        int capacity = Math.max(DEFAULT_CAPACITY, initialCapacity);
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[indexCapacity(capacity)];
+    }
+
+    public CaseInsensitiveArrayMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveArrayMap other) {
+            copyOf(other);
+        } else {
+            int capacity = Math.max(DEFAULT_CAPACITY, map.size());
+            keys = new String[capacity];
+            values = new Object[capacity];
+            hashes = new int[capacity];
+            index = new int[indexCapacity(capacity)];
+            putAll(map);
+        }
+    }
+
+    /**
+     * Registers the values of the public static final String fields of the given class as well known keys, which has
+     * the case insensitive hash of the keys computed once and cached.
+     *
+     * @param clazz the class with the constants, such as <tt>org.apache.camel.Exchange</tt>
+     */
+    public static synchronized void registerKnownKeys(Class<?> clazz) {
+        KnownKey[] table = knownKeys.clone();
+        for (Field field : clazz.getFields()) {
+            int mod = field.getModifiers();
+            if (Modifier.isStatic(mod) && Modifier.isFinal(mod) && field.getType() == String.class) {
+                try {
+                    String key = (String) field.get(null);
+                    if (key != null) {
+                        registerKnownKey(table, key);
+                    }
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        knownKeys = table;
+    }
+
+    /**
+     * Registers the key as a well known key, which has the case insensitive hash of the key computed once and cached.
+     * <p/>
+     * The key should be a constant (interned) string as the cached hash is only used when looking up using the same
+     * string instance.
+     *
+     * @param key the key
+     */
+    public static synchronized void registerKnownKey(String key) {
+        KnownKey[] table = knownKeys.clone();
+        registerKnownKey(table, key);
+        knownKeys = table;
+    }
+
+    private static void registerKnownKey(KnownKey[] table, String key) {
+        int mask = table.length - 1;
+        int i = key.hashCode() & mask;
+        for (int probe = 0; probe < KNOWN_KEYS_PROBES; probe++) {
+            KnownKey known = table[i];
+            if (known == null) {
+                table[i] = new KnownKey(key, computeHash(key));
+                return;
+            } else if (known.key == key) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        // no room so the hash is computed on each lookup for this key
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && indexOf(s) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null && Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s) {
+            int pos = indexOf(s);
+            if (pos >= 0) {
+                return values[pos];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int removed = -1;
+        int pos;
+        while ((pos = index[slot]) != FREE) {
+            if (pos == REMOVED) {
+                if (removed < 0) {
+                    removed = slot;
+                }
+            } else {
+                pos = pos - 1;
+                if (hashes[pos] == hash && keys[pos].equalsIgnoreCase(key)) {
+                    // keep the original key case
+                    Object old = values[pos];
+                    values[pos] = value;
+                    return old;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (used == keys.length) {
+            resize();
+            return put(key, value);
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        index[removed >= 0 ? removed : slot] = pos + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveArrayMap other) {
+            // fast copy by cloning the arrays
+            copyOf(other);
+            modCount++;
+        } else if (map instanceof CaseInsensitiveArrayMap other) {
+            other.forEach(this::put);
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s) {
+            int hash = hash(s);
+            int mask = index.length - 1;
+            int slot = hash & mask;
+            int pos;
+            while ((pos = index[slot]) != FREE) {
+                if (pos != REMOVED) {
+                    pos = pos - 1;
+                    if (hashes[pos] == hash && keys[pos].equalsIgnoreCase(s)) {
+                        Object old = values[pos];
+                        removeAt(slot, pos);
+                        return old;
+                    }
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || used > 0) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(index, FREE);
+            size = 0;
+            used = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expected = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (expected != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    @Override
+    public CaseInsensitiveArrayMap clone() {
+        return new CaseInsensitiveArrayMap(this);
+    }
+
+    private void copyOf(CaseInsensitiveArrayMap other) {
+        keys = other.keys.clone();
+        values = other.values.clone();
+        hashes = other.hashes.clone();
+        index = other.index.clone();
+        size = other.size;
+        used = other.used;
+    }
+
+    private int indexOf(String key) {
+        int hash = hash(key);
+        int[] table = index;
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int pos;
+        while ((pos = table[slot]) != FREE) {
+            if (pos != REMOVED) {
+                pos = pos - 1;
+                String k = keys[pos];
+                if (hashes[pos] == hash && (k == key || k.equalsIgnoreCase(key))) {
+                    return pos;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int slot, int pos) {
+        index[slot] = REMOVED;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // reset so the arrays can be reused from the start
+            clear();
+        }
+    }
+
+    private void removeAt(int pos) {
+        int hash = hashes[pos];
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != pos + 1) {
+            slot = (slot + 1) & mask;
+        }
+        removeAt(slot, pos);
+    }
+
+    private void resize() {
+        // compact the removed entries, and only grow if the arrays are mostly in use
+        int capacity = keys.length;
+        if (size >= capacity * 3 / 4) {
+            capacity = capacity * 2;
+        }
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        int[] newIndex = new int[indexCapacity(capacity)];
+        int mask = newIndex.length - 1;
+        int j = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                newKeys[j] = keys[i];
+                newValues[j] = values[i];
+                newHashes[j] = hashes[i];
+                int slot = newHashes[j] & mask;
+                while (newIndex[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                newIndex[slot] = j + 1;
+                j++;
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        index = newIndex;
+        used = j;
+    }
+
+    private static int indexCapacity(int capacity) {
+        // keep the load factor of the index table at most 0.5
+        return Integer.highestOneBit(capacity - 1) << 2;
+    }
+
+    private static int hash(String key) {
+        KnownKey[] table = knownKeys;
+        int mask = table.length - 1;
+        int i = key.hashCode() & mask;
+        for (int probe = 0; probe < KNOWN_KEYS_PROBES; probe++) {
+            KnownKey known = table[i];
+            if (known == null) {
+                break;
+            } else if (known.key == key) {
+                return known.hash;
+            }
+            i = (i + 1) & mask;
+        }
+        return computeHash(key);
+    }
+
+    private static int computeHash(String key) {
+        int h = 0;
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            char ch = key.charAt(i);
+            if (ch < 0x80) {
+                // ascii fast path
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch = (char) (ch + 32);
+                }
+                h = 31 * h + ch;
+            } else {
+                // fold the same way as String.equalsIgnoreCase
+                int cp = key.codePointAt(i);
+                h = 31 * h + Character.toLowerCase(Character.toUpperCase(cp));
+                i += Character.charCount(cp) - 1;
+            }
+        }
+        // spread the higher bits as the index table only uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private static final class KnownKey {
+        private final String key;
+        private final int hash;
+
+        private KnownKey(String key, int hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveArrayMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ArrayEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            boolean reset = size == 1;
+            removeAt(last);
+            if (reset) {
+                // the map was cleared
+                next = 0;
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class ArrayEntry implements Map.Entry<String, Object> {
+        private final int pos;
+        private final String key;
+
+        private ArrayEntry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] == key) {
+                Object old = values[pos];
+                values[pos] = value;
+                return old;
+            }
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && Objects.equals(key, e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -685,6 +685,9 @@ public class ModelWriter extends BaseWriter {
     public void writeFailoverLoadBalancerDefinition(FailoverLoadBalancerDefinition def) throws IOException {
         doWriteFailoverLoadBalancerDefinition("failoverLoadBalancer", def);
     }
+    public void writeLeastInflightLoadBalancerDefinition(LeastInflightLoadBalancerDefinition def) throws IOException {
+        doWriteLeastInflightLoadBalancerDefinition("leastInflightLoadBalancer", def);
+    }
     public void writeRandomLoadBalancerDefinition(RandomLoadBalancerDefinition def) throws IOException {
         doWriteRandomLoadBalancerDefinition("randomLoadBalancer", def);
     }
@@ -834,6 +837,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute("completeAllOnStop", def.getCompleteAllOnStop(), null);
         doWriteAttribute("completionSize", def.getCompletionSize(), null);
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
         doWriteAttribute("completionTimeout", def.getCompletionTimeout(), null);
@@ -1157,6 +1161,7 @@ public class ModelWriter extends BaseWriter {
             switch (v.getClass().getSimpleName()) {
                 case "CustomLoadBalancerDefinition" -> doWriteCustomLoadBalancerDefinition("customLoadBalancer", (CustomLoadBalancerDefinition) v);
                 case "FailoverLoadBalancerDefinition" -> doWriteFailoverLoadBalancerDefinition("failoverLoadBalancer", (FailoverLoadBalancerDefinition) v);
+                case "LeastInflightLoadBalancerDefinition" -> doWriteLeastInflightLoadBalancerDefinition("leastInflightLoadBalancer", (LeastInflightLoadBalancerDefinition) v);
                 case "RandomLoadBalancerDefinition" -> doWriteRandomLoadBalancerDefinition("randomLoadBalancer", (RandomLoadBalancerDefinition) v);
                 case "RoundRobinLoadBalancerDefinition" -> doWriteRoundRobinLoadBalancerDefinition("roundRobinLoadBalancer", (RoundRobinLoadBalancerDefinition) v);
                 case "StickyLoadBalancerDefinition" -> doWriteStickyLoadBalancerDefinition("stickyLoadBalancer", (StickyLoadBalancerDefinition) v);
@@ -1793,6 +1798,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategy", def.getAggregationStrategy(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
@@ -3308,6 +3314,12 @@ public class ModelWriter extends BaseWriter {
         doWriteList(null, "exception", def.getExceptions(), this::doWriteString);
         endElement(name);
     }
+    protected void doWriteLeastInflightLoadBalancerDefinition(String name, LeastInflightLoadBalancerDefinition def) throws IOException {
+        startElement(name);
+        doWriteIdentifiedTypeAttributes(def);
+        doWriteAttribute("decayTime", def.getDecayTime(), "10000");
+        endElement(name);
+    }
     protected void doWriteRandomLoadBalancerDefinition(String name, RandomLoadBalancerDefinition def) throws IOException {
         startElement(name);
         doWriteIdentifiedTypeAttributes(def);
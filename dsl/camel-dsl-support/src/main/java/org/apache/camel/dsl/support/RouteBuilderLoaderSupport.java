@@ -138,15 +138,27 @@ public abstract class RouteBuilderLoaderSupport extends RoutesBuilderLoaderSuppo
             builder.setResource(resource);
 
             if (recorder != null) {
-                StartupStep step = recorder.beginStep(
-                        getClass(),
-                        resource.getLocation(),
-                        "Loading route from: " + resource.getLocation());
+                // when loading resources in parallel then begin the step when the routes are configured,
+                // so the step is recorded by the thread configuring the routes and not by the pool threads
+                boolean parallel = Boolean.TRUE.equals(getCamelContext().isParallelRouteStartup());
+                StartupStep[] step = new StartupStep[1];
+                if (!parallel) {
+                    step[0] = beginStep(resource);
+                }
 
                 builder.addLifecycleInterceptor(new RouteBuilderLifecycleStrategy() {
+                    @Override
+                    public void beforeConfigure(RouteBuilder builder) {
+                        if (parallel) {
+                            step[0] = beginStep(resource);
+                        }
+                    }
+
                     @Override
                     public void afterConfigure(RouteBuilder builder) {
-                        step.endStep();
+                        if (step[0] != null) {
+                            step[0].endStep();
+                        }
                     }
                 });
             }
@@ -155,6 +167,10 @@ public abstract class RouteBuilderLoaderSupport extends RoutesBuilderLoaderSuppo
         return builder;
     }
 
+    private StartupStep beginStep(Resource resource) {
+        return recorder.beginStep(getClass(), resource.getLocation(), "Loading route from: " + resource.getLocation());
+    }
+
     /**
      * Gets the input stream to the resource
      *
@@ -118,6 +118,82 @@ public interface StubEndpointBuilderFactory {
         default StubEndpointConsumerBuilder basic() {
             return (StubEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether a batch of messages drained from the queue should be delivered
+         * to the route as a single exchange, where the message body is a
+         * java.util.List of the drained exchanges. This requires batchSize to be
+         * greater than 1. The drained exchanges are completed when the grouped
+         * exchange is done, so this is mostly intended for InOnly messaging.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchGrouped(boolean batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * Whether a batch of messages drained from the queue should be delivered
+         * to the route as a single exchange, where the message body is a
+         * java.util.List of the drained exchanges. This requires batchSize to be
+         * greater than 1. The drained exchanges are completed when the grouped
+         * exchange is done, so this is mostly intended for InOnly messaging.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchGrouped(String batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue in one go. When a message has been polled, the consumer drains
+         * up to this number of messages that are already waiting on the queue
+         * and processes them back-to-back, which reduces the contention on the
+         * queue under high load. The default value of 1 turns batching off.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue in one go. When a message has been polled, the consumer drains
+         * up to this number of messages that are already waiting on the queue
+         * and processes them back-to-back, which reduces the contention on the
+         * queue under high load. The default value of 1 turns batching off.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
@@ -309,6 +385,28 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("multipleConsumers", multipleConsumers);
             return this;
         }
+        /**
+         * An expression using the simple language, such as ${header.orderId},
+         * which computes the partition key of the messages. When a partition key
+         * is configured, each message is processed by the consumer thread which
+         * is selected by the hash of its key, so messages with the same key are
+         * processed one at a time, in the order they were sent, while messages
+         * with different keys are processed concurrently by the
+         * concurrentConsumers threads. The consumer uses an additional thread
+         * which takes the messages from the queue and hands them over to the
+         * consumer threads.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param partitionKey the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder partitionKey(String partitionKey) {
+            doSetProperty("partitionKey", partitionKey);
+            return this;
+        }
         /**
          * The timeout (in milliseconds) used when polling. When a timeout
          * occurs, the consumer can check whether it is allowed to continue
@@ -117,6 +117,13 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
             return null;
         }
 
+        // when the resources are loaded in parallel then parse the routes now (by the pool thread),
+        // instead of when the routes are configured
+        final boolean parallel
+                = getCamelContext() != null && Boolean.TRUE.equals(getCamelContext().isParallelRouteStartup());
+        final RoutesDefinition parsedRoutes = parallel ? parseRoutes(resource, xmlInfo) : null;
+        final TemplatedRoutesDefinition parsedTemplatedRoutes = parallel ? parseTemplatedRoutes(resource, xmlInfo) : null;
+
         return new RouteConfigurationBuilder() {
             @Override
             public void configure() throws Exception {
@@ -140,16 +147,27 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
                             new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
                                     .parseRouteTemplatesDefinition()
                                     .ifPresent(this::addRouteTemplatesCollection);
-                        case "templatedRoutes", "templatedRoute" ->
-                            new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                    .parseTemplatedRoutesDefinition()
-                                    .ifPresent(this::addTemplatedRoutesCollection);
+                        case "templatedRoutes", "templatedRoute" -> {
+                            if (parsedTemplatedRoutes != null) {
+                                addTemplatedRoutesCollection(parsedTemplatedRoutes);
+                            } else {
+                                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
+                                        .parseTemplatedRoutesDefinition()
+                                        .ifPresent(this::addTemplatedRoutesCollection);
+                            }
+                        }
                         case "rests", "rest" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
                                 .parseRestsDefinition()
                                 .ifPresent(this::addRests);
-                        case "routes", "route" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRoutesDefinition()
-                                .ifPresent(this::addRoutes);
+                        case "routes", "route" -> {
+                            if (parsedRoutes != null) {
+                                addRoutes(parsedRoutes);
+                            } else {
+                                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
+                                        .parseRoutesDefinition()
+                                        .ifPresent(this::addRoutes);
+                            }
+                        }
                         default -> {
                         }
                     }
@@ -337,6 +355,23 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
         };
     }
 
+    private static RoutesDefinition parseRoutes(Resource resource, XmlStreamInfo xmlInfo) throws Exception {
+        String root = xmlInfo.getRootElementName();
+        if ("routes".equals(root) || "route".equals(root)) {
+            return new XmlModelParser(resource, xmlInfo.getRootElementNamespace()).parseRoutesDefinition().orElse(null);
+        }
+        return null;
+    }
+
+    private static TemplatedRoutesDefinition parseTemplatedRoutes(Resource resource, XmlStreamInfo xmlInfo) throws Exception {
+        String root = xmlInfo.getRootElementName();
+        if ("templatedRoutes".equals(root) || "templatedRoute".equals(root)) {
+            return new XmlModelParser(resource, xmlInfo.getRootElementNamespace()).parseTemplatedRoutesDefinition()
+                    .orElse(null);
+        }
+        return null;
+    }
+
     private Resource resource(Resource resource) {
         return resourceCache.computeIfAbsent(resource.getLocation(), l -> new CachedResource(resource));
     }
@@ -217,6 +217,7 @@ import org.apache.camel.model.language.XPathExpression;
 import org.apache.camel.model.language.XQueryExpression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -362,6 +363,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "forceCompletionOnStop", type = "boolean", description = "Indicates to complete all current aggregated exchanges when the context is stopped", displayName = "Force Completion On Stop"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "ignoreInvalidCorrelationKeys", type = "boolean", description = "If a correlation key cannot be successfully evaluated it will be ignored by logging a DEBUG and then just ignore the incoming Exchange.", displayName = "Ignore Invalid Correlation Keys"),
+                    @YamlProperty(name = "lockStripes", type = "number", description = "Number of lock stripes to use for aggregating exchanges. By default a single lock is used, which means that all incoming exchanges are aggregated one at a time. By using lock striping, exchanges for different correlation keys that are hashed to different stripes are aggregated in parallel, while exchanges with the same correlation key are still aggregated in sequence. The number is rounded up to a power of two. The aggregation strategy must be thread-safe when using this. This option cannot be used together with optimistic locking or completionFromBatchConsumer.", displayName = "Lock Stripes"),
                     @YamlProperty(name = "optimisticLockRetryPolicy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition", description = "Allows to configure retry settings when using optimistic locking.", displayName = "Optimistic Lock Retry Policy"),
                     @YamlProperty(name = "optimisticLocking", type = "boolean", description = "Turns on using optimistic locking, which requires the aggregationRepository being used, is supporting this by implementing org.apache.camel.spi.OptimisticLockingAggregationRepository .", displayName = "Optimistic Locking"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", description = "When aggregated are completed they are being send out of the aggregator. This option indicates whether or not Camel should use a thread pool with multiple threads for concurrency. If no custom thread pool has been specified then Camel creates a default pool with 10 concurrent threads.", displayName = "Parallel Processing"),
@@ -504,6 +506,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidCorrelationKeys(val);
                     break;
                 }
+                case "lockStripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimisticLockRetryPolicy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -9358,6 +9365,54 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = {
+                    "least-inflight-load-balancer",
+                    "leastInflightLoadBalancer"
+            },
+            types = org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            displayName = "Least Inflight Load Balancer",
+            description = "The destination endpoint with the least inflight exchanges and fastest response times is selected, by comparing two random endpoints (power of two choices). This reacts to slow or busy endpoints.",
+            deprecated = false,
+            properties = {
+                    @YamlProperty(name = "decayTime", type = "string", defaultValue = "10000", description = "The time over which the moving average of the response times of an endpoint decays. A shorter time reacts faster to changes in the response times, and a longer time is more stable. The default value is 10 seconds.", displayName = "Decay Time"),
+                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id")
+            }
+    )
+    public static class LeastInflightLoadBalancerDefinitionDeserializer extends YamlDeserializerBase<LeastInflightLoadBalancerDefinition> {
+        public LeastInflightLoadBalancerDefinitionDeserializer() {
+            super(LeastInflightLoadBalancerDefinition.class);
+        }
+
+        @Override
+        protected LeastInflightLoadBalancerDefinition newInstance() {
+            return new LeastInflightLoadBalancerDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(LeastInflightLoadBalancerDefinition target,
+                String propertyKey, String propertyName, Node node) {
+            propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
+            switch(propertyKey) {
+                case "decayTime": {
+                    String val = asText(node);
+                    target.setDecayTime(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = {
                     "load-balance",
@@ -9374,6 +9429,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "disabled", type = "boolean", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
                     @YamlProperty(name = "failoverLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
+                    @YamlProperty(name = "leastInflightLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "randomLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "roundRobinLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
@@ -9417,6 +9473,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setLoadBalancerType(val);
                     break;
                 }
+                case "leastInflightLoadBalancer": {
+                    org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition.class);
+                    target.setLoadBalancerType(val);
+                    break;
+                }
                 case "randomLoadBalancer": {
                     org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition.class);
                     target.setLoadBalancerType(val);
@@ -17545,6 +17606,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executorService", type = "string", description = "To use a custom Thread Pool to be used for parallel processing. Notice if you set this option, then parallel processing is automatically implied, and you do not have to enable that option as well.", displayName = "Executor Service"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using a xpath.", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
+                    @YamlProperty(name = "maxInflight", type = "number", description = "Sets the maximum number of split messages that can be in-flight at the same time when using parallel processing. A split message is in-flight from when it has been split until it has been aggregated. When the limit is reached, the splitter stops splitting (which applies backpressure on the splitter iterator) until an in-flight message has been aggregated. Together with streaming mode, where the replies are aggregated out-of-order in the order they complete, this allows splitting very large messages in parallel with a bounded memory usage. The default is 0 which means there is no limit.", displayName = "Max Inflight"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses the Processor when preparing the org.apache.camel.Exchange to be sent. This can be used to deep-clone messages that should be sent, or any custom logic needed before the exchange is sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", description = "If enabled then processing each split messages occurs concurrently. Note the caller thread will still wait until all messages has been fully processed, before it continues. It's only processing the sub messages from the splitter which happens concurrently. When parallel processing is enabled, then the Camel routing engin will continue processing using last used thread from the parallel thread pool. However, if you want to use the original thread that called the splitter, then make sure to enable the synchronous option as well. In parallel processing mode, you may want to also synchronous = true to force this EIP to process the sub-tasks using the upper bounds of the thread-pool. If using synchronous = false then Camel will allow its reactive routing engine to use as many threads as possible, which may be available due to sub-tasks using other thread-pools such as CompletableFuture.runAsync or others.", displayName = "Parallel Processing"),
@@ -17606,6 +17668,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "maxInflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
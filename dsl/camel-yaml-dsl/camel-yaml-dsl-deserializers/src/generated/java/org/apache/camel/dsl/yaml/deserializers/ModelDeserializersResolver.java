@@ -266,6 +266,9 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.tokenizer.LangChain4jWordTokenizerDefinition": return new ModelDeserializers.LangChain4jWordTokenizerDefinitionDeserializer();
             case "language": return new ModelDeserializers.LanguageExpressionDeserializer();
             case "org.apache.camel.model.language.LanguageExpression": return new ModelDeserializers.LanguageExpressionDeserializer();
+            case "least-inflight-load-balancer": return new ModelDeserializers.LeastInflightLoadBalancerDefinitionDeserializer();
+            case "leastInflightLoadBalancer": return new ModelDeserializers.LeastInflightLoadBalancerDefinitionDeserializer();
+            case "org.apache.camel.model.loadbalancer.LeastInflightLoadBalancerDefinition": return new ModelDeserializers.LeastInflightLoadBalancerDefinitionDeserializer();
             case "load-balance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "loadBalance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "org.apache.camel.model.LoadBalanceDefinition": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
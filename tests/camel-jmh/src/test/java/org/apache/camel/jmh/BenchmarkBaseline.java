@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Compares the results of a benchmark run with the JSON results of a previous run (the baseline).
+ */
+public final class BenchmarkBaseline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BenchmarkBaseline.class);
+
+    private BenchmarkBaseline() {
+    }
+
+    /**
+     * Compares the results with the baseline, and prints the difference of the scores.
+     *
+     * @param baseline      the JSON file with the results of the baseline run
+     * @param results       the results of this run
+     * @param maxRegression the maximum regression in percent before failing, or a negative value to never fail
+     */
+    public static void compare(File baseline, Collection<RunResult> results, double maxRegression) throws Exception {
+        Map<String, Double> scores = new HashMap<>();
+        try (Reader reader = Files.newBufferedReader(baseline.toPath())) {
+            JsonArray array = (JsonArray) Jsoner.deserialize(reader);
+            for (Object o : array) {
+                JsonObject row = (JsonObject) o;
+                Map<String, String> params = new TreeMap<>();
+                JsonObject p = row.getMap("params");
+                if (p != null) {
+                    p.forEach((k, v) -> params.put(k, String.valueOf(v)));
+                }
+                String key = key(row.getString("benchmark"), row.getString("mode"), params);
+                JsonObject metric = row.getMap("primaryMetric");
+                scores.put(key, metric.getDouble("score"));
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-90s %15s %15s %9s%n", "Benchmark", "Baseline", "Score", "Change"));
+        List<String> regressions = new ArrayList<>();
+        for (RunResult result : results) {
+            BenchmarkParams bp = result.getParams();
+            Map<String, String> params = new TreeMap<>();
+            for (String k : bp.getParamsKeys()) {
+                params.put(k, bp.getParam(k));
+            }
+            String key = key(bp.getBenchmark(), bp.getMode().shortLabel(), params);
+            double score = result.getPrimaryResult().getScore();
+            Double base = scores.get(key);
+            if (base == null || base == 0) {
+                sb.append(String.format("%-90s %15s %15.3f %9s%n", key, "-", score, "-"));
+                continue;
+            }
+            // throughput is better when higher, and the time based modes are better when lower
+            double change = (score - base) / base * 100;
+            double improvement = bp.getMode() == Mode.Throughput ? change : -change;
+            sb.append(String.format("%-90s %15.3f %15.3f %+8.2f%%%n", key, base, score, improvement));
+            if (maxRegression >= 0 && -improvement > maxRegression) {
+                regressions.add(key);
+            }
+        }
+        LOG.info("Comparison with baseline {} (positive change is an improvement): {}", baseline, sb);
+
+        if (!regressions.isEmpty()) {
+            fail("Benchmarks regressed more than " + maxRegression + "% compared to the baseline: " + regressions);
+        }
+    }
+
+    private static String key(String benchmark, String mode, Map<String, String> params) {
+        String answer = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1) + " (" + mode
+                        + ")";
+        if (!params.isEmpty()) {
+            answer += " " + params;
+        }
+        return answer;
+    }
+
+}
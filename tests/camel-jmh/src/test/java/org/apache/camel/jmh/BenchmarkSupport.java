@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for the benchmarks which launches JMH for the benchmark methods of the concrete class from a JUnit test.
+ * <p/>
+ * The benchmark run can be tuned with the following system properties:
+ * <ul>
+ * <li>jmh.forks - number of forks (default 1)</li>
+ * <li>jmh.warmupIterations - number of warmup iterations (default 3)</li>
+ * <li>jmh.iterations - number of measurement iterations (default 5)</li>
+ * <li>jmh.time - the time in seconds of each warmup and measurement iteration (default 2)</li>
+ * <li>jmh.threads - number of threads, overrides the number of threads the benchmark is annotated with</li>
+ * <li>jmh.result - file (or existing directory) to store the results in JSON format, which can be used as baseline of a
+ * later run</li>
+ * <li>jmh.baseline - file (or directory) with the JSON results of a previous run, to compare the results with</li>
+ * <li>jmh.maxRegression - fail the test if a benchmark has regressed more than this percentage compared to the
+ * baseline</li>
+ * </ul>
+ */
+public abstract class BenchmarkSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BenchmarkSupport.class);
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(getClass().getName() + ".*")
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmupIterations", 3))
+                .warmupTime(TimeValue.seconds(Integer.getInteger("jmh.time", 2)))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(Integer.getInteger("jmh.time", 2)))
+                .shouldFailOnError(true)
+                .shouldDoGC(true);
+
+        Integer threads = Integer.getInteger("jmh.threads");
+        if (threads != null) {
+            builder.threads(threads);
+        }
+        String result = System.getProperty("jmh.result");
+        if (result != null) {
+            builder.result(resultFile(result)).resultFormat(ResultFormatType.JSON);
+        }
+
+        Collection<RunResult> results = new Runner(builder.build()).run();
+
+        String baseline = System.getProperty("jmh.baseline");
+        if (baseline != null) {
+            File file = new File(resultFile(baseline));
+            if (!file.exists()) {
+                LOG.warn("Cannot compare with baseline as the file {} does not exist", file);
+                return;
+            }
+            String max = System.getProperty("jmh.maxRegression");
+            BenchmarkBaseline.compare(file, results, max != null ? Double.parseDouble(max) : -1);
+        }
+    }
+
+    private String resultFile(String result) {
+        // each benchmark class stores its results in its own file
+        File file = new File(result);
+        if (file.isDirectory()) {
+            file = new File(file, getClass().getSimpleName() + ".json");
+        }
+        return file.getPath();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks copying and looking up message headers with the default and the array based headers map, and copying
+ * from a private copy which shares its headers (as multicast, recipient list and split do for their sub exchanges).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeadersCopyBenchmarkTest extends BenchmarkSupport {
+
+    @Param({ "default", "array" })
+    String headersMap;
+
+    @Param({ "5", "20" })
+    int headers;
+
+    private CamelContext context;
+    private Exchange exchange;
+    private Exchange shared;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        if ("array".equals(headersMap)) {
+            context.getCamelContextExtension().setHeadersMapFactory(new ArrayHeadersMapFactory());
+        }
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader(Exchange.FILE_NAME, "hello.txt");
+        exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, "text/plain");
+        for (int i = 2; i < headers; i++) {
+            exchange.getMessage().setHeader("header" + i, i);
+        }
+
+        shared = exchange.copy();
+        ((DefaultMessage) shared.getMessage()).shareHeaders();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Exchange copy() {
+        return exchange.copy();
+    }
+
+    @Benchmark
+    public Exchange copyAndSetHeader() {
+        // the copy has its own headers which can be changed
+        Exchange copy = exchange.copy();
+        copy.getMessage().setHeader("foo", "bar");
+        return copy;
+    }
+
+    @Benchmark
+    public Exchange sharedCopy() {
+        return shared.copy();
+    }
+
+    @Benchmark
+    public Exchange sharedCopyAndSetHeader() {
+        // the copy only copies the shared headers when changed
+        Exchange copy = shared.copy();
+        copy.getMessage().setHeader("foo", "bar");
+        return copy;
+    }
+
+    @Benchmark
+    public Object lookup() {
+        return exchange.getMessage().getHeader("camelfilename");
+    }
+
+    @Benchmark
+    public Object lookupKnown() {
+        return exchange.getMessage().getHeader(Exchange.CONTENT_TYPE);
+    }
+
+}
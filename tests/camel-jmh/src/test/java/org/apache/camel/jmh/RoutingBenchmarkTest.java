@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks routing messages through the routing engine, the pipeline, direct and seda hops, and the multicast and
+ * splitter EIPs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutingBenchmarkTest extends BenchmarkSupport {
+
+    private static final Processor NOOP = exchange -> {
+    };
+
+    private final List<String> body = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+    private CamelContext context;
+    private ProducerTemplate template;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:pipeline")
+                        .process(NOOP).process(NOOP).process(NOOP);
+
+                from("direct:direct").to("direct:a");
+                from("direct:a").to("direct:b");
+                from("direct:b").process(NOOP);
+
+                from("direct:seda").to("seda:a");
+                from("seda:a").process(NOOP);
+
+                from("direct:multicast").multicast().to("direct:b", "direct:b", "direct:b");
+
+                from("direct:split").split(body()).process(NOOP);
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object pipeline() {
+        return template.requestBody("direct:pipeline", "Hello World");
+    }
+
+    @Benchmark
+    public Object directHops() {
+        return template.requestBody("direct:direct", "Hello World");
+    }
+
+    @Benchmark
+    public Object sedaHop() {
+        // request/reply so the caller waits for the seda consumer to complete
+        return template.requestBody("direct:seda", "Hello World");
+    }
+
+    @Benchmark
+    public Object multicast() {
+        return template.requestBody("direct:multicast", "Hello World");
+    }
+
+    @Benchmark
+    public Object split() {
+        return template.requestBody("direct:split", body);
+    }
+
+}
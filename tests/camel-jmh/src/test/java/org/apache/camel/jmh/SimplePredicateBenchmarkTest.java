@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks parsing and evaluating simple language predicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimplePredicateBenchmarkTest extends BenchmarkSupport {
+
+    private static final String COMPLEX = "${header.foo} == 123 && ${body} contains 'Camel' && ${header.bar} in 'a,b,c'";
+
+    private CamelContext context;
+    private Language simple;
+    private Exchange exchange;
+    private Predicate equal;
+    private Predicate constant;
+    private Predicate complex;
+    private Predicate regex;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+        simple = context.resolveLanguage("simple");
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello Camel");
+        exchange.getMessage().setHeader("foo", 123);
+        exchange.getMessage().setHeader("bar", "b");
+
+        equal = simple.createPredicate("${header.foo} == 123");
+        constant = simple.createPredicate("'abc' == 'abc'");
+        complex = simple.createPredicate(COMPLEX);
+        regex = simple.createPredicate("${body} regex '^Hello .*'");
+        equal.init(context);
+        constant.init(context);
+        complex.init(context);
+        regex.init(context);
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public boolean equal() {
+        return equal.matches(exchange);
+    }
+
+    @Benchmark
+    public boolean constant() {
+        return constant.matches(exchange);
+    }
+
+    @Benchmark
+    public boolean complex() {
+        return complex.matches(exchange);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return regex.matches(exchange);
+    }
+
+    @Benchmark
+    public Predicate parse() {
+        // the simple language caches parsed predicates, so this measures the cache lookup
+        return simple.createPredicate(COMPLEX);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.InlineCachedTypeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the type converter lookups for common conversions, and for conversions that are not possible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeConverterBenchmarkTest extends BenchmarkSupport {
+
+    private CamelContext context;
+    private TypeConverter typeConverter;
+    private TypeConverter inlineCachedTypeConverter;
+    private Exchange exchange;
+    private final byte[] bytes = "Hello World".getBytes();
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+        typeConverter = context.getTypeConverter();
+        inlineCachedTypeConverter = new InlineCachedTypeConverter(context);
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("123");
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object stringToInteger() {
+        return typeConverter.convertTo(Integer.class, "123");
+    }
+
+    @Benchmark
+    public Object stringToIntegerInlineCached() {
+        return inlineCachedTypeConverter.convertTo(Integer.class, "123");
+    }
+
+    @Benchmark
+    public Object integerToString() {
+        return typeConverter.convertTo(String.class, 123);
+    }
+
+    @Benchmark
+    public Object bytesToString() {
+        return typeConverter.convertTo(String.class, bytes);
+    }
+
+    @Benchmark
+    public Object stringToInputStream() {
+        return typeConverter.convertTo(InputStream.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object sameType() {
+        return typeConverter.convertTo(String.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object miss() {
+        return typeConverter.tryConvertTo(CamelContext.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object messageBody() {
+        return exchange.getMessage().getBody(Integer.class);
+    }
+
+    @Benchmark
+    public Object messageBodyMiss() {
+        return exchange.getMessage().getBody(CamelContext.class);
+    }
+
+}